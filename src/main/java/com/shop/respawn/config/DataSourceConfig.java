@@ -0,0 +1,29 @@
+package com.shop.respawn.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class DataSourceConfig {
+
+    /**
+     * MySQL 이면 JDBC 배치를 multi-row insert 한 문장으로 전송 (쿠폰 대량 발급/선착순 적재, 등급 쿠폰)
+     * 프로필별 JDBC URL 에 의존하지 않도록 커넥션 속성으로 지정, H2 등 다른 DB 에는 적용하지 않음
+     */
+    @Bean
+    public static BeanPostProcessor mysqlBatchRewritePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource
+                        && dataSource.getJdbcUrl() != null
+                        && dataSource.getJdbcUrl().startsWith("jdbc:mysql:")) {
+                    dataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
+                }
+                return bean;
+            }
+        };
+    }
+}
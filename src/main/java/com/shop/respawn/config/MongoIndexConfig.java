@@ -0,0 +1,69 @@
+package com.shop.respawn.config;
+
+import com.shop.respawn.domain.ChatMessage;
+import com.shop.respawn.domain.ChatMessageArchive;
+import com.shop.respawn.domain.ChatRoom;
+import com.shop.respawn.domain.ProductInquiry;
+import com.shop.respawn.domain.Review;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+
+/**
+ * 조회 경로에서 필요한 MongoDB 보조 인덱스 생성 (auto-index-creation 비활성 환경 대비, 이미 있으면 무시됨)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MongoIndexConfig {
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void ensureIndexes() {
+        // 판매자 리뷰 피드: sellerId 일치 + createdDate desc
+        mongoTemplate.indexOps(Review.class).createIndex(new Index()
+                .on("sellerId", Sort.Direction.ASC)
+                .on("createdDate", Sort.Direction.DESC)
+                .named("idx_review_seller_created"));
+
+        // 리뷰 통계 재계산: itemId 순 페이지 + 상품별 평점 집계
+        mongoTemplate.indexOps(Review.class).createIndex(new Index()
+                .on("itemId", Sort.Direction.ASC)
+                .on("rating", Sort.Direction.ASC)
+                .named("idx_review_item_rating"));
+
+        // 상품 문의 목록: itemId 일치 + status / openToPublic 필터 + questionDate desc
+        mongoTemplate.indexOps(ProductInquiry.class).createIndex(new Index()
+                .on("itemId", Sort.Direction.ASC)
+                .on("status", Sort.Direction.ASC)
+                .on("openToPublic", Sort.Direction.ASC)
+                .on("questionDate", Sort.Direction.DESC)
+                .named("idx_inquiry_item_status_public"));
+
+        // 채팅 내역: roomId 일치 + (timestamp, _id) desc keyset
+        mongoTemplate.indexOps(ChatMessage.class).createIndex(new Index()
+                .on("roomId", Sort.Direction.ASC)
+                .on("timestamp", Sort.Direction.DESC)
+                .on("_id", Sort.Direction.DESC)
+                .named("idx_chat_room_timestamp"));
+
+        // 채팅방 목록: 참여자 일치 + 최근 활동순
+        mongoTemplate.indexOps(ChatRoom.class).createIndex(new Index()
+                .on("sellerId", Sort.Direction.ASC)
+                .on("lastMessageAt", Sort.Direction.DESC)
+                .named("idx_chat_room_seller_activity"));
+        mongoTemplate.indexOps(ChatRoom.class).createIndex(new Index()
+                .on("buyerId", Sort.Direction.ASC)
+                .on("lastMessageAt", Sort.Direction.DESC)
+                .named("idx_chat_room_buyer_activity"));
+
+        // 채팅 아카이브: roomId 일치 + 일자 desc 버킷 순회
+        mongoTemplate.indexOps(ChatMessageArchive.class).createIndex(new Index()
+                .on("roomId", Sort.Direction.ASC)
+                .on("day", Sort.Direction.DESC)
+                .named("idx_chat_archive_room_day"));
+    }
+}
@@ -0,0 +1,36 @@
+package com.shop.respawn.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.config.annotation.DelegatingWebSocketMessageBrokerConfiguration;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+/**
+ * STOMP 브로커 설정 (@EnableWebSocketMessageBroker 와 동일, WebSocketConfig 등 configurer 를 그대로 적용)
+ * 세션별 전송 버퍼(ConcurrentWebSocketSessionDecorator)를 WebSocketSessionMetrics 에 등록하기 위해
+ * SubProtocolWebSocketHandler 의 세션 데코레이션만 확장
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebSocketBrokerConfig extends DelegatingWebSocketMessageBrokerConfiguration {
+
+    private final WebSocketSessionMetrics webSocketSessionMetrics;
+
+    @Bean
+    @Override
+    public WebSocketHandler subProtocolWebSocketHandler(AbstractSubscribableChannel clientInboundChannel,
+                                                        AbstractSubscribableChannel clientOutboundChannel) {
+        return new SubProtocolWebSocketHandler(clientInboundChannel, clientOutboundChannel) {
+            @Override
+            protected WebSocketSession decorateSession(WebSocketSession session) {
+                WebSocketSession decorated = super.decorateSession(session);
+                webSocketSessionMetrics.track(decorated);
+                return decorated;
+            }
+        };
+    }
+}
@@ -1,21 +1,64 @@
 package com.shop.respawn.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
-import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 import org.springframework.web.socket.server.support.HttpSessionHandshakeInterceptor;
 
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+// 브로커 활성화는 WebSocketBrokerConfig (세션 전송 버퍼 메트릭용 확장)
 @Configuration
-@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final WebSocketSessionMetrics webSocketSessionMetrics;
+    private final MeterRegistry meterRegistry;
+
     // SecurityConfig와 동일하게 환경 변수에서 프론트 주소를 가져옵니다.
     @Value("${app.frontend-url}")
     private String frontendUrl;
 
+    // 세션당 전송 한도: 한 프레임 전송이 send-time-limit 를 넘기거나 대기 버퍼가 send-buffer-size 를 넘으면 세션 종료
+    @Value("${websocket.transport.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    @Value("${websocket.transport.send-buffer-size:524288}")
+    private int sendBufferSize;
+
+    @Value("${websocket.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    @Value("${websocket.transport.time-to-first-message-ms:30000}")
+    private int timeToFirstMessageMs;
+
+    @Value("${websocket.channel.inbound.core-pool-size:8}")
+    private int inboundCorePoolSize;
+
+    @Value("${websocket.channel.inbound.max-pool-size:32}")
+    private int inboundMaxPoolSize;
+
+    @Value("${websocket.channel.inbound.queue-capacity:1000}")
+    private int inboundQueueCapacity;
+
+    @Value("${websocket.channel.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+
+    @Value("${websocket.channel.outbound.max-pool-size:32}")
+    private int outboundMaxPoolSize;
+
+    @Value("${websocket.channel.outbound.queue-capacity:5000}")
+    private int outboundQueueCapacity;
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         // 1. 프론트엔드 요청에 맞게 /api 접두사를 추가합니다.
@@ -29,7 +72,51 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
+        // simple broker 는 노드 로컬 전달만 담당, 노드 간 팬아웃은 ChatRelay(Redis pub/sub)가 처리
         registry.enableSimpleBroker("/topic");
         registry.setApplicationDestinationPrefixes("/app");
     }
-}
\ No newline at end of file
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration
+                .setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSize)
+                .setMessageSizeLimit(messageSizeLimit)
+                .setTimeToFirstMessage(timeToFirstMessageMs)
+                .addDecoratorFactory(webSocketSessionMetrics);
+    }
+
+    // 수신 포화 시 거절 (클라이언트 세션에 오류로 전달되므로 조용히 유실되지 않음)
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(channelExecutor("inbound",
+                inboundCorePoolSize, inboundMaxPoolSize, inboundQueueCapacity, new ThreadPoolExecutor.AbortPolicy()));
+    }
+
+    // 송신 포화 시 프레임을 버리지 않고 호출 스레드(브로커/릴레이)에서 직접 전송해 역압
+    // (느린 세션은 send-time-limit / send-buffer-size 로 끊기므로 호출 스레드가 무한정 묶이지 않음)
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(channelExecutor("outbound",
+                outboundCorePoolSize, outboundMaxPoolSize, outboundQueueCapacity, new ThreadPoolExecutor.CallerRunsPolicy()));
+    }
+
+    // 채널 스레드 풀 (초기화는 브로커 설정의 executor 빈이 수행) + 활성 스레드/대기열 게이지 + 포화(거절) 카운터
+    private ThreadPoolTaskExecutor channelExecutor(String name, int corePoolSize, int maxPoolSize, int queueCapacity,
+                                                   RejectedExecutionHandler rejectionPolicy) {
+        Counter rejected = meterRegistry.counter("websocket.channel." + name + ".rejected");
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ws-" + name + "-");
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            rejectionPolicy.rejectedExecution(task, pool);
+        });
+        meterRegistry.gauge("websocket.channel." + name + ".active", executor, ThreadPoolTaskExecutor::getActiveCount);
+        meterRegistry.gauge("websocket.channel." + name + ".queued", executor, ThreadPoolTaskExecutor::getQueueSize);
+        return executor;
+    }
+}
@@ -0,0 +1,109 @@
+package com.shop.respawn.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebSocket 세션/전송 메트릭
+ * - websocket.sessions.active: 연결 중인 세션 수
+ * - websocket.send.buffered.bytes: 세션 전송 버퍼(ConcurrentWebSocketSessionDecorator)에 쌓인 바이트 합 (느린 클라이언트 적체량)
+ * - websocket.send.buffered.bytes.max: 세션 하나의 최대 전송 버퍼 바이트
+ * - websocket.send: 프레임 1건 소켓 쓰기 시간
+ * - websocket.sessions.slow: 쓰기 1건이 slow-send-ms 를 넘긴 횟수
+ * - websocket.sessions.dropped: 전송 시간/버퍼 한도 초과로 서버가 끊은 세션 수
+ * 전송 버퍼는 WebSocketBrokerConfig 가 세션 데코레이션 시 track 으로 등록, 쓰기 시간은 버퍼 아래(MeteredSession)에서 측정
+ */
+@Slf4j
+@Component
+public class WebSocketSessionMetrics implements WebSocketHandlerDecoratorFactory {
+
+    private final Map<String, ConcurrentWebSocketSessionDecorator> buffered = new ConcurrentHashMap<>();
+    private final Timer sendTimer;
+    private final Counter slowSends;
+    private final Counter droppedSessions;
+    private final long slowSendNanos;
+
+    public WebSocketSessionMetrics(MeterRegistry meterRegistry,
+                                   @Value("${websocket.metrics.slow-send-ms:1000}") long slowSendMs) {
+        this.sendTimer = meterRegistry.timer("websocket.send");
+        this.slowSends = meterRegistry.counter("websocket.sessions.slow");
+        this.droppedSessions = meterRegistry.counter("websocket.sessions.dropped");
+        this.slowSendNanos = slowSendMs * 1_000_000L;
+        meterRegistry.gauge("websocket.sessions.active", buffered, Map::size);
+        meterRegistry.gauge("websocket.send.buffered.bytes", buffered, sessions -> sessions.values().stream()
+                .mapToLong(ConcurrentWebSocketSessionDecorator::getBufferSize)
+                .sum());
+        meterRegistry.gauge("websocket.send.buffered.bytes.max", buffered, sessions -> sessions.values().stream()
+                .mapToLong(ConcurrentWebSocketSessionDecorator::getBufferSize)
+                .max()
+                .orElse(0));
+    }
+
+    /**
+     * SubProtocolWebSocketHandler 가 만든 전송 버퍼 데코레이터 등록 (연결 종료 시 제거)
+     */
+    public void track(WebSocketSession session) {
+        if (session instanceof ConcurrentWebSocketSessionDecorator concurrent) {
+            buffered.put(session.getId(), concurrent);
+        }
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                super.afterConnectionEstablished(new MeteredSession(session));
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                buffered.remove(session.getId());
+                if (CloseStatus.SESSION_NOT_RELIABLE.equalsCode(closeStatus)) {
+                    droppedSessions.increment();
+                    log.warn("느린 WebSocket 세션 종료 - sessionId={}", session.getId());
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    private class MeteredSession extends WebSocketSessionDecorator {
+
+        MeteredSession(WebSocketSession session) {
+            super(session);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            long started = System.nanoTime();
+            try {
+                super.sendMessage(message);
+            } finally {
+                long elapsed = System.nanoTime() - started;
+                sendTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                if (elapsed > slowSendNanos) {
+                    slowSends.increment();
+                }
+            }
+        }
+    }
+}
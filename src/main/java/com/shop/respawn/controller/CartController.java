@@ -1,13 +1,17 @@
 package com.shop.respawn.controller;
 
-import com.shop.respawn.domain.Cart;
 import com.shop.respawn.domain.Item;
 import com.shop.respawn.dto.CartItemDto;
 import com.shop.respawn.dto.CartItemIdsRequest;
+import com.shop.respawn.dto.CartLine;
+import com.shop.respawn.dto.CartView;
 import com.shop.respawn.dto.QuantityChangeRequest;
 import com.shop.respawn.exception.ApiMessage;
 import com.shop.respawn.service.CartService;
-import com.shop.respawn.service.ItemService;
+import com.shop.respawn.service.CartService.CartOwner;
+import com.shop.respawn.util.GuestCartCookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -19,7 +23,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-import static com.shop.respawn.util.AuthenticationUtil.getUserIdFromAuthentication;
+import static com.shop.respawn.util.AuthenticationUtil.getBuyerIdOrNull;
 
 @RestController
 @RequiredArgsConstructor
@@ -27,7 +31,6 @@ import static com.shop.respawn.util.AuthenticationUtil.getUserIdFromAuthenticati
 public class CartController {
 
     private final CartService cartService;
-    private final ItemService itemService;
 
     /**
      * 장바구니에 상품 추가
@@ -35,11 +38,13 @@ public class CartController {
     @PostMapping("/add")
     public ResponseEntity<ApiMessage> addToCart(
             Authentication authentication,
+            HttpServletRequest request,
+            HttpServletResponse response,
             @RequestBody CartItemDto cartItemDto
     ) {
-        Long buyerId = getUserIdFromAuthentication(authentication);
+        CartOwner owner = resolveOwner(authentication, request, response);
         try {
-            cartService.addItemToCart(buyerId, cartItemDto.getItemId(), cartItemDto.getCount());
+            cartService.addItemToCart(owner, cartItemDto.getItemId(), cartItemDto.getCount());
             return ResponseEntity.ok(ApiMessage.of("SUCCESS","장바구니에 추가되었습니다."));
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(ApiMessage.of("ERROR",e.getMessage()));
@@ -50,37 +55,40 @@ public class CartController {
      * 장바구니 조회
      */
     @GetMapping
-    public ResponseEntity<Map<String, Object>> getCart(Authentication authentication) {
-        Long buyerId = getUserIdFromAuthentication(authentication);
+    public ResponseEntity<Map<String, Object>> getCart(Authentication authentication, HttpServletRequest request) {
+        CartOwner owner = resolveOwner(authentication, request, null);
 
-        Cart cart = cartService.getCartByBuyerId(buyerId);
-        if (cart == null) {
+        CartView cart = owner == null ? new CartView(List.of()) : cartService.getCartView(owner);
+        if (cart.lines().isEmpty()) {
             return ResponseEntity.ok(Map.of(
                     "cartItems", List.of(),
                     "totalPrice", 0
             ));
         }
 
-        // 장바구니 아이템 정보와 상품 정보를 합쳐서 반환
-        List<Map<String, Object>> cartItemsWithDetails = cart.getCartItems().stream()
-                .map(cartItem -> {
-                    Item item = itemService.getItemById(cartItem.getItemId());
+        // 장바구니 아이템 정보와 현재 상품 정보를 합쳐서 반환 (가격 변경/품절 표시)
+        List<Map<String, Object>> cartItemsWithDetails = cart.lines().stream()
+                .map(viewLine -> {
+                    CartLine cartItem = viewLine.line();
+                    Item item = viewLine.item();
                     Map<String, Object> itemDetail = new HashMap<>();
-                    itemDetail.put("cartItemId", cartItem.getId());
-                    itemDetail.put("itemId", cartItem.getItemId());
-                    itemDetail.put("itemName", item.getName());
-                    itemDetail.put("itemDescription", item.getDescription());
-                    itemDetail.put("itemPrice", item.getPrice());
-                    itemDetail.put("cartPrice", cartItem.getCartPrice());
-                    itemDetail.put("count", cartItem.getCount());
-                    itemDetail.put("totalPrice", cartItem.getTotalPrice());
-                    itemDetail.put("imageUrl", item.getImageUrl());
-                    itemDetail.put("stockQuantity", item.getStockQuantity());
+                    itemDetail.put("cartItemId", cartItem.cartItemId());
+                    itemDetail.put("itemId", cartItem.itemId());
+                    itemDetail.put("itemName", item != null ? item.getName() : null);
+                    itemDetail.put("itemDescription", item != null ? item.getDescription() : null);
+                    itemDetail.put("itemPrice", viewLine.currentPrice());
+                    itemDetail.put("cartPrice", cartItem.cartPrice());
+                    itemDetail.put("count", cartItem.count());
+                    itemDetail.put("totalPrice", viewLine.getTotalPrice());
+                    itemDetail.put("imageUrl", item != null ? item.getImageUrl() : null);
+                    itemDetail.put("stockQuantity", item != null ? item.getStockQuantity() : 0L);
+                    itemDetail.put("priceChanged", viewLine.priceChanged());
+                    itemDetail.put("outOfStock", viewLine.outOfStock());
                     return itemDetail;
                 })
                 .collect(Collectors.toList());
 
-        Long totalPrice = cartService.calculateTotalPrice(buyerId);
+        Long totalPrice = cart.totalPrice();
 
         Map<String, Object> response = new HashMap<>();
         response.put("cartItems", cartItemsWithDetails);
@@ -93,12 +101,13 @@ public class CartController {
     @PostMapping("/items/{cartItemId}/increase")
     public ResponseEntity<String> increaseCartItemQuantity(
             Authentication authentication,
+            HttpServletRequest servletRequest,
             @PathVariable Long cartItemId,
             @RequestBody @Valid QuantityChangeRequest request) {
 
         try {
-            Long buyerId = getUserIdFromAuthentication(authentication);
-            cartService.increaseCartItemQuantity(buyerId, cartItemId, request.getAmount());
+            CartOwner owner = requireOwner(authentication, servletRequest);
+            cartService.increaseCartItemQuantity(owner, cartItemId, request.getAmount());
             return ResponseEntity.ok("장바구니 아이템 수량이 증가되었습니다.");
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body("잘못된 요청입니다: " + e.getMessage());
@@ -112,13 +121,14 @@ public class CartController {
     @PostMapping("/items/{cartItemId}/decrease")
     public ResponseEntity<String> decreaseCartItemQuantity(
             Authentication authentication,
+            HttpServletRequest servletRequest,
             @PathVariable Long cartItemId,
             @RequestBody @Valid QuantityChangeRequest request
     ) {
 
         try {
-            Long buyerId = getUserIdFromAuthentication(authentication);
-            cartService.decreaseCartItemQuantity(buyerId, cartItemId, request.getAmount());
+            CartOwner owner = requireOwner(authentication, servletRequest);
+            cartService.decreaseCartItemQuantity(owner, cartItemId, request.getAmount());
             return ResponseEntity.ok("장바구니 아이템 수량이 감소되었습니다.");
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body("잘못된 요청입니다: " + e.getMessage());
@@ -135,14 +145,14 @@ public class CartController {
     @DeleteMapping("/items/delete")
     public ResponseEntity<String> removeFromCart(
             Authentication authentication,
+            HttpServletRequest servletRequest,
             @RequestBody CartItemIdsRequest request
     ) {
 
-        Long buyerId = getUserIdFromAuthentication(authentication);
         List<Long> ids = request.getCartItemIds();
 
         try {
-            cartService.removeCartItem(buyerId, ids);
+            cartService.removeCartItem(requireOwner(authentication, servletRequest), ids);
             return ResponseEntity.ok("상품이 장바구니에서 제거되었습니다.");
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
@@ -153,12 +163,61 @@ public class CartController {
      * 장바구니에서 상품 제거
      */
     @DeleteMapping
-    public ResponseEntity<String> clearCart(Authentication authentication) {
+    public ResponseEntity<String> clearCart(Authentication authentication, HttpServletRequest request) {
 
-        Long buyerId = getUserIdFromAuthentication(authentication);
-
-        cartService.clearCart(buyerId);
+        CartOwner owner = resolveOwner(authentication, request, null);
+        if (owner != null) {
+            cartService.clearCart(owner);
+        }
 
         return ResponseEntity.ok("장바구니를 모두 비웠습니다.");
     }
+
+    /**
+     * 비회원 장바구니를 로그인한 구매자 장바구니로 병합 (로그인 성공 시 자동 병합되지 않은 경우용)
+     */
+    @PostMapping("/merge")
+    public ResponseEntity<ApiMessage> mergeGuestCart(
+            Authentication authentication,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) {
+        Long buyerId = getBuyerIdOrNull(authentication);
+        if (buyerId == null) {
+            return ResponseEntity.badRequest().body(ApiMessage.of("ERROR", "구매자 로그인이 필요합니다."));
+        }
+        String guestId = GuestCartCookie.read(request);
+        if (guestId == null) {
+            return ResponseEntity.ok(ApiMessage.of("SUCCESS", "병합할 비회원 장바구니가 없습니다."));
+        }
+        try {
+            long merged = cartService.mergeGuestCart(guestId, buyerId);
+            GuestCartCookie.clear(response);
+            return ResponseEntity.ok(ApiMessage.of("SUCCESS", merged + "개 상품을 장바구니에 병합했습니다."));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(ApiMessage.of("ERROR", e.getMessage()));
+        }
+    }
+
+    /**
+     * 로그인 구매자는 buyerId, 그 외에는 비회원 쿠키 (response 가 있으면 쿠키가 없을 때 새로 발급, 없으면 null)
+     */
+    private CartOwner resolveOwner(Authentication authentication, HttpServletRequest request, HttpServletResponse response) {
+        Long buyerId = getBuyerIdOrNull(authentication);
+        if (buyerId != null) {
+            return CartOwner.buyer(buyerId);
+        }
+        String guestId = response == null
+                ? GuestCartCookie.read(request)
+                : GuestCartCookie.readOrIssue(request, response, cartService.guestCartTtl());
+        return guestId == null ? null : CartOwner.guest(guestId);
+    }
+
+    private CartOwner requireOwner(Authentication authentication, HttpServletRequest request) {
+        CartOwner owner = resolveOwner(authentication, request, null);
+        if (owner == null) {
+            throw new RuntimeException("장바구니를 찾을 수 없습니다");
+        }
+        return owner;
+    }
 }
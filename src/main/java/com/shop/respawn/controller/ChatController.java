@@ -1,17 +1,22 @@
 package com.shop.respawn.controller;
 
 import com.shop.respawn.domain.ChatMessage;
+import com.shop.respawn.dto.CursorResponse;
 import com.shop.respawn.dto.chat.ChatMessageDTO;
 import com.shop.respawn.dto.chat.ChatRoomListResponse;
 import com.shop.respawn.dto.chat.ChatRoomRequest;
 import com.shop.respawn.dto.chat.ChatRoomResponse;
-import com.shop.respawn.repository.mongo.ChatMessageRepository;
+import com.shop.respawn.dto.chat.ChatTypingRequest;
+import com.shop.respawn.service.ChatMessageWriter;
+import com.shop.respawn.service.ChatPresenceService;
+import com.shop.respawn.service.ChatRelay;
 import com.shop.respawn.service.ChatRoomService;
+import com.shop.respawn.service.ChatUnreadCounter;
 import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
@@ -26,10 +31,13 @@ import static com.shop.respawn.util.AuthenticationUtil.getUserIdFromAuthenticati
 @RequiredArgsConstructor
 public class ChatController {
 
-    private final ChatMessageRepository chatMessageRepository;
     private final ChatRoomService chatRoomService;
 
-    private final SimpMessageSendingOperations messagingTemplate;
+    // 다른 노드 구독자에게도 전달되도록 Redis 릴레이로 발행
+    private final ChatRelay chatRelay;
+    private final ChatMessageWriter chatMessageWriter;
+    private final ChatUnreadCounter chatUnreadCounter;
+    private final ChatPresenceService chatPresenceService;
 
     @MessageMapping("/chat/send/{roomId}")
     public void sendMessage(
@@ -38,9 +46,9 @@ public class ChatController {
         // 1. 발송자 이름 세팅 (시큐리티 세션 기반)
         String senderId = (principal != null) ? principal.getName() : "알 수 없는 사용자";
 
-        // 2. MongoDB에 저장할 엔티티 생성
+        // 2. MongoDB에 저장할 엔티티 생성 (비동기 저장 전에 브로드캐스트하므로 id 를 미리 부여)
         ChatMessage message = new ChatMessage(
-                null,
+                new ObjectId().toHexString(),
                 roomId,
                 senderId,
                 messageDTO.content(),
@@ -49,11 +57,31 @@ public class ChatController {
                 LocalDateTime.now()
         );
 
+        // 3. 바로 브로드캐스트 후 저장은 writer 스레드가 일괄 처리
+        chatRelay.publish(roomId, message);
+
         if ("CHAT".equals(messageDTO.type())) {
-            chatMessageRepository.save(message);
+            chatMessageWriter.enqueue(message);
+            chatUnreadCounter.increment(roomId, senderId);
+            chatPresenceService.typing(roomId, senderId, false);
         }
+    }
 
-        messagingTemplate.convertAndSend("/topic/chat/" + roomId, message);
+    // 접속 상태 heartbeat (클라이언트가 online-ttl 보다 짧은 주기로 전송)
+    @MessageMapping("/chat/heartbeat")
+    public void heartbeat(Principal principal) {
+        if (principal != null) {
+            chatPresenceService.heartbeat(principal.getName());
+        }
+    }
+
+    // 입력 중 신호 (입력 중에는 typing-ttl 보다 짧은 주기로 재전송, 브로드캐스트는 방 단위로 모아서 전송)
+    @MessageMapping("/chat/typing/{roomId}")
+    public void typing(@DestinationVariable String roomId, ChatTypingRequest request, Principal principal) {
+        // 내역 조회/읽음 처리와 같은 참여자 검사 (참여자가 아니면 무시)
+        if (principal != null && chatRoomService.isParticipant(roomId, principal.getName())) {
+            chatPresenceService.typing(roomId, principal.getName(), request.typing());
+        }
     }
 
     @PostMapping("/room")
@@ -90,10 +118,17 @@ public class ChatController {
         return ResponseEntity.ok(rooms);
     }
 
+    /**
+     * 채팅 내역 (최신순 페이지, 이전 내역은 응답의 nextCursor 를 before 로 전달)
+     */
     @GetMapping("/room/{roomId}/messages")
-    public ResponseEntity<List<ChatMessage>> getChatMessages(@PathVariable String roomId) {
-        // Repository에 이미 만들어둔 findByRoomIdOrderByTimestampAsc를 활용합니다.
-        List<ChatMessage> messages = chatMessageRepository.findByRoomIdOrderByTimestampAsc(roomId);
+    public ResponseEntity<CursorResponse<ChatMessage>> getChatMessages(
+            @PathVariable String roomId,
+            @RequestParam(required = false) String before,
+            @RequestParam(defaultValue = "50") int size,
+            Principal principal) {
+        CursorResponse<ChatMessage> messages = chatRoomService.getChatHistory(
+                roomId, principal != null ? principal.getName() : null, before, size);
         return ResponseEntity.ok(messages);
     }
 
@@ -115,7 +150,7 @@ public class ChatController {
                 true,
                 LocalDateTime.now()
         );
-        messagingTemplate.convertAndSend("/topic/chat/" + roomId, readNotification);
+        chatRelay.publish(roomId, readNotification);
 
         return ResponseEntity.ok().build();
     }
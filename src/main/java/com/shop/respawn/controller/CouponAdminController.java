@@ -0,0 +1,58 @@
+package com.shop.respawn.controller;
+
+import com.shop.respawn.domain.CouponDrop;
+import com.shop.respawn.dto.coupon.CouponCampaignRequest;
+import com.shop.respawn.dto.coupon.CouponCampaignStatusDto;
+import com.shop.respawn.dto.coupon.CouponDropRequest;
+import com.shop.respawn.dto.coupon.CouponDropStatusDto;
+import com.shop.respawn.service.CouponCampaignService;
+import com.shop.respawn.service.CouponDropService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/coupons")
+@Secured("ROLE_ADMIN")
+public class CouponAdminController {
+
+    private final CouponCampaignService couponCampaignService;
+    private final CouponDropService couponDropService;
+
+    /**
+     * 쿠폰 일괄 발급 캠페인 시작 (비동기)
+     * 예시: POST /api/admin/coupons/campaigns {"name":"여름 감사 쿠폰","couponAmount":3000,"grades":["VIP","VVIP"]}
+     */
+    @PostMapping("/campaigns")
+    public ResponseEntity<CouponCampaignStatusDto> startCampaign(@RequestBody CouponCampaignRequest request) {
+        return ResponseEntity.accepted().body(couponCampaignService.start(request));
+    }
+
+    /**
+     * 캠페인 진행 상태 (발급/실패 건수, 초당 발급량)
+     */
+    @GetMapping("/campaigns/{campaignId}")
+    public ResponseEntity<CouponCampaignStatusDto> campaignStatus(@PathVariable Long campaignId) {
+        return ResponseEntity.ok(couponCampaignService.getStatus(campaignId));
+    }
+
+    /**
+     * 선착순 한정 수량 쿠폰 이벤트 생성
+     * 예시: POST /api/admin/coupons/drops {"name":"선착순 2만원 할인","couponAmount":20000,"quantity":10000}
+     */
+    @PostMapping("/drops")
+    public ResponseEntity<CouponDropStatusDto> openDrop(@RequestBody CouponDropRequest request) {
+        CouponDrop drop = couponDropService.open(request);
+        return ResponseEntity.ok(couponDropService.getStatus(drop.getId()));
+    }
+
+    /**
+     * 선착순 이벤트 현황 (잔여 수량, 당첨자, 적재 대기/완료 건수)
+     */
+    @GetMapping("/drops/{dropId}")
+    public ResponseEntity<CouponDropStatusDto> dropStatus(@PathVariable Long dropId) {
+        return ResponseEntity.ok(couponDropService.getStatus(dropId));
+    }
+}
@@ -1,6 +1,7 @@
 package com.shop.respawn.controller;
 
 import com.shop.respawn.dto.coupon.*;
+import com.shop.respawn.service.CouponDropService;
 import com.shop.respawn.service.CouponService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -21,6 +22,7 @@ import static com.shop.respawn.util.AuthenticationUtil.*;
 public class CouponController {
 
     private final CouponService couponService;
+    private final CouponDropService couponDropService;
 
     /**
      * 주문 페이지에서 쿠폰 사용 가능 여부 확인 (아이템 합계 기준, 배송비 제외)
@@ -45,6 +47,19 @@ public class CouponController {
         return ResponseEntity.ok(OrderCouponCheckResponse.ok()); // 성공 응답
     }
 
+    /**
+     * 선착순 한정 수량 쿠폰 응모
+     * 예: POST /api/coupons/drops/3/claim → {"result":"WON" | "SOLD_OUT" | "ALREADY_CLAIMED" | "NOT_OPEN"}
+     */
+    @PostMapping("/drops/{dropId}/claim")
+    public ResponseEntity<CouponDropClaimResponse> claimDrop(
+            Authentication authentication,
+            @PathVariable Long dropId
+    ) {
+        Long buyerId = getUserIdFromAuthentication(authentication);
+        return ResponseEntity.ok(couponDropService.claim(buyerId, dropId));
+    }
+
     @PostMapping("/cancel")
     public ResponseEntity<?> cancelOnOrder(
             Authentication authentication,
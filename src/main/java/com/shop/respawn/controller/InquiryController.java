@@ -1,5 +1,6 @@
 package com.shop.respawn.controller;
 
+import com.shop.respawn.dto.CursorResponse;
 import com.shop.respawn.dto.PageResponse;
 import com.shop.respawn.dto.productInquiry.InquiryRequest;
 import com.shop.respawn.dto.productInquiry.InquiryResponse;
@@ -100,6 +101,22 @@ public class InquiryController {
     }
 
 
+    /**
+     * 상품별 제목 조회 (커서 페이지, 최신순)
+     * 예시: /api/inquiries/{itemId}/titles/cursor?size=20&status=WAITING&cursor={nextCursor}
+     */
+    @GetMapping("/{itemId}/titles/cursor")
+    public CursorResponse<InquirySummaryResponse> getInquiryTitlesByCursor(
+            @PathVariable String itemId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Boolean openToPublic
+    ) {
+        return productInquiryService.getInquiryTitlesByCursor(itemId, status, openToPublic, cursor, size);
+    }
+
+
     // 2) 문의 상세 조회: 구매자 본인 혹은 해당 상품 판매자만 접근 가능
     @GetMapping("/{inquiryId}/detail")
     public ResponseEntity<?> getInquiryDetail(
@@ -169,6 +186,13 @@ public class InquiryController {
         }
     }
 
+    // 판매자 상품별 미답변 문의 수
+    @GetMapping("/seller/unanswered-counts")
+    public ResponseEntity<Map<String, Long>> getSellerUnansweredCounts(Authentication authentication) {
+        Long sellerId = getUserIdFromAuthentication(authentication);
+        return ResponseEntity.ok(productInquiryService.getUnansweredCountsBySeller(String.valueOf(sellerId)));
+    }
+
     // 2) 판매자가 문의에 답변 등록/수정
     @PostMapping("/{inquiryId}/answer")
     public ResponseEntity<?> answerInquiry(
@@ -62,20 +62,8 @@ public class ItemController {
     ) {
         ItemDto itemDto = itemService.findItemWithCategoryName(id);
 
-        boolean isWished = false;
-
-        if (authentication != null && authentication.isAuthenticated() && !authentication.getPrincipal().equals("anonymousUser")) {
-            try {
-                Long buyerId = getUserIdFromAuthentication(authentication);
-                // 💡 여기서 방금 만든 서비스 메서드를 호출합니다!
-                isWished = wishlistService.checkIsWished(buyerId, id);
-            } catch (Exception e) {
-                // 토큰 파싱 에러나 판매자 계정일 경우 등을 대비해 안전하게 잡고 false 처리
-            }
-        }
-
-        // 3. DTO에 찜 여부 세팅
-        itemDto.setWished(isWished);
+        // 구매자로 로그인한 경우에만 찜 여부 세팅 (비로그인/판매자는 false)
+        wishlistService.decorateWished(getBuyerIdOrNull(authentication), List.of(itemDto));
 
         return ResponseEntity.ok(itemDto);
     }
@@ -87,10 +75,12 @@ public class ItemController {
     public ResponseEntity<PageResponse<ItemDto>> getItems(
             @RequestParam(name = "category", required = false) String category,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            Authentication authentication
     ) {
         Pageable pageable = PageRequest.of(page, size);
         Page<ItemDto> items = itemService.getItemByCategory(category, pageable);
+        wishlistService.decorateWished(getBuyerIdOrNull(authentication), items.getContent());
         return ResponseEntity.ok(PageResponse.from(items));
     }
 
@@ -207,7 +197,8 @@ public class ItemController {
      * 예: GET /api/items/search?query=아이폰
      */
     @GetMapping("/search")
-    public ResponseEntity<List<ItemDto>> searchItems(@RequestParam(name = "query", required = false) String query) {
+    public ResponseEntity<List<ItemDto>> searchItems(@RequestParam(name = "query", required = false) String query,
+                                                     Authentication authentication) {
         List<Item> items = itemService.searchItems(query);
         List<ItemDto> itemDtos = items.stream()
                 .map(item -> new ItemDto(
@@ -226,6 +217,7 @@ public class ItemController {
                         item.getStatus()
                 ))
                 .toList();
+        wishlistService.decorateWished(getBuyerIdOrNull(authentication), itemDtos);
         return ResponseEntity.ok(itemDtos);
     }
 
@@ -244,7 +236,8 @@ public class ItemController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sort, // 정렬 필드
-            @RequestParam(defaultValue = "desc") String dir  // 정렬 방향
+            @RequestParam(defaultValue = "desc") String dir,  // 정렬 방향
+            Authentication authentication
     ) {
         Sort.Direction direction = Sort.Direction.fromString(dir);
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sort));
@@ -252,6 +245,7 @@ public class ItemController {
         Page<ItemDto> resultPage = itemService.searchItemsByCategory(
                 query, categoryIds, company, minPrice, maxPrice, deliveryType, pageable
         );
+        wishlistService.decorateWished(getBuyerIdOrNull(authentication), resultPage.getContent());
 
         return ResponseEntity.ok(PageResponse.from(resultPage));
     }
@@ -0,0 +1,57 @@
+package com.shop.respawn.controller;
+
+import com.shop.respawn.domain.PointBalanceDrift;
+import com.shop.respawn.dto.PageResponse;
+import com.shop.respawn.dto.point.PointReconcileStatusDto;
+import com.shop.respawn.service.PointReconciliationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/points")
+@Secured("ROLE_ADMIN")
+public class PointAdminController {
+
+    private final PointReconciliationService pointReconciliationService;
+
+    /**
+     * 포인트 잔액 대사 시작 (비동기)
+     * 예시: POST /api/admin/points/reconcile?repair=true
+     */
+    @PostMapping("/reconcile")
+    public ResponseEntity<?> startReconcile(@RequestParam(defaultValue = "false") boolean repair) {
+        try {
+            PointReconcileStatusDto status = pointReconciliationService.start(repair);
+            return ResponseEntity.accepted().body(status);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(409).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * 포인트 잔액 대사 진행 상태
+     */
+    @GetMapping("/reconcile/status")
+    public ResponseEntity<PointReconcileStatusDto> reconcileStatus() {
+        return ResponseEntity.ok(pointReconciliationService.getStatus());
+    }
+
+    /**
+     * 대사 실행별 불일치(drift) 리포트
+     */
+    @GetMapping("/reconcile/{runId}/drifts")
+    public ResponseEntity<PageResponse<PointBalanceDrift>> drifts(
+            @PathVariable String runId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        return ResponseEntity.ok(PageResponse.from(
+                pointReconciliationService.getDrifts(runId, PageRequest.of(page, size))));
+    }
+}
@@ -1,5 +1,6 @@
 package com.shop.respawn.controller;
 
+import com.shop.respawn.dto.CursorResponse;
 import com.shop.respawn.dto.point.ExpiringPointItemDto;
 import com.shop.respawn.dto.point.ExpiringPointTotalDto;
 import com.shop.respawn.dto.point.PointHistoryDto;
@@ -159,6 +160,54 @@ public class PointController {
         return ledgerPointService.getAll(buyerId, page, size, sort, year, month);
     }
 
+    /**
+     * 포인트 적립 내역 (커서 페이지, 최신순)
+     * 예시: /api/points/saves/cursor?size=20&cursor={nextCursor}
+     */
+    @GetMapping("/saves/cursor")
+    public CursorResponse<PointLedgerDto> getSavesByCursor(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) Integer month
+    ) {
+        Long buyerId = getUserIdFromAuthentication(authentication);
+        return ledgerPointService.getSavesByCursor(buyerId, cursor, size, year, month);
+    }
+
+    /**
+     * 포인트 사용 내역 (커서 페이지, 최신순)
+     * 예시: /api/points/uses/cursor?size=20&cursor={nextCursor}
+     */
+    @GetMapping("/uses/cursor")
+    public CursorResponse<PointLedgerDto> getUsesByCursor(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) Integer month
+    ) {
+        Long buyerId = getUserIdFromAuthentication(authentication);
+        return ledgerPointService.getUsesByCursor(buyerId, cursor, size, year, month);
+    }
+
+    /**
+     * 포인트 통합 내역 (커서 페이지, 최신순)
+     * 예시: /api/points/history/cursor?size=20&cursor={nextCursor}
+     */
+    @GetMapping("/history/cursor")
+    public CursorResponse<PointHistoryDto> getAllByCursor(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) Integer month
+    ) {
+        Long buyerId = getUserIdFromAuthentication(authentication);
+        return ledgerPointService.getAllByCursor(buyerId, cursor, size, year, month);
+    }
+
     /**
      * 이번 달 소멸 예정 합계(숫자만)
      */
@@ -0,0 +1,39 @@
+package com.shop.respawn.controller;
+
+import com.shop.respawn.service.ReviewBackfillJob;
+import com.shop.respawn.service.ReviewService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/reviews")
+@Secured("ROLE_ADMIN")
+public class ReviewAdminController {
+
+    private final ReviewService reviewService;
+    private final ReviewBackfillJob reviewBackfillJob;
+
+    /**
+     * 리뷰 추적 컬럼 백필 (order_item buyer_id / deliveryStatus / reviewed, reviews.sellerId, 비동기)
+     */
+    @PostMapping("/backfill")
+    public ResponseEntity<Map<String, String>> backfill() {
+        reviewBackfillJob.run();
+        return ResponseEntity.accepted().body(Map.of("message", "리뷰 추적 컬럼 백필을 시작했습니다."));
+    }
+
+    /**
+     * 상품별 리뷰 통계 즉시 재계산
+     */
+    @PostMapping("/stats/rebuild")
+    public ResponseEntity<Map<String, Long>> rebuildStats() {
+        return ResponseEntity.ok(Map.of("items", reviewService.rebuildItemReviewStats()));
+    }
+}
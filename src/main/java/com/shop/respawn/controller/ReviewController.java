@@ -54,6 +54,22 @@ public class ReviewController {
         }
     }
 
+    /**
+     * 리뷰 삭제 (작성자 본인만)
+     */
+    @DeleteMapping("/{reviewId}")
+    public ResponseEntity<?> deleteReview(
+            Authentication authentication,
+            @PathVariable String reviewId
+    ) {
+        try {
+            Long buyerId = getUserIdFromAuthentication(authentication);
+            reviewService.deleteReview(buyerId, reviewId);
+            return ResponseEntity.ok("리뷰가 삭제되었습니다.");
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
 
     /**
      * 판매자가 자신이 판매한 아이템에 대한 리뷰 보기
@@ -84,6 +100,22 @@ public class ReviewController {
         }
     }
 
+    /**
+     * 판매자 리뷰 피드 (커서 페이지, 최신순)
+     * 예시: /api/reviews/seller/my-reviews/cursor?size=20&cursor={nextCursor}
+     */
+    @GetMapping("/seller/my-reviews/cursor")
+    public CursorResponse<ReviewWithItemDto> getMyItemReviewsByCursor(
+            Authentication authentication,
+            @RequestParam(required = false) String itemId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Long sellerId = getUserIdFromAuthentication(authentication);
+        return reviewService.getSellerReviewFeed(String.valueOf(sellerId),
+                (itemId == null || itemId.isEmpty()) ? null : itemId, cursor, size);
+    }
+
     @GetMapping("/items/{itemId}/stats")
     public ResponseEntity<ReviewStatsDto> getReviewStatsByItemId(@PathVariable String itemId) {
         try {
@@ -1,8 +1,8 @@
 package com.shop.respawn.controller;
 
-import com.shop.respawn.domain.Temporary;
 import com.shop.respawn.dto.TemporaryDto;
-import com.shop.respawn.service.TemporaryService;
+import com.shop.respawn.dto.order.CheckoutSession;
+import com.shop.respawn.service.CheckoutSessionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -17,17 +17,22 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class TemporaryController {
 
-    private final TemporaryService temporaryService;
+    private final CheckoutSessionService checkoutSessionService;
 
     @PostMapping("/save")
     public ResponseEntity<Map<String, Object>> saveTemporary(@RequestBody TemporaryDto request) {
         Map<String, Object> response = new HashMap<>();
 
         try {
-            Temporary savedTemp = temporaryService.saveTemporaryData(request);
+            if (request.getOrderId() == null) {
+                throw new IllegalArgumentException("주문 ID가 필요합니다.");
+            }
+            // 주문별 결제 세션(Redis hash, TTL)에 보관: 임시 결제 정보 ID = 주문 ID
+            checkoutSessionService.saveRequest(request.getOrderId(), request.getAddressId(),
+                    request.getCouponCode(), request.getUsePointAmount());
 
             response.put("success", true);
-            response.put("temporaryId", savedTemp.getId());
+            response.put("temporaryId", request.getOrderId());
 
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -43,16 +48,18 @@ public class TemporaryController {
         Map<String, Object> response = new HashMap<>();
 
         try {
-            // 1. Service를 통해 DB에서 데이터 조회
-            Temporary temporary = temporaryService.getTemporaryData(temporaryId);
+            // 1. 결제 세션 조회 (임시 결제 정보 ID = 주문 ID)
+            CheckoutSession session = checkoutSessionService.get(temporaryId);
+            if (!session.hasRequest()) {
+                throw new IllegalArgumentException("해당 임시 결제 정보를 찾을 수 없습니다. ID: " + temporaryId);
+            }
 
             // 2. 응답용 DTO에 데이터 세팅 (보안 및 구조 깔끔함을 위해)
             TemporaryDto responseDto = new TemporaryDto();
-            responseDto.setOrderId(temporary.getOrderId());
-            responseDto.setAddressId(temporary.getAddressId());
-            responseDto.setCouponCode(temporary.getCouponCode());
-            responseDto.setUsePointAmount(temporary.getUsedPointAmount());
-            // 주의: amount는 Temporary 엔티티에 없으므로 세팅 불가
+            responseDto.setOrderId(session.orderId());
+            responseDto.setAddressId(session.addressId());
+            responseDto.setCouponCode(session.requestedCouponCode() != null ? session.requestedCouponCode() : "");
+            responseDto.setUsePointAmount(session.requestedPointAmount() != null ? session.requestedPointAmount() : 0L);
 
             // 3. 성공 응답
             response.put("success", true);
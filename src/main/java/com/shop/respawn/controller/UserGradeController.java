@@ -3,6 +3,7 @@ package com.shop.respawn.controller;
 import com.shop.respawn.dto.gradeRecalc.UserGradeResponse;
 import com.shop.respawn.dto.gradeRecalc.GradeRecalcRequest;
 import com.shop.respawn.dto.gradeRecalc.GradeRecalcResponse;
+import com.shop.respawn.service.GradeRecalcEngine;
 import com.shop.respawn.service.UserGradeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +24,7 @@ import static com.shop.respawn.util.AuthenticationUtil.getUserIdFromAuthenticati
 public class UserGradeController {
 
     private final UserGradeService userGradeService;
+    private final GradeRecalcEngine gradeRecalcEngine;
 
     // 1) 내 멤버십 등급 조회 (로그인 필요)
     @GetMapping("/my-grade")
@@ -72,7 +74,7 @@ public class UserGradeController {
                 ? null   // null이면 서비스에서 전체 처리
                 : request.getBuyerIds();
 
-        GradeRecalcResponse result = userGradeService.recalcMany(buyerIds);
+        GradeRecalcResponse result = gradeRecalcEngine.run(buyerIds);
 
         log.info("POST /grades/recalc - processed={}, succeeded={}, failed={}, elapsedMs={}",
                 result.getProcessed(), result.getSucceeded(), result.getFailed(),
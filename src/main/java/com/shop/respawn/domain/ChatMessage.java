@@ -1,11 +1,17 @@
 package com.shop.respawn.domain;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
 
 @Document(collection = "chat_messages")
+@CompoundIndexes({
+        // 채팅 내역 최신순 커서 조회 (roomId 일치 + timestamp desc, 같은 시각은 _id 로 정렬)
+        @CompoundIndex(name = "idx_chat_room_timestamp", def = "{'roomId': 1, 'timestamp': -1, '_id': -1}")
+})
 public record ChatMessage(
         @Id String id,
         String roomId,          // 소속된 채팅방 ID
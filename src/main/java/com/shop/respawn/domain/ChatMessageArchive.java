@@ -0,0 +1,46 @@
+package com.shop.respawn.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 보존 기간이 지난 채팅 메시지 아카이브 (방 + 일자 단위 버킷 1문서)
+ * payload 는 버킷 메시지 목록(시간 오름차순) JSON 을 gzip 압축한 값
+ * 인덱스(idx_chat_archive_room_day)는 MongoIndexConfig 에서 생성
+ */
+@Document(collection = "chat_message_archive")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ChatMessageArchive {
+
+    @Id
+    private String id;              // {roomId}:{yyyy-MM-dd}
+
+    private String roomId;
+
+    private LocalDate day;
+
+    private LocalDateTime firstAt;  // 버킷 내 가장 이른 메시지 시각
+
+    private LocalDateTime lastAt;   // 버킷 내 가장 늦은 메시지 시각
+
+    private int count;
+
+    private byte[] payload;
+
+    // 여러 노드가 같은 버킷을 병합할 때 나중 저장이 덮어쓰지 않도록 낙관적 락
+    @Version
+    private Long version;
+
+    public static String bucketId(String roomId, LocalDate day) {
+        return roomId + ":" + day;
+    }
+}
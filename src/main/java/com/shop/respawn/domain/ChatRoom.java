@@ -1,15 +1,40 @@
 package com.shop.respawn.domain;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
 
 @Document(collection = "chat_rooms")
+@CompoundIndexes({
+        // 채팅방 목록: 참여자 일치 + 최근 활동순
+        @CompoundIndex(name = "idx_chat_room_seller_activity", def = "{'sellerId': 1, 'lastMessageAt': -1}"),
+        @CompoundIndex(name = "idx_chat_room_buyer_activity", def = "{'buyerId': 1, 'lastMessageAt': -1}")
+})
 public record ChatRoom(
         @Id String id,
         String buyerId,    // 구매자 아이디
         String sellerId,   // 판매자 아이디
         String itemId,       // 관련 상품 ID (선택 사항)
-        LocalDateTime createdAt
-) {}
\ No newline at end of file
+        LocalDateTime createdAt,
+        LocalDateTime lastMessageAt,   // 마지막 메시지 시각 (비정규화, 메시지 저장 시 갱신)
+        String lastMessagePreview,     // 마지막 메시지 미리보기 (비정규화)
+        boolean lastMessageChecked     // 필드 도입 이전 방의 마지막 메시지 보정 완료 여부 (메시지 없는 방 재집계 방지)
+) {
+
+    public static final int PREVIEW_LENGTH = 50;
+
+    public static String preview(String message) {
+        if (message == null || message.length() <= PREVIEW_LENGTH) {
+            return message;
+        }
+        return message.substring(0, PREVIEW_LENGTH);
+    }
+
+    // 정렬 기준 최근 활동 시각 (메시지가 없으면 생성 시각)
+    public LocalDateTime lastActivityAt() {
+        return lastMessageAt != null ? lastMessageAt : createdAt;
+    }
+}
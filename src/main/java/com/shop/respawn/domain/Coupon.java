@@ -1,6 +1,7 @@
 package com.shop.respawn.domain;
 
 import jakarta.persistence.*;
+import com.shop.respawn.util.CouponPolicy;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 
@@ -9,13 +10,28 @@ import java.time.LocalDateTime;
 import static jakarta.persistence.FetchType.LAZY;
 
 @Entity
-@Table(name = "coupons")
+@Table(name = "coupons",
+        indexes = {
+                // 구매자별 사용 가능 쿠폰(미사용 + 만료 전) 조회/집계용
+                @Index(name = "idx_coupon_buyer_used_expires", columnList = "buyer_id, used, expiresAt")
+        },
+        uniqueConstraints = {
+                // 선착순 이벤트는 구매자당 1장 (비동기 적재 재시도 시 중복 방지)
+                @UniqueConstraint(name = "uk_coupon_drop_buyer", columnNames = {"drop_id", "buyer_id"})
+        })
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Coupon {
-    @Id @GeneratedValue
+
+    // coupon_id 시퀀스 (MySQL 은 테이블로 대체) - CouponJdbcRepository 가 같은 증가폭으로 id 블록을 예약
+    public static final String ID_SEQUENCE = "coupons_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "coupon_id_generator")
+    @SequenceGenerator(name = "coupon_id_generator", sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "coupon_id")
     private Long id;
 
@@ -42,6 +58,14 @@ public class Coupon {
     @Column(nullable = false)
     private boolean used;
 
+    // 캠페인 일괄 발급 쿠폰이면 발급 캠페인 id (개별 발급은 null)
+    @Column(name = "campaign_id")
+    private Long campaignId;
+
+    // 선착순 한정 수량 이벤트로 발급된 쿠폰이면 이벤트 id
+    @Column(name = "drop_id")
+    private Long dropId;
+
     public void markUsed() {
         this.used = true;
     }
@@ -62,7 +86,7 @@ public class Coupon {
 
         return Coupon.builder()
                 .buyer(buyer)
-                .code(java.util.UUID.randomUUID().toString()) // length=36, unique 충족
+                .code(CouponPolicy.generateCode()) // length=36, unique 충족
                 .name(name)
                 .couponAmount(couponAmount)
                 .issuedAt(LocalDateTime.now())
@@ -0,0 +1,69 @@
+package com.shop.respawn.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 일괄 발급 캠페인: 대상 선택 조건과 최종 발급 결과 기록
+ * 진행 중 카운터는 메모리에서 갱신하고 종료 시점에 반영
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "coupon_campaign")
+public class CouponCampaign {
+
+    @Id @GeneratedValue
+    @Column(name = "campaign_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false)
+    private Long couponAmount;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    // 대상 조건 요약 (감사/재현용)
+    @Column(length = 1000)
+    private String selector;
+
+    @Column(nullable = false, length = 20)
+    private String state; // RUNNING, COMPLETED, FAILED
+
+    private long issuedCount;
+
+    private long failedCount;
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    @Column(length = 1000)
+    private String error;
+
+    public static CouponCampaign start(String name, Long couponAmount, LocalDateTime expiresAt, String selector) {
+        CouponCampaign campaign = new CouponCampaign();
+        campaign.name = name;
+        campaign.couponAmount = couponAmount;
+        campaign.expiresAt = expiresAt;
+        campaign.selector = selector;
+        campaign.state = "RUNNING";
+        campaign.startedAt = LocalDateTime.now();
+        return campaign;
+    }
+
+    public void finish(String state, long issuedCount, long failedCount, String error) {
+        this.state = state;
+        this.issuedCount = issuedCount;
+        this.failedCount = failedCount;
+        this.error = error == null ? null : error.substring(0, Math.min(error.length(), 1000));
+        this.finishedAt = LocalDateTime.now();
+    }
+}
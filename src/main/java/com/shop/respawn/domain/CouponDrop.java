@@ -0,0 +1,76 @@
+package com.shop.respawn.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 선착순 한정 수량 쿠폰 이벤트 (예: 선착순 10,000명 20,000원 할인)
+ * 잔여 수량/당첨자는 Redis 에서 관리하고, 당첨 쿠폰은 coupons 에 비동기로 적재
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "coupon_drop")
+public class CouponDrop {
+
+    @Id @GeneratedValue
+    @Column(name = "drop_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false)
+    private Long couponAmount;
+
+    @Column(nullable = false)
+    private int quantity;
+
+    @Column(nullable = false)
+    private LocalDateTime opensAt;
+
+    @Column(nullable = false)
+    private LocalDateTime closesAt;
+
+    // 발급 쿠폰 만료일
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public static CouponDrop create(String name, Long couponAmount, int quantity,
+                                    LocalDateTime opensAt, LocalDateTime closesAt, LocalDateTime expiresAt) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("이벤트 쿠폰 이름은 비어 있을 수 없습니다.");
+        }
+        if (couponAmount == null || couponAmount <= 0L) {
+            throw new IllegalArgumentException("쿠폰 금액은 0보다 커야 합니다.");
+        }
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("발급 수량은 0보다 커야 합니다.");
+        }
+        if (!closesAt.isAfter(opensAt)) {
+            throw new IllegalArgumentException("이벤트 종료 시각은 시작 시각 이후여야 합니다.");
+        }
+        if (!expiresAt.isAfter(closesAt)) {
+            throw new IllegalArgumentException("쿠폰 만료일은 이벤트 종료 이후여야 합니다.");
+        }
+        CouponDrop drop = new CouponDrop();
+        drop.name = name;
+        drop.couponAmount = couponAmount;
+        drop.quantity = quantity;
+        drop.opensAt = opensAt;
+        drop.closesAt = closesAt;
+        drop.expiresAt = expiresAt;
+        drop.createdAt = LocalDateTime.now();
+        return drop;
+    }
+
+    public boolean isOpen(LocalDateTime now) {
+        return !now.isBefore(opensAt) && now.isBefore(closesAt);
+    }
+}
@@ -79,15 +79,4 @@ public class Item {
             this.soldCount = 0L;
         }
     }
-
-    public void addReviewCount() {
-        if (this.reviewCount == null) this.reviewCount = 0L;
-        this.reviewCount++;
-    }
-
-    public void removeReviewCount() {
-        if (this.reviewCount != null && this.reviewCount > 0) {
-            this.reviewCount--;
-        }
-    }
 }
@@ -0,0 +1,50 @@
+package com.shop.respawn.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 상품별 리뷰 통계 (리뷰 작성/삭제 시 $inc 로 증분 갱신, 상품 페이지는 _id 단건 조회)
+ */
+@Document(collection = "item_review_stats")
+@Getter
+@NoArgsConstructor
+public class ItemReviewStats {
+
+    @Id
+    private String itemId;
+
+    private long reviewCount;
+
+    private long ratingSum;
+
+    // 평점(1~5) → 리뷰 수
+    private Map<String, Long> histogram = new HashMap<>();
+
+    private LocalDateTime updatedAt;
+
+    // $inc 증분마다 1 증가 (전체 재계산은 읽은 version 과 같을 때만 덮어씀, 이전 문서는 필드 없음)
+    private Long version;
+
+    public static ItemReviewStats of(String itemId, Map<Integer, Long> countByRating) {
+        ItemReviewStats stats = new ItemReviewStats();
+        stats.itemId = itemId;
+        countByRating.forEach((rating, count) -> {
+            stats.reviewCount += count;
+            stats.ratingSum += rating * count;
+            stats.histogram.put(String.valueOf(rating), count);
+        });
+        stats.updatedAt = LocalDateTime.now();
+        return stats;
+    }
+
+    public double averageRating() {
+        return reviewCount == 0 ? 0.0 : (double) ratingSum / reviewCount;
+    }
+}
@@ -60,6 +60,9 @@ public class Order {
     public void addOrderItem(OrderItem orderItem) {
         orderItems.add(orderItem);
         orderItem.setOrder(this);
+        if (buyer != null) {
+            orderItem.setBuyerId(buyer.getId());
+        }
     }
 
     public void validateOwner(Long buyerId) {
@@ -4,11 +4,17 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
 import static jakarta.persistence.CascadeType.*;
 import static jakarta.persistence.FetchType.*;
 
 @Entity
-@Table(name = "order_item")
+@Table(name = "order_item",
+        indexes = {
+                // 작성 가능한 리뷰(배송 완료 + 미작성) 목록/개수 조회용
+                @Index(name = "idx_order_item_review", columnList = "buyer_id, deliveryStatus, reviewed, order_item_id")
+        })
 @Getter @Setter
 public class OrderItem {
 
@@ -28,6 +34,19 @@ public class OrderItem {
     @JoinColumn(name = "delivery_id")
     private Delivery delivery;
 
+    // 리뷰 작성 가능 여부 조회용 비정규화 컬럼 (orders.buyer_id, delivery.status 사본)
+    @Column(name = "buyer_id")
+    private Long buyerId;
+
+    @Enumerated(EnumType.STRING)
+    private DeliveryStatus deliveryStatus;
+
+    // 리뷰 작성 여부 (리뷰 작성/삭제와 같은 트랜잭션에서 변경)
+    @Column(nullable = false, columnDefinition = "bit default 0")
+    private boolean reviewed;
+
+    private LocalDateTime reviewedAt;
+
     // 환불 상태 추가 (예: REFUNDED, REQUESTED, NONE 등)
     @Enumerated(EnumType.STRING)
     private RefundStatus refundStatus = RefundStatus.NONE;
@@ -35,6 +54,27 @@ public class OrderItem {
     @OneToOne(mappedBy = "orderItem", cascade = ALL, orphanRemoval = true)
     private Refund refund;
 
+    public void setDelivery(Delivery delivery) {
+        this.delivery = delivery;
+        this.deliveryStatus = delivery != null ? delivery.getStatus() : null;
+    }
+
+    // 배송 상태 변경은 비정규화 컬럼과 함께 갱신
+    public void changeDeliveryStatus(DeliveryStatus status) {
+        this.delivery.setStatus(status);
+        this.deliveryStatus = status;
+    }
+
+    public void markReviewed() {
+        this.reviewed = true;
+        this.reviewedAt = LocalDateTime.now();
+    }
+
+    public void unmarkReviewed() {
+        this.reviewed = false;
+        this.reviewedAt = null;
+    }
+
     //==생성 메서드==//
     public static OrderItem createOrderItem(Item item, Long orderPrice, Long count) {
         OrderItem orderItem = new OrderItem();
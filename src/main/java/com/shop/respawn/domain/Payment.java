@@ -9,7 +9,11 @@ import java.time.LocalDateTime;
 import static jakarta.persistence.FetchType.*;
 
 @Entity
-@Table(name = "payments")
+@Table(name = "payments",
+        indexes = {
+                // 월간 구매액 집계(status, 기간 → buyer 별 합계)를 인덱스만으로 처리
+                @Index(name = "idx_payment_status_created", columnList = "status, createdAt, buyer_id, amount")
+        })
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
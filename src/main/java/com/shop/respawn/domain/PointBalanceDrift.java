@@ -0,0 +1,67 @@
+package com.shop.respawn.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 잔액 대사 리포트: 원장 기준 기대값과 point_balance 실제값이 다른 구매자
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "point_balance_drift",
+        indexes = {
+                @Index(name = "idx_drift_run", columnList = "runId, buyer_id")
+        })
+public class PointBalanceDrift {
+
+    @Id @GeneratedValue
+    @Column(name = "drift_id")
+    private Long id;
+
+    @Column(nullable = false, length = 36)
+    private String runId;
+
+    @Column(name = "buyer_id", nullable = false)
+    private Long buyerId;
+
+    private Long expectedTotal;
+    private Long actualTotal;
+    private Long expectedActive;
+    private Long actualActive;
+    private Long expectedUsed;
+    private Long actualUsed;
+    private Long expectedExpired;
+    private Long actualExpired;
+
+    @Column(nullable = false)
+    private boolean repaired;
+
+    @Column(nullable = false)
+    private LocalDateTime detectedAt;
+
+    public static PointBalanceDrift of(String runId, Long buyerId,
+                                       long expectedTotal, long expectedActive, long expectedUsed, long expectedExpired,
+                                       PointBalance actual, boolean repaired) {
+        PointBalanceDrift drift = new PointBalanceDrift();
+        drift.runId = runId;
+        drift.buyerId = buyerId;
+        drift.expectedTotal = expectedTotal;
+        drift.expectedActive = expectedActive;
+        drift.expectedUsed = expectedUsed;
+        drift.expectedExpired = expectedExpired;
+        // 집계 행이 아예 없으면 실제값은 null 로 남김
+        if (actual != null) {
+            drift.actualTotal = actual.getTotal();
+            drift.actualActive = actual.getActive();
+            drift.actualUsed = actual.getUsed();
+            drift.actualExpired = actual.getExpired();
+        }
+        drift.repaired = repaired;
+        drift.detectedAt = LocalDateTime.now();
+        return drift;
+    }
+}
@@ -0,0 +1,63 @@
+package com.shop.respawn.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아카이브된 SAVE 원장에 연결되어 있던 소비 링크
+ * - 원장 FK 대신 id 값만 보관 (USE/EXPIRE 원장은 핫 테이블에 남아 있음)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "point_consume_link_archive",
+        indexes = {
+                @Index(name = "idx_link_archive_save", columnList = "save_ledger_id"),
+                @Index(name = "idx_link_archive_use", columnList = "use_ledger_id")
+        })
+public class PointConsumeLinkArchive implements Persistable<Long> {
+
+    @Id
+    @Column(name = "consume_link_id")
+    private Long id;
+
+    @Column(name = "save_ledger_id", nullable = false)
+    private Long saveLedgerId;
+
+    @Column(name = "use_ledger_id", nullable = false)
+    private Long useLedgerId;
+
+    @Column(nullable = false)
+    private Long consumedAmount;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    public static PointConsumeLinkArchive from(PointConsumeLink link, LocalDateTime archivedAt) {
+        PointConsumeLinkArchive archive = new PointConsumeLinkArchive();
+        archive.id = link.getId();
+        archive.saveLedgerId = link.getSaveLedger().getId();
+        archive.useLedgerId = link.getUseLedger().getId();
+        archive.consumedAmount = link.getConsumedAmount();
+        archive.archivedAt = archivedAt;
+        return archive;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
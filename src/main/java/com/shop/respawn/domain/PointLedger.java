@@ -14,7 +14,9 @@ import static jakarta.persistence.FetchType.LAZY;
 @Table(name = "point_ledger",
         indexes = {
                 @Index(name = "idx_ledger_buyer_time", columnList = "buyer_id, occurredAt"),
-                @Index(name = "idx_ledger_buyer_type", columnList = "buyer_id, type")
+                // (buyer_id, type) 필터 + (occurredAt, id) keyset 정렬을 함께 커버 (기존 buyer_id, type 인덱스 대체)
+                @Index(name = "idx_ledger_buyer_type_time", columnList = "buyer_id, type, occurredAt, ledger_id"),
+                @Index(name = "idx_ledger_type_time", columnList = "type, occurredAt")
         })
 public class PointLedger {
 
@@ -0,0 +1,78 @@
+package com.shop.respawn.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 컴팩션으로 point_ledger 에서 옮겨진 SAVE 원장(콜드 보관)
+ * - id 는 원본 ledger_id 를 그대로 사용 (이력 조회 시 동일 식별자 유지)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "point_ledger_archive",
+        indexes = {
+                @Index(name = "idx_ledger_archive_buyer_time", columnList = "buyer_id, occurredAt")
+        })
+public class PointLedgerArchive implements Persistable<Long> {
+
+    @Id
+    @Column(name = "ledger_id")
+    private Long id;
+
+    @Column(name = "buyer_id", nullable = false)
+    private Long buyerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PointTransactionType type;
+
+    @Column(nullable = false)
+    private Long amount;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+    private LocalDateTime expiryAt;
+
+    private Long refOrderId;
+    private String reason;
+    private String actor;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    // 할당 식별자라 save() 가 merge(select) 로 빠지지 않도록 신규 여부를 직접 관리
+    @Transient
+    private boolean isNew = true;
+
+    public static PointLedgerArchive from(PointLedger ledger, LocalDateTime archivedAt) {
+        PointLedgerArchive archive = new PointLedgerArchive();
+        archive.id = ledger.getId();
+        archive.buyerId = ledger.getBuyer().getId();
+        archive.type = ledger.getType();
+        archive.amount = ledger.getAmount();
+        archive.occurredAt = ledger.getOccurredAt();
+        archive.expiryAt = ledger.getExpiryAt();
+        archive.refOrderId = ledger.getRefOrderId();
+        archive.reason = ledger.getReason();
+        archive.actor = ledger.getActor();
+        archive.archivedAt = archivedAt;
+        return archive;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,60 @@
+package com.shop.respawn.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 구매자별 기초 잔액 스냅샷
+ * - 아카이브로 옮겨진 SAVE 원장/링크의 합계를 보관
+ * - 원장 기반 잔액 계산 = 기초 스냅샷 + 핫 테이블(point_ledger) 합계
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "point_opening_balance")
+public class PointOpeningBalance {
+
+    @Id
+    @Column(name = "buyer_id")
+    private Long buyerId;
+
+    @Column(nullable = false)
+    private Long archivedSaveAmount;      // 아카이브된 SAVE 금액 합계
+
+    @Column(nullable = false)
+    private Long archivedConsumedAmount;  // 아카이브된 링크의 소비 합계
+
+    @Column(nullable = false)
+    private Long archivedLedgerCount;     // 아카이브된 SAVE 건수
+
+    // 아카이브된 원장 중 가장 최근 발생 시각 (이력 조회 시 아카이브 필요 여부 판단)
+    @Column(nullable = false)
+    private LocalDateTime archivedThrough;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static PointOpeningBalance init(Long buyerId) {
+        PointOpeningBalance opening = new PointOpeningBalance();
+        opening.buyerId = buyerId;
+        opening.archivedSaveAmount = 0L;
+        opening.archivedConsumedAmount = 0L;
+        opening.archivedLedgerCount = 0L;
+        opening.archivedThrough = LocalDateTime.of(1970, 1, 1, 0, 0);
+        opening.updatedAt = LocalDateTime.now();
+        return opening;
+    }
+
+    public void absorb(long saveAmount, long consumedAmount, long ledgerCount, LocalDateTime latestOccurredAt) {
+        this.archivedSaveAmount += saveAmount;
+        this.archivedConsumedAmount += consumedAmount;
+        this.archivedLedgerCount += ledgerCount;
+        if (latestOccurredAt != null && latestOccurredAt.isAfter(this.archivedThrough)) {
+            this.archivedThrough = latestOccurredAt;
+        }
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -5,6 +5,8 @@ import jakarta.persistence.Enumerated;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.index.Indexed;
 
@@ -13,6 +15,10 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Document(collection = "product_inquiry")
+@CompoundIndexes({
+        @CompoundIndex(name = "idx_inquiry_item_status_public",
+                def = "{'itemId': 1, 'status': 1, 'openToPublic': 1, 'questionDate': -1}")
+})
 public class ProductInquiry {
 
     @Id
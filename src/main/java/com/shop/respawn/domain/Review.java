@@ -1,6 +1,8 @@
 package com.shop.respawn.domain;
 
 import jakarta.persistence.PrePersist;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import lombok.*;
@@ -14,6 +16,9 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@CompoundIndexes({
+        @CompoundIndex(name = "idx_review_seller_created", def = "{'sellerId': 1, 'createdDate': -1}")
+})
 public class Review {
 
     @Id
@@ -25,6 +30,8 @@ public class Review {
 
     private String itemId;          // 아이템 ID
 
+    private String sellerId;        // 판매자 ID (작성 시점에 상품에서 복사, 판매자 리뷰 피드용)
+
     private int rating;             // 평점 (1~5)
 
     private String content;         // 리뷰 내용
@@ -0,0 +1,11 @@
+package com.shop.respawn.dto;
+
+/**
+ * Redis 장바구니 한 줄 (cartItemId 는 cart_item.cart_item_id 와 같은 값)
+ */
+public record CartLine(Long cartItemId, String itemId, Long cartPrice, Long count) {
+
+    public Long getTotalPrice() {
+        return cartPrice * count;
+    }
+}
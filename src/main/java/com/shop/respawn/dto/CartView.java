@@ -0,0 +1,49 @@
+package com.shop.respawn.dto;
+
+import com.shop.respawn.domain.Item;
+import com.shop.respawn.domain.ItemStatus;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 현재 상품 가격/상태/재고를 반영한 장바구니 (담을 때의 가격은 cartPrice 로 유지)
+ * 합계는 주문 가능한 줄만 현재 가격으로 계산
+ */
+public record CartView(List<Line> lines) {
+
+    public long totalPrice() {
+        return lines.stream()
+                .filter(Line::available)
+                .mapToLong(Line::getTotalPrice)
+                .sum();
+    }
+
+    /**
+     * @param item 현재 상품 (삭제된 상품이면 null)
+     */
+    public record Line(CartLine line, Item item) {
+
+        public Long currentPrice() {
+            return item != null && item.getPrice() != null ? item.getPrice() : line.cartPrice();
+        }
+
+        // 담은 뒤 가격이 바뀐 줄
+        public boolean priceChanged() {
+            return item != null && !Objects.equals(item.getPrice(), line.cartPrice());
+        }
+
+        // 삭제/판매중지/품절 또는 담은 수량보다 재고가 적은 줄
+        public boolean outOfStock() {
+            return item == null || item.getStatus() != ItemStatus.SALE || item.getStockQuantity() < line.count();
+        }
+
+        public boolean available() {
+            return !outOfStock();
+        }
+
+        public Long getTotalPrice() {
+            return currentPrice() * line.count();
+        }
+    }
+}
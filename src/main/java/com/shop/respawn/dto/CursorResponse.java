@@ -0,0 +1,14 @@
+package com.shop.respawn.dto;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 페이지 응답
+ * - nextCursor 를 다음 요청의 cursor 로 그대로 전달 (hasNext=false 면 null)
+ */
+public record CursorResponse<T>(List<T> items, String nextCursor, boolean hasNext) {
+
+    public static <T> CursorResponse<T> of(List<T> items, String nextCursor) {
+        return new CursorResponse<>(items, nextCursor, nextCursor != null);
+    }
+}
@@ -11,5 +11,8 @@ public record ChatRoomListResponse(
         String itemId,
         String itemName,
         LocalDateTime createdAt,
-        long unreadCount
+        LocalDateTime lastMessageAt,
+        String lastMessagePreview,
+        long unreadCount,
+        boolean counterpartOnline // 상대방 접속 여부
 ) {}
@@ -0,0 +1,16 @@
+package com.shop.respawn.dto.chat;
+
+import java.util.List;
+
+/**
+ * /topic/chat/{roomId} 로 전달되는 입력 중 상태 (type = "TYPING", 방 단위로 모아 주기당 최대 1회)
+ */
+public record ChatTypingEvent(
+        String roomId,
+        String type,
+        List<String> typingUsers
+) {
+    public static ChatTypingEvent of(String roomId, List<String> typingUsers) {
+        return new ChatTypingEvent(roomId, "TYPING", typingUsers);
+    }
+}
@@ -0,0 +1,5 @@
+package com.shop.respawn.dto.chat;
+
+public record ChatTypingRequest(
+        boolean typing // 입력 중이면 true (입력 중에는 주기적으로 재전송), 멈추면 false
+) {}
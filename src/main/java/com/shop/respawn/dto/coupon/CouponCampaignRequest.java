@@ -0,0 +1,21 @@
+package com.shop.respawn.dto.coupon;
+
+import com.shop.respawn.domain.Grade;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+public class CouponCampaignRequest {
+
+    private String name;
+    private Long couponAmount;
+    private LocalDateTime expiresAt;
+
+    // 대상 선택 조건 (모두 비우면 전체 구매자, 지정한 조건은 AND 로 결합)
+    private List<Grade> grades;
+    private List<Long> buyerIds;
+    private LocalDateTime joinedFrom;
+    private LocalDateTime joinedTo;
+}
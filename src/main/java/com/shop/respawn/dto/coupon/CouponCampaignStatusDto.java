@@ -0,0 +1,17 @@
+package com.shop.respawn.dto.coupon;
+
+import java.time.LocalDateTime;
+
+public record CouponCampaignStatusDto(
+        Long campaignId,
+        String name,
+        String state,           // RUNNING, COMPLETED, FAILED
+        long buyersScanned,
+        long issuedCount,
+        long failedCount,
+        double issuedPerSecond,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String error
+) {
+}
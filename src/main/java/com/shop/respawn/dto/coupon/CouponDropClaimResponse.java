@@ -0,0 +1,8 @@
+package com.shop.respawn.dto.coupon;
+
+public record CouponDropClaimResponse(
+        Long dropId,
+        String result,      // WON, SOLD_OUT, ALREADY_CLAIMED, NOT_OPEN
+        String message
+) {
+}
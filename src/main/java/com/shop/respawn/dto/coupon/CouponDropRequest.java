@@ -0,0 +1,20 @@
+package com.shop.respawn.dto.coupon;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class CouponDropRequest {
+
+    private String name;
+    private Long couponAmount;
+    private int quantity;
+
+    // 비우면 즉시 시작 / 시작 후 하루 동안 진행
+    private LocalDateTime opensAt;
+    private LocalDateTime closesAt;
+
+    // 비우면 이벤트 종료 시점 기준 기본 만료일
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,16 @@
+package com.shop.respawn.dto.coupon;
+
+import java.time.LocalDateTime;
+
+public record CouponDropStatusDto(
+        Long dropId,
+        String name,
+        int quantity,
+        long remaining,     // Redis 잔여 수량
+        long claimed,       // 당첨자 수
+        long pending,       // DB 적재 대기 중인 당첨자 수
+        long persisted,     // coupons 에 적재된 쿠폰 수
+        LocalDateTime opensAt,
+        LocalDateTime closesAt
+) {
+}
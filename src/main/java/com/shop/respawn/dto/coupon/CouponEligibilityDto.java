@@ -0,0 +1,39 @@
+package com.shop.respawn.dto.coupon;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 적용 가능 여부를 DB 에서 계산한 쿠폰 프로젝션 (구매자의 전체 쿠폰, 사용/만료 쿠폰은 불가 사유와 함께 포함)
+ */
+public record CouponEligibilityDto(
+        Long id,
+        String code,
+        String name,
+        Long couponAmount,
+        LocalDateTime issuedAt,
+        LocalDateTime expiresAt,
+        boolean used,
+        int status          // USABLE / USED / EXPIRED / AMOUNT_TOO_LOW (판정 우선순위 순)
+) {
+    public static final int USABLE = 0;
+    public static final int USED = 1;
+    public static final int EXPIRED = 2;
+    public static final int AMOUNT_TOO_LOW = 3;
+
+    public boolean usable() {
+        return status == USABLE;
+    }
+
+    public String failReason() {
+        return switch (status) {
+            case USED -> "이미 사용된 쿠폰입니다.";
+            case EXPIRED -> "만료된 쿠폰입니다.";
+            case AMOUNT_TOO_LOW -> "상품 금액이 쿠폰 금액보다 커야 합니다.";
+            default -> null;
+        };
+    }
+
+    public CouponDTO toCouponDTO() {
+        return new CouponDTO(id, code, name, couponAmount, issuedAt, expiresAt, used);
+    }
+}
@@ -1,6 +0,0 @@
-package com.shop.respawn.dto.coupon;
-
-import java.time.LocalDateTime;
-
-public record CouponStatusDto(boolean used, LocalDateTime expiresAt) {
-}
\ No newline at end of file
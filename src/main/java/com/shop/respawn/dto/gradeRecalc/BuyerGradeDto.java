@@ -0,0 +1,6 @@
+package com.shop.respawn.dto.gradeRecalc;
+
+import com.shop.respawn.domain.Grade;
+
+public record BuyerGradeDto(Long buyerId, Grade grade) {
+}
@@ -0,0 +1,4 @@
+package com.shop.respawn.dto.gradeRecalc;
+
+public record BuyerSpendDto(Long buyerId, Long amount) {
+}
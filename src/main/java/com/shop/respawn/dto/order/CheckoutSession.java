@@ -0,0 +1,60 @@
+package com.shop.respawn.dto.order;
+
+import java.util.Map;
+
+/**
+ * 주문 결제 진행 중 상태 (Redis hash checkout:{orderId} 한 개에 저장)
+ * - couponAmount / pointAmount 는 검증을 통과한 할인만 기록되며 결제 금액 계산에 사용
+ * - requested* / addressId 는 결제창 이동(리다이렉트) 전후로 사용자의 선택을 보존하는 값 (금액 계산에 미사용)
+ * - openedAt 은 임시 주문 생성 시 기록되며, 없으면 TTL 만료(또는 만료 후 일부 필드만 재생성)된 세션
+ */
+public record CheckoutSession(
+        Long orderId,
+        String couponCode,
+        long couponAmount,
+        long pointAmount,
+        Long addressId,
+        String requestedCouponCode,
+        Long requestedPointAmount,
+        Long openedAt
+) {
+    public static final String COUPON_CODE = "couponCode";
+    public static final String COUPON_AMOUNT = "couponAmount";
+    public static final String POINT_AMOUNT = "pointAmount";
+    public static final String ADDRESS_ID = "addressId";
+    public static final String REQUESTED_COUPON_CODE = "requestedCouponCode";
+    public static final String REQUESTED_POINT_AMOUNT = "requestedPointAmount";
+    public static final String OPENED_AT = "openedAt";
+
+    public static CheckoutSession from(Long orderId, Map<String, String> hash) {
+        return new CheckoutSession(
+                orderId,
+                hash.get(COUPON_CODE),
+                parseLong(hash.get(COUPON_AMOUNT), 0L),
+                parseLong(hash.get(POINT_AMOUNT), 0L),
+                parseLong(hash.get(ADDRESS_ID), null),
+                hash.get(REQUESTED_COUPON_CODE),
+                parseLong(hash.get(REQUESTED_POINT_AMOUNT), null),
+                parseLong(hash.get(OPENED_AT), null)
+        );
+    }
+
+    /**
+     * 주문 원금액(상품 합계 + 배송비)에서 적용된 쿠폰/포인트를 뺀 결제 금액
+     */
+    public long payableAmount(long originalAmount) {
+        return Math.max(0L, originalAmount - couponAmount - pointAmount);
+    }
+
+    public boolean isOpen() {
+        return openedAt != null;
+    }
+
+    public boolean hasRequest() {
+        return addressId != null || requestedCouponCode != null || requestedPointAmount != null;
+    }
+
+    private static Long parseLong(String value, Long defaultValue) {
+        return value == null || value.isBlank() ? defaultValue : Long.valueOf(value);
+    }
+}
@@ -1,7 +1,9 @@
 package com.shop.respawn.dto.point;
 
 import com.shop.respawn.domain.PointLedger;
+import com.shop.respawn.domain.PointLedgerArchive;
 import com.shop.respawn.domain.PointTransactionType;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -9,6 +11,7 @@ import java.time.LocalDateTime;
 
 @Getter
 @Builder
+@AllArgsConstructor
 public class PointLedgerDto {
     private Long id;
     private PointTransactionType type;
@@ -29,4 +32,16 @@ public class PointLedgerDto {
                 .reason(pointLedger.getReason())
                 .build();
     }
+
+    public static PointLedgerDto from(PointLedgerArchive archive) {
+        return PointLedgerDto.builder()
+                .id(archive.getId())
+                .type(archive.getType())
+                .amount(archive.getAmount())
+                .occurredAt(archive.getOccurredAt())
+                .expiryAt(archive.getExpiryAt())
+                .refOrderId(archive.getRefOrderId())
+                .reason(archive.getReason())
+                .build();
+    }
 }
@@ -0,0 +1,6 @@
+package com.shop.respawn.dto.point;
+
+import com.shop.respawn.domain.PointTransactionType;
+
+public record PointLedgerTypeSumDto(Long buyerId, PointTransactionType type, Long amount) {
+}
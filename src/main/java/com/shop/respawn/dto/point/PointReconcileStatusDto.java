@@ -0,0 +1,20 @@
+package com.shop.respawn.dto.point;
+
+import java.time.LocalDateTime;
+
+public record PointReconcileStatusDto(
+        String runId,
+        String state,           // IDLE, RUNNING, COMPLETED, FAILED
+        boolean autoRepair,
+        long buyersScanned,
+        long ledgerGroupsScanned,
+        long driftCount,
+        long repairedCount,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String error
+) {
+    public static PointReconcileStatusDto idle() {
+        return new PointReconcileStatusDto(null, "IDLE", false, 0, 0, 0, 0, null, null, null);
+    }
+}
@@ -4,6 +4,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Map;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -11,4 +13,5 @@ public class ReviewStatsDto {
     private String itemId;
     private double averageRating; // 평균 점수
     private long totalReviews;    // 총 리뷰 개수
+    private Map<Integer, Long> ratingDistribution; // 평점(1~5)별 리뷰 개수
 }
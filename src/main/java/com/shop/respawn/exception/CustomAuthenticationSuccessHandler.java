@@ -2,6 +2,8 @@ package com.shop.respawn.exception;
 
 import com.shop.respawn.repository.jpa.BuyerRepository;
 import com.shop.respawn.repository.jpa.SellerRepository;
+import com.shop.respawn.service.CartService;
+import com.shop.respawn.util.GuestCartCookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
@@ -15,6 +17,8 @@ import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 
+import static com.shop.respawn.util.AuthenticationUtil.getBuyerIdOrNull;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -22,6 +26,7 @@ public class CustomAuthenticationSuccessHandler implements AuthenticationSuccess
 
     private final BuyerRepository buyerRepository;
     private final SellerRepository sellerRepository;
+    private final CartService cartService;
 
     @Override
     @Transactional
@@ -50,6 +55,7 @@ public class CustomAuthenticationSuccessHandler implements AuthenticationSuccess
                 case "[ROLE_USER]" -> buyerRepository.resetFailedLoginByUsername(username);
                 case "[ROLE_SELLER]" -> sellerRepository.resetFailedLoginByUsername(username);
             }
+            mergeGuestCart(request, response, authentication);
         }
 
         if (isFromAdminPage) {
@@ -64,6 +70,21 @@ public class CustomAuthenticationSuccessHandler implements AuthenticationSuccess
         }
     }
 
+    // 비회원으로 담아 둔 장바구니를 구매자 장바구니로 병합 (실패해도 로그인은 계속 진행)
+    private void mergeGuestCart(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
+        String guestId = GuestCartCookie.read(request);
+        Long buyerId = getBuyerIdOrNull(authentication);
+        if (guestId == null || buyerId == null) {
+            return;
+        }
+        try {
+            cartService.mergeGuestCart(guestId, buyerId);
+            GuestCartCookie.clear(response);
+        } catch (RuntimeException e) {
+            log.warn("비회원 장바구니 병합 실패 - buyerId={}", buyerId, e);
+        }
+    }
+
     private void blockLogin(HttpServletRequest request, HttpServletResponse response, String errorMessage) throws IOException {
         SecurityContextHolder.clearContext();
         HttpSession session = request.getSession(false);
@@ -2,6 +2,8 @@ package com.shop.respawn.exception;
 
 import com.shop.respawn.domain.Buyer;
 import com.shop.respawn.repository.jpa.BuyerRepository;
+import com.shop.respawn.service.CartService;
+import com.shop.respawn.util.GuestCartCookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
@@ -18,18 +20,22 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.shop.respawn.util.AuthenticationUtil.getBuyerIdOrNull;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
     private final BuyerRepository buyerRepository;
+    private final CartService cartService;
 
     @Override
     @Transactional
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
                                         Authentication authentication) throws IOException {
         String username = authentication.getName();
+        mergeGuestCart(request, response, authentication);
 
         var buyer = buyerRepository.findByUsername(username);
         if (isIncompleteBuyer(buyer)) {
@@ -47,6 +53,21 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         redirectParentAndClose(response, "https://respawnstore.shop/api/loginOk");
     }
 
+    // 비회원으로 담아 둔 장바구니를 구매자 장바구니로 병합 (실패해도 로그인은 계속 진행)
+    private void mergeGuestCart(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
+        String guestId = GuestCartCookie.read(request);
+        Long buyerId = getBuyerIdOrNull(authentication);
+        if (guestId == null || buyerId == null) {
+            return;
+        }
+        try {
+            cartService.mergeGuestCart(guestId, buyerId);
+            GuestCartCookie.clear(response);
+        } catch (RuntimeException e) {
+            log.warn("비회원 장바구니 병합 실패 - buyerId={}", buyerId, e);
+        }
+    }
+
     private boolean isIncompleteBuyer(Buyer b) {
         // 필수 항목 정의: name/email/phoneNumber 중 하나라도 비어있으면 true
         return isBlank(b.getName()) || isBlank(b.getEmail()) || isBlank(b.getPhoneNumber());
@@ -0,0 +1,44 @@
+package com.shop.respawn.repository.jdbc;
+
+import com.shop.respawn.dto.CartLine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 장바구니 write-behind 전용 JDBC 저장소
+ * Redis 장바구니 스냅샷으로 cart_item 행을 통째로 교체 (cart_item_id 는 Redis 에서 발급한 값을 그대로 사용)
+ */
+@Repository
+@RequiredArgsConstructor
+public class CartJdbcRepository {
+
+    private static final String DELETE_SQL = "delete from cart_item where cart_id = ?";
+
+    private static final String INSERT_SQL =
+            "insert into cart_item (cart_item_id, cart_id, item_id, cart_price, count) values (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 장바구니 한 개의 아이템 행 교체 (구매자 단위 짧은 트랜잭션)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void replaceItems(Long cartId, List<CartLine> lines) {
+        jdbcTemplate.update(DELETE_SQL, cartId);
+        if (lines.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, lines, lines.size(), (ps, line) -> {
+            ps.setLong(1, line.cartItemId());
+            ps.setLong(2, cartId);
+            ps.setString(3, line.itemId());
+            ps.setLong(4, line.cartPrice());
+            ps.setLong(5, line.count());
+        });
+    }
+}
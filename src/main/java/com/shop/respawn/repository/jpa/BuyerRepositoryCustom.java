@@ -2,10 +2,14 @@ package com.shop.respawn.repository.jpa;
 
 import com.shop.respawn.domain.Grade;
 import com.shop.respawn.domain.Role;
+import com.shop.respawn.dto.gradeRecalc.BuyerGradeDto;
 import com.shop.respawn.dto.query.UserQueryDto;
 import com.shop.respawn.dto.query.FailureResultDto;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface BuyerRepositoryCustom {
@@ -33,4 +37,17 @@ public interface BuyerRepositoryCustom {
     Long findOnlyBuyerIdByUsername(String username);
 
     UserQueryDto findUserGradeById(Long buyerId);
+
+    // 등급 재계산용: id 오름차순 keyset 청크 (buyerIds 가 null 이면 전체)
+    List<BuyerGradeDto> findGradesAfter(Long lastBuyerId, Collection<Long> buyerIds, int limit);
+
+    // 등급 일괄 변경 (영속성 컨텍스트 우회 bulk update)
+    long updateGradeBulk(Grade grade, Collection<Long> buyerIds);
+
+    // 쿠폰 캠페인 대상: 조건에 맞는 구매자 id 를 id 오름차순 keyset 청크로 조회 (null 조건은 무시)
+    List<Long> findCampaignTargetIdsAfter(Long lastBuyerId, Collection<Grade> grades, Collection<Long> buyerIds,
+                                          LocalDateTime joinedFrom, LocalDateTime joinedTo, int limit);
+
+    // 표시명 캐시용: id → username 만 조회 (없는 id 는 키 없음)
+    Map<Long, String> findUsernamesByIds(Collection<Long> buyerIds);
 }
@@ -1,14 +1,22 @@
 package com.shop.respawn.repository.jpa;
 
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.Wildcard;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.shop.respawn.domain.Grade;
 import com.shop.respawn.domain.Role;
+import com.shop.respawn.dto.gradeRecalc.BuyerGradeDto;
 import com.shop.respawn.dto.query.UserQueryDto;
 import com.shop.respawn.dto.query.FailureResultDto;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.shop.respawn.domain.QBuyer.buyer;
@@ -133,4 +141,77 @@ public class BuyerRepositoryImpl implements BuyerRepositoryCustom {
                 .where(buyer.id.eq(buyerId))
                 .fetchOne();
     }
+
+    @Override
+    public List<BuyerGradeDto> findGradesAfter(Long lastBuyerId, Collection<Long> buyerIds, int limit) {
+        BooleanBuilder where = new BooleanBuilder();
+        if (lastBuyerId != null) {
+            where.and(buyer.id.gt(lastBuyerId));
+        }
+        if (buyerIds != null && !buyerIds.isEmpty()) {
+            where.and(buyer.id.in(buyerIds));
+        }
+        return queryFactory
+                .select(Projections.constructor(BuyerGradeDto.class, buyer.id, buyer.grade))
+                .from(buyer)
+                .where(where)
+                .orderBy(buyer.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long updateGradeBulk(Grade grade, Collection<Long> buyerIds) {
+        if (buyerIds == null || buyerIds.isEmpty()) return 0L;
+        return queryFactory
+                .update(buyer)
+                .set(buyer.grade, grade)
+                .where(buyer.id.in(buyerIds))
+                .execute();
+    }
+
+    @Override
+    public List<Long> findCampaignTargetIdsAfter(Long lastBuyerId, Collection<Grade> grades, Collection<Long> buyerIds,
+                                                 LocalDateTime joinedFrom, LocalDateTime joinedTo, int limit) {
+        BooleanBuilder where = new BooleanBuilder();
+        if (lastBuyerId != null) {
+            where.and(buyer.id.gt(lastBuyerId));
+        }
+        if (grades != null && !grades.isEmpty()) {
+            where.and(buyer.grade.in(grades));
+        }
+        if (buyerIds != null && !buyerIds.isEmpty()) {
+            where.and(buyer.id.in(buyerIds));
+        }
+        if (joinedFrom != null) {
+            where.and(buyer.createdAt.goe(joinedFrom));
+        }
+        if (joinedTo != null) {
+            where.and(buyer.createdAt.lt(joinedTo));
+        }
+        return queryFactory
+                .select(buyer.id)
+                .from(buyer)
+                .where(where)
+                .orderBy(buyer.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Map<Long, String> findUsernamesByIds(Collection<Long> buyerIds) {
+        Map<Long, String> result = new HashMap<>();
+        if (buyerIds.isEmpty()) {
+            return result;
+        }
+        List<Tuple> rows = queryFactory
+                .select(buyer.id, buyer.username)
+                .from(buyer)
+                .where(buyer.id.in(buyerIds))
+                .fetch();
+        for (Tuple row : rows) {
+            result.put(row.get(buyer.id), row.get(buyer.username));
+        }
+        return result;
+    }
 }
@@ -1,9 +1,9 @@
 package com.shop.respawn.repository.jpa;
 
 import com.shop.respawn.domain.Cart;
+import com.shop.respawn.domain.CartItem;
 import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
@@ -12,7 +12,14 @@ import java.util.Optional;
 public interface CartRepository extends JpaRepository<Cart, Long> {
     Optional<Cart> findByBuyerId(Long buyerId);
 
-    @Modifying
-    @Query("DELETE FROM CartItem ci WHERE ci.id IN :ids AND ci.cart.buyer.id = :buyerId")
-    int deleteByIdsAndBuyerId(@Param("buyerId") Long buyerId, @Param("ids") List<Long> ids);
+    @Query("SELECT c.id FROM Cart c WHERE c.buyer.id = :buyerId")
+    Optional<Long> findIdByBuyerId(@Param("buyerId") Long buyerId);
+
+    // Redis 장바구니 워밍용 (장바구니 엔티티/컬렉션 로딩 없이 아이템 행만)
+    @Query("SELECT ci FROM CartItem ci WHERE ci.cart.buyer.id = :buyerId ORDER BY ci.id")
+    List<CartItem> findItemsByBuyerId(@Param("buyerId") Long buyerId);
+
+    // Redis cart_item_id 시퀀스 시드값
+    @Query("SELECT COALESCE(MAX(ci.id), 0) FROM CartItem ci")
+    Long findMaxCartItemId();
 }
@@ -0,0 +1,7 @@
+package com.shop.respawn.repository.jpa;
+
+import com.shop.respawn.domain.CouponCampaign;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CouponCampaignRepository extends JpaRepository<CouponCampaign, Long> {
+}
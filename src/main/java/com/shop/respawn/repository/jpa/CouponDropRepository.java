@@ -0,0 +1,7 @@
+package com.shop.respawn.repository.jpa;
+
+import com.shop.respawn.domain.CouponDrop;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CouponDropRepository extends JpaRepository<CouponDrop, Long> {
+}
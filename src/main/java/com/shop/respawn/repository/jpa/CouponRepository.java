@@ -11,4 +11,6 @@ public interface CouponRepository extends JpaRepository<Coupon, Long>, CouponRep
     Optional<Coupon> findByCode(String code);
 
     List<Coupon> findAllByBuyerId(Long buyerId);
+
+    long countByDropId(Long dropId);
 }
\ No newline at end of file
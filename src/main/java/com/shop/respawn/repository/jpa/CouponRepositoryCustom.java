@@ -1,18 +1,28 @@
 package com.shop.respawn.repository.jpa;
 
 import com.shop.respawn.domain.Coupon;
-import com.shop.respawn.dto.coupon.CouponStatusDto;
+import com.shop.respawn.dto.coupon.CouponCountDto;
+import com.shop.respawn.dto.coupon.CouponEligibilityDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface CouponRepositoryCustom {
-    List<CouponStatusDto> findAllByBuyerIdQueryDsl(Long buyerId);
+    // 사용 가능/불가 쿠폰 개수를 한 번의 집계 쿼리로 조회
+    CouponCountDto countStatusByBuyerId(Long buyerId, LocalDateTime now);
+
+    // 구매자의 전체 쿠폰과 주문 금액 기준 적용 가능 여부/불가 사유 코드 (id 순)
+    List<CouponEligibilityDto> findEligibilityByBuyerId(Long buyerId, long orderItemsAmount, LocalDateTime now);
 
     Page<Coupon> findAllAvailableByBuyerId(Long buyerId, Pageable pageable);
 
     Page<Coupon> findAllUnavailableByBuyerId(Long buyerId, Pageable pageable);
 
     long countAvailableCouponsByBuyerId(Long buyerId);
+
+    // 선착순 이벤트: 이미 DB 에 적재된 당첨자 id (비동기 적재 재시도 시 중복 제외용)
+    List<Long> findDropWinnerIds(Long dropId, Collection<Long> buyerIds);
 }
@@ -1,10 +1,14 @@
 package com.shop.respawn.repository.jpa;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.core.types.dsl.Wildcard;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.shop.respawn.domain.Coupon;
-import com.shop.respawn.dto.coupon.CouponStatusDto;
+import com.shop.respawn.dto.coupon.CouponCountDto;
+import com.shop.respawn.dto.coupon.CouponEligibilityDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -12,6 +16,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import static com.shop.respawn.domain.QCoupon.coupon;
@@ -23,15 +28,49 @@ public class CouponRepositoryImpl implements CouponRepositoryCustom {
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public List<CouponStatusDto> findAllByBuyerIdQueryDsl(Long buyerId) {
+    public CouponCountDto countStatusByBuyerId(Long buyerId, LocalDateTime now) {
+        NumberExpression<Integer> availableFlag = new CaseBuilder()
+                .when(coupon.used.isFalse().and(coupon.expiresAt.after(now))).then(1)
+                .otherwise(0);
+
+        Tuple row = queryFactory
+                .select(coupon.count(), availableFlag.sum())
+                .from(coupon)
+                .where(coupon.buyer.id.eq(buyerId))
+                .fetchOne();
+
+        // Hibernate 6 는 count/sum 을 Long 으로 반환하므로 Number 로 받아 변환
+        Number totalCount = row == null ? null : row.get(0, Number.class);
+        Number available = row == null ? null : row.get(1, Number.class);
+        long total = totalCount == null ? 0L : totalCount.longValue();
+        int availableCount = available == null ? 0 : available.intValue();
+        return new CouponCountDto(availableCount, (int) total - availableCount);
+    }
+
+    @Override
+    public List<CouponEligibilityDto> findEligibilityByBuyerId(Long buyerId, long orderItemsAmount, LocalDateTime now) {
+        // 기존 Java 판정과 같은 우선순위: 사용됨 → 만료(만료일 없음 포함) → 금액 미달 → 적용 가능
+        NumberExpression<Integer> status = new CaseBuilder()
+                .when(coupon.used.isTrue()).then(CouponEligibilityDto.USED)
+                .when(coupon.expiresAt.isNull().or(coupon.expiresAt.loe(now))).then(CouponEligibilityDto.EXPIRED)
+                .when(coupon.couponAmount.goe(orderItemsAmount)).then(CouponEligibilityDto.AMOUNT_TOO_LOW)
+                .otherwise(CouponEligibilityDto.USABLE);
+
         return queryFactory
                 .select(Projections.constructor(
-                        CouponStatusDto.class,
+                        CouponEligibilityDto.class,
+                        coupon.id,
+                        coupon.code,
+                        coupon.name,
+                        coupon.couponAmount,
+                        coupon.issuedAt,
+                        coupon.expiresAt,
                         coupon.used,
-                        coupon.expiresAt
+                        status
                 ))
                 .from(coupon)
                 .where(coupon.buyer.id.eq(buyerId))
+                .orderBy(coupon.id.asc())
                 .fetch();
     }
 
@@ -94,4 +133,14 @@ public class CouponRepositoryImpl implements CouponRepositoryCustom {
 
         return count == null ? 0L : count;
     }
+
+    @Override
+    public List<Long> findDropWinnerIds(Long dropId, Collection<Long> buyerIds) {
+        if (buyerIds == null || buyerIds.isEmpty()) return List.of();
+        return queryFactory
+                .select(coupon.buyer.id)
+                .from(coupon)
+                .where(coupon.dropId.eq(dropId), coupon.buyer.id.in(buyerIds))
+                .fetch();
+    }
 }
@@ -1,22 +1,35 @@
 package com.shop.respawn.repository.jpa;
 
-import com.shop.respawn.domain.DeliveryStatus;
 import com.shop.respawn.domain.OrderItem;
 import com.shop.respawn.domain.RefundStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
 public interface OrderItemRepositoryCustom {
 
-    Page<OrderItem> findDeliveredUnreviewedOrderItems(Long buyerId, List<Long> excludeOrderItemIds, Pageable pageable);
+    // 작성 가능한 리뷰: 배송 완료 + 미작성 (idx_order_item_review)
+    Page<OrderItem> findDeliveredUnreviewedOrderItems(Long buyerId, Pageable pageable);
 
-    long countByBuyerIdAndDeliveryStatusAndIdNotIn(Long buyerId, DeliveryStatus status, List<Long> excludedOrderItemIds);
+    long countDeliveredUnreviewedOrderItems(Long buyerId);
+
+    // 리뷰 추적 컬럼 백필: order_item_id 구간 단위로 buyer_id / deliveryStatus 채움
+    long backfillReviewTrackingColumns(long fromId, long toId);
+
+    // OrderItem.markReviewed 와 같이 reviewed / reviewedAt 을 함께 설정
+    long markReviewed(Collection<Long> orderItemIds, LocalDateTime reviewedAt);
+
+    Long findMaxId();
 
     List<OrderItem> findOrderItemsByOrderIds(List<Long> orderIds);
 
+    // 주문 아이템 일괄 조회 (주문 fetch join)
+    List<OrderItem> findAllWithOrderByIdIn(Collection<Long> orderItemIds);
+
     Page<OrderItem> findRefundItemsByBuyer(Long buyerId, Pageable pageable);
 
     Page<OrderItem> findRefundItemsBySellerItemIds(Set<String> sellerItemIds, RefundStatus status, Pageable pageable);
@@ -1,5 +1,7 @@
 package com.shop.respawn.repository.jpa;
 
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.shop.respawn.domain.*;
 import lombok.RequiredArgsConstructor;
@@ -8,6 +10,8 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -23,54 +27,73 @@ public class OrderItemRepositoryImpl implements OrderItemRepositoryCustom {
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public Page<OrderItem> findDeliveredUnreviewedOrderItems(Long buyerId, List<Long> excludeOrderItemIds, Pageable pageable) {
-        // 메인 쿼리: 배송 완료 & 본인 주문이면서 제외 리스트에 속하지 않는 주문아이템 조회
+    public Page<OrderItem> findDeliveredUnreviewedOrderItems(Long buyerId, Pageable pageable) {
+        // 메인 쿼리: 본인 주문 아이템 중 배송 완료 & 리뷰 미작성 (단일 테이블 인덱스 범위 조회)
         List<OrderItem> content = queryFactory
                 .selectFrom(orderItem)
-                .where(
-                        orderItem.order.buyer.id.eq(buyerId),
-                        orderItem.delivery.status.eq(DeliveryStatus.DELIVERED),
-                        orderItem.id.notIn(excludeOrderItemIds.isEmpty() ? List.of(-1L) : excludeOrderItemIds)
-                )
+                .where(writableReview(buyerId))
                 .orderBy(orderItem.id.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        // 카운트 쿼리: 전체 개수 조회
-        Long totalCount = queryFactory
+        return new PageImpl<>(content, pageable, countDeliveredUnreviewedOrderItems(buyerId));
+    }
+
+    @Override
+    public long countDeliveredUnreviewedOrderItems(Long buyerId) {
+        Long count = queryFactory
                 .select(orderItem.count())
                 .from(orderItem)
-                .where(
-                        orderItem.order.buyer.id.eq(buyerId),
-                        orderItem.delivery.status.eq(DeliveryStatus.DELIVERED),
-                        orderItem.id.notIn(excludeOrderItemIds.isEmpty() ? List.of(-1L) : excludeOrderItemIds)
-                )
+                .where(writableReview(buyerId))
                 .fetchOne();
 
-        long total = totalCount != null ? totalCount : 0L;
+        return count != null ? count : 0L;
+    }
 
-        return new PageImpl<>(content, pageable, total);
+    private BooleanExpression writableReview(Long buyerId) {
+        return orderItem.buyerId.eq(buyerId)
+                .and(orderItem.deliveryStatus.eq(DeliveryStatus.DELIVERED))
+                .and(orderItem.reviewed.isFalse());
     }
 
     @Override
-    public long countByBuyerIdAndDeliveryStatusAndIdNotIn(Long buyerId, DeliveryStatus status, List<Long> excludedOrderItemIds) {
-        if (excludedOrderItemIds == null || excludedOrderItemIds.isEmpty()) {
-            excludedOrderItemIds = List.of(-1L); // 빈 리스트 방지용 임시 값
-        }
+    public long backfillReviewTrackingColumns(long fromId, long toId) {
+        long buyers = queryFactory
+                .update(orderItem)
+                .set(orderItem.buyerId, JPAExpressions
+                        .select(order.buyer.id)
+                        .from(order)
+                        .where(order.id.eq(orderItem.order.id)))
+                .where(orderItem.id.between(fromId, toId), orderItem.buyerId.isNull())
+                .execute();
+
+        long statuses = queryFactory
+                .update(orderItem)
+                .set(orderItem.deliveryStatus, JPAExpressions
+                        .select(delivery.status)
+                        .from(delivery)
+                        .where(delivery.id.eq(orderItem.delivery.id)))
+                .where(orderItem.id.between(fromId, toId), orderItem.delivery.id.isNotNull())
+                .execute();
+
+        return Math.max(buyers, statuses);
+    }
 
-        Long count = queryFactory
-                .select(orderItem.count())
-                .from(orderItem)
-                .leftJoin(orderItem.delivery, delivery)
-                .where(
-                        orderItem.order.buyer.id.eq(buyerId),
-                        delivery.status.eq(status),
-                        orderItem.id.notIn(excludedOrderItemIds)
-                )
-                .fetchOne();
+    @Override
+    public long markReviewed(Collection<Long> orderItemIds, LocalDateTime reviewedAt) {
+        if (orderItemIds == null || orderItemIds.isEmpty()) return 0L;
+        return queryFactory
+                .update(orderItem)
+                .set(orderItem.reviewed, true)
+                .set(orderItem.reviewedAt, reviewedAt)
+                .where(orderItem.id.in(orderItemIds), orderItem.reviewed.isFalse())
+                .execute();
+    }
 
-        return count != null ? count : 0L;
+    @Override
+    public Long findMaxId() {
+        return queryFactory.select(orderItem.id.max()).from(orderItem).fetchOne();
     }
 
     @Override
@@ -80,6 +103,14 @@ public class OrderItemRepositoryImpl implements OrderItemRepositoryCustom {
                 .fetch();
     }
 
+    @Override
+    public List<OrderItem> findAllWithOrderByIdIn(Collection<Long> orderItemIds) {
+        return queryFactory.selectFrom(orderItem)
+                .join(orderItem.order, order).fetchJoin()
+                .where(orderItem.id.in(orderItemIds))
+                .fetch();
+    }
+
     @Override
     public Page<OrderItem> findRefundItemsByBuyer(Long buyerId, Pageable pageable) {
         // 환불 상태: REQUESTED/REFUNDED, 주문 상태: ORDERED/PAID 만
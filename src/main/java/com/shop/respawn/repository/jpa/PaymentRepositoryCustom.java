@@ -1,8 +1,15 @@
 package com.shop.respawn.repository.jpa;
 
+import com.shop.respawn.dto.gradeRecalc.BuyerSpendDto;
+
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface PaymentRepositoryCustom {
 
     Long sumMonthlyAmountByBuyer(Long buyerId, LocalDateTime start, LocalDateTime end);
+
+    // 기간 내 결제 합계를 buyer 별로 한 번에 집계 (buyerIds 가 null 이면 전체)
+    List<BuyerSpendDto> sumAmountGroupByBuyer(LocalDateTime start, LocalDateTime end, Collection<Long> buyerIds);
 }
@@ -1,10 +1,15 @@
 package com.shop.respawn.repository.jpa;
 
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.shop.respawn.dto.gradeRecalc.BuyerSpendDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 import static com.shop.respawn.domain.QPayment.payment;
 
@@ -25,4 +30,24 @@ public class PaymentRepositoryImpl implements PaymentRepositoryCustom{
                         .and(payment.createdAt.between(start, end)))
                 .fetchOne();
     }
+
+    @Override
+    public List<BuyerSpendDto> sumAmountGroupByBuyer(LocalDateTime start, LocalDateTime end, Collection<Long> buyerIds) {
+        BooleanBuilder where = new BooleanBuilder();
+        where.and(payment.status.eq("paid"));
+        where.and(payment.createdAt.between(start, end));
+        if (buyerIds != null && !buyerIds.isEmpty()) {
+            where.and(payment.buyer.id.in(buyerIds));
+        }
+        return queryFactory
+                .select(Projections.constructor(
+                        BuyerSpendDto.class,
+                        payment.buyer.id,
+                        payment.amount.sum()
+                ))
+                .from(payment)
+                .where(where)
+                .groupBy(payment.buyer.id)
+                .fetch();
+    }
 }
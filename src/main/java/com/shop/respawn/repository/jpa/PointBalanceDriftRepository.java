@@ -0,0 +1,11 @@
+package com.shop.respawn.repository.jpa;
+
+import com.shop.respawn.domain.PointBalanceDrift;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PointBalanceDriftRepository extends JpaRepository<PointBalanceDrift, Long> {
+
+    Page<PointBalanceDrift> findByRunIdOrderByBuyerIdAsc(String runId, Pageable pageable);
+}
@@ -1,7 +1,45 @@
 package com.shop.respawn.repository.jpa;
 
 import com.shop.respawn.domain.PointBalance;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface PointBalanceRepository extends JpaRepository<PointBalance, Long> {
+
+    // 대사용: 잔액 행이 있는 buyerId keyset 페이지 (원장이 없는 잔액 행도 검증 대상에 포함)
+    @Query("SELECT b.buyerId FROM PointBalance b WHERE b.buyerId > :after ORDER BY b.buyerId")
+    List<Long> findBuyerIdsAfter(@Param("after") Long after, Limit limit);
+
+    // 대사 보정: 조회 이후 잔액이 바뀌지 않았을 때만 덮어씀 (모든 잔액 변경은 updatedAt 을 갱신)
+    @Modifying
+    @Transactional
+    @Query("UPDATE PointBalance b SET b.total = :total, b.active = :active, b.used = :used, b.expired = :expired, " +
+            "b.updatedAt = :now WHERE b.buyerId = :buyerId AND b.updatedAt = :observedUpdatedAt")
+    int reconcileIfUnchanged(@Param("buyerId") Long buyerId,
+                             @Param("observedUpdatedAt") LocalDateTime observedUpdatedAt,
+                             @Param("total") long total,
+                             @Param("active") long active,
+                             @Param("used") long used,
+                             @Param("expired") long expired,
+                             @Param("now") LocalDateTime now);
+
+    // 대사 보정: 잔액 행이 없을 때만 생성 (그 사이 적립/사용으로 생긴 행은 건드리지 않음)
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO point_balance (buyer_id, total, active, used, expired, updated_at) " +
+            "SELECT :buyerId, :total, :active, :used, :expired, :now FROM dual " +
+            "WHERE NOT EXISTS (SELECT 1 FROM point_balance WHERE buyer_id = :buyerId)", nativeQuery = true)
+    int insertIfAbsent(@Param("buyerId") Long buyerId,
+                       @Param("total") long total,
+                       @Param("active") long active,
+                       @Param("used") long used,
+                       @Param("expired") long expired,
+                       @Param("now") LocalDateTime now);
 }
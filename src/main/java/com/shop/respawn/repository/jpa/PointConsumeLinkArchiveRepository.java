@@ -0,0 +1,7 @@
+package com.shop.respawn.repository.jpa;
+
+import com.shop.respawn.domain.PointConsumeLinkArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PointConsumeLinkArchiveRepository extends JpaRepository<PointConsumeLinkArchive, Long> {
+}
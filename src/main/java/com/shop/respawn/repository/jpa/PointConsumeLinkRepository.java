@@ -4,10 +4,13 @@ import com.shop.respawn.domain.PointConsumeLink;
 import com.shop.respawn.domain.PointLedger;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface PointConsumeLinkRepository extends JpaRepository<PointConsumeLink, Long> {
 
     List<PointConsumeLink> findByUseLedger(PointLedger useLedger);
     List<PointConsumeLink> findBySaveLedger(PointLedger saveLedger);
+
+    List<PointConsumeLink> findBySaveLedgerIn(Collection<PointLedger> saveLedgers);
 }
@@ -0,0 +1,7 @@
+package com.shop.respawn.repository.jpa;
+
+import com.shop.respawn.domain.PointLedgerArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PointLedgerArchiveRepository extends JpaRepository<PointLedgerArchive, Long>, PointLedgerArchiveRepositoryCustom {
+}
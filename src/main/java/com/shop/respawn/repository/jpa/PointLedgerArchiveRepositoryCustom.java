@@ -0,0 +1,20 @@
+package com.shop.respawn.repository.jpa;
+
+import com.shop.respawn.domain.PointLedgerArchive;
+import com.shop.respawn.dto.point.PointLedgerDto;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PointLedgerArchiveRepositoryCustom {
+
+    // 구매자의 아카이브 원장 상위 limit건 (from/to 가 null 이면 기간 조건 없음)
+    List<PointLedgerArchive> findTopByBuyer(Long buyerId, LocalDateTime from, LocalDateTime to, Sort sort, long limit);
+
+    // keyset 페이지: (occurredAt, id) desc 기준 커서 이후 limit건
+    List<PointLedgerDto> findPageByCursor(Long buyerId, LocalDateTime from, LocalDateTime to,
+                                          LocalDateTime cursorAt, Long cursorId, int limit);
+
+    long countByBuyer(Long buyerId, LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,113 @@
+package com.shop.respawn.repository.jpa;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.shop.respawn.domain.PointLedgerArchive;
+import com.shop.respawn.dto.point.PointLedgerDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.shop.respawn.domain.QPointLedgerArchive.pointLedgerArchive;
+
+@Repository
+@RequiredArgsConstructor
+public class PointLedgerArchiveRepositoryImpl implements PointLedgerArchiveRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<PointLedgerArchive> findTopByBuyer(Long buyerId, LocalDateTime from, LocalDateTime to, Sort sort, long limit) {
+        return queryFactory
+                .selectFrom(pointLedgerArchive)
+                .where(byBuyerAndRange(buyerId, from, to))
+                .orderBy(toOrderSpecifiers(sort).toArray(new OrderSpecifier[0]))
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<PointLedgerDto> findPageByCursor(Long buyerId, LocalDateTime from, LocalDateTime to,
+                                                 LocalDateTime cursorAt, Long cursorId, int limit) {
+        BooleanBuilder where = byBuyerAndRange(buyerId, from, to);
+        if (cursorAt != null && cursorId != null) {
+            where.and(pointLedgerArchive.occurredAt.lt(cursorAt)
+                    .or(pointLedgerArchive.occurredAt.eq(cursorAt).and(pointLedgerArchive.id.lt(cursorId))));
+        }
+        return queryFactory
+                .select(Projections.constructor(
+                        PointLedgerDto.class,
+                        pointLedgerArchive.id,
+                        pointLedgerArchive.type,
+                        pointLedgerArchive.amount,
+                        pointLedgerArchive.occurredAt,
+                        pointLedgerArchive.expiryAt,
+                        pointLedgerArchive.refOrderId,
+                        pointLedgerArchive.reason
+                ))
+                .from(pointLedgerArchive)
+                .where(where)
+                .orderBy(pointLedgerArchive.occurredAt.desc(), pointLedgerArchive.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long countByBuyer(Long buyerId, LocalDateTime from, LocalDateTime to) {
+        Long total = queryFactory
+                .select(pointLedgerArchive.count())
+                .from(pointLedgerArchive)
+                .where(byBuyerAndRange(buyerId, from, to))
+                .fetchOne();
+        return total == null ? 0L : total;
+    }
+
+    private BooleanBuilder byBuyerAndRange(Long buyerId, LocalDateTime from, LocalDateTime to) {
+        BooleanBuilder where = new BooleanBuilder();
+        where.and(pointLedgerArchive.buyerId.eq(buyerId));
+        if (from != null && to != null) {
+            where.and(pointLedgerArchive.occurredAt.between(from, to));
+        }
+        return where;
+    }
+
+    // PointLedgerRepositoryImpl 과 동일한 정렬 화이트리스트
+    private List<OrderSpecifier<?>> toOrderSpecifiers(Sort sort) {
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+
+        Map<String, ComparableExpressionBase<?>> sortable = new HashMap<>();
+        sortable.put("occurredAt", pointLedgerArchive.occurredAt);
+        sortable.put("expiryAt", pointLedgerArchive.expiryAt);
+        sortable.put("amount", pointLedgerArchive.amount);
+        sortable.put("id", pointLedgerArchive.id);
+        sortable.put("type", pointLedgerArchive.type);
+
+        if (sort != null) {
+            for (Sort.Order o : sort) {
+                ComparableExpressionBase<?> expr = sortable.get(o.getProperty());
+                if (expr != null) {
+                    orders.add(new OrderSpecifier<>(
+                            o.isAscending() ? Order.ASC : Order.DESC,
+                            expr
+                    ));
+                }
+            }
+        }
+
+        if (orders.isEmpty()) {
+            orders.add(new OrderSpecifier<>(Order.DESC, pointLedgerArchive.occurredAt));
+            orders.add(new OrderSpecifier<>(Order.DESC, pointLedgerArchive.id));
+        }
+        return orders;
+    }
+}
@@ -2,10 +2,13 @@ package com.shop.respawn.repository.jpa;
 
 import com.shop.respawn.domain.PointLedger;
 import com.shop.respawn.domain.PointTransactionType;
+import com.shop.respawn.dto.point.PointLedgerDto;
+import com.shop.respawn.dto.point.PointLedgerTypeSumDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface PointLedgerRepositoryCustom {
@@ -29,4 +32,18 @@ public interface PointLedgerRepositoryCustom {
 
     // 특정 SAVE 레코드의 소비 합계
     Long sumConsumedAmountOfSave(PointLedger saveLedger);
+
+    // keyset 페이지: (occurredAt, id) desc 기준 커서 이후 limit건, type 이 null 이면 전체 타입
+    List<PointLedgerDto> findPageByCursor(Long buyerId, PointTransactionType type,
+                                          LocalDateTime from, LocalDateTime to,
+                                          LocalDateTime cursorAt, Long cursorId, int limit);
+
+    // 대사용: 원장이 있는 buyerId keyset 페이지 (after 초과, 오름차순 limit건)
+    List<Long> findBuyerIdsAfter(Long after, int limit);
+
+    // 대사용: 주어진 구매자들의 (buyer, type)별 합계
+    List<PointLedgerTypeSumDto> findTypeSumsByBuyerIds(Collection<Long> buyerIds);
+
+    // 컴팩션 대상: cutoff 이전 발생 + 잔여 0(전부 사용 또는 만료 처리 완료) + 소비한 원장도 모두 cutoff 이전인 SAVE
+    List<PointLedger> findCompactableSaveLedgers(LocalDateTime cutoff, int limit);
 }
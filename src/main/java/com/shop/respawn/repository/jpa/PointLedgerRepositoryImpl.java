@@ -3,6 +3,8 @@ package com.shop.respawn.repository.jpa;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.ComparableExpressionBase;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
@@ -10,7 +12,11 @@ import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.shop.respawn.domain.PointLedger;
 import com.shop.respawn.domain.PointTransactionType;
+import com.shop.respawn.domain.QPointConsumeLink;
+import com.shop.respawn.dto.point.PointLedgerDto;
+import com.shop.respawn.dto.point.PointLedgerTypeSumDto;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -91,15 +97,7 @@ public class PointLedgerRepositoryImpl implements PointLedgerRepositoryCustom {
     public Page<PointLedger> findByBuyerAndTypes(Long buyerId, Iterable<PointTransactionType> types, Pageable pageable) {
         BooleanBuilder where = new BooleanBuilder();
         where.and(pointLedger.buyer.id.eq(buyerId));
-        if (types != null) {
-            BooleanBuilder typeOr = new BooleanBuilder();
-            for (PointTransactionType t : types) {
-                typeOr.or(pointLedger.type.eq(t));
-            }
-            if (typeOr.hasValue()) {
-                where.and(typeOr);
-            }
-        }
+        where.and(typeIn(types));
 
         return getPointLedgers(pageable, where);
     }
@@ -144,20 +142,115 @@ public class PointLedgerRepositoryImpl implements PointLedgerRepositoryCustom {
         return sum == null ? 0L : sum;
     }
 
+    /**
+     * keyset 페이지 조회 (DTO 프로젝션, 엔티티 미생성)
+     * - where buyer = ? [and type = ?] and (occurredAt, id) < (cursorAt, cursorId) order by occurredAt desc, id desc
+     * - 타입 지정 시 idx_ledger_buyer_type_time, 전체 타입은 idx_ledger_buyer_time 순서 그대로 limit 만큼만 읽음
+     */
+    @Override
+    public List<PointLedgerDto> findPageByCursor(Long buyerId, PointTransactionType type,
+                                                 LocalDateTime from, LocalDateTime to,
+                                                 LocalDateTime cursorAt, Long cursorId, int limit) {
+        BooleanBuilder where = new BooleanBuilder();
+        where.and(pointLedger.buyer.id.eq(buyerId));
+        if (type != null) {
+            where.and(pointLedger.type.eq(type));
+        }
+        if (from != null && to != null) {
+            where.and(pointLedger.occurredAt.between(from, to));
+        }
+        if (cursorAt != null && cursorId != null) {
+            where.and(pointLedger.occurredAt.lt(cursorAt)
+                    .or(pointLedger.occurredAt.eq(cursorAt).and(pointLedger.id.lt(cursorId))));
+        }
+
+        return queryFactory
+                .select(Projections.constructor(
+                        PointLedgerDto.class,
+                        pointLedger.id,
+                        pointLedger.type,
+                        pointLedger.amount,
+                        pointLedger.occurredAt,
+                        pointLedger.expiryAt,
+                        pointLedger.refOrderId,
+                        pointLedger.reason
+                ))
+                .from(pointLedger)
+                .where(where)
+                .orderBy(pointLedger.occurredAt.desc(), pointLedger.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 원장이 있는 buyerId 를 keyset(buyer_id > after) 으로 limit건 조회
+     * - 커서 스트리밍은 MySQL 에서 useCursorFetch 없이 결과 전체를 메모리에 올리므로 페이지 단위로 읽음
+     */
+    @Override
+    public List<Long> findBuyerIdsAfter(Long after, int limit) {
+        return queryFactory
+                .select(pointLedger.buyer.id)
+                .distinct()
+                .from(pointLedger)
+                .where(pointLedger.buyer.id.gt(after))
+                .orderBy(pointLedger.buyer.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 주어진 구매자들의 (buyer, type)별 금액 합계
+     */
+    @Override
+    public List<PointLedgerTypeSumDto> findTypeSumsByBuyerIds(Collection<Long> buyerIds) {
+        if (buyerIds.isEmpty()) return List.of();
+        return queryFactory
+                .select(Projections.constructor(
+                        PointLedgerTypeSumDto.class,
+                        pointLedger.buyer.id,
+                        pointLedger.type,
+                        pointLedger.amount.sum()
+                ))
+                .from(pointLedger)
+                .where(pointLedger.buyer.id.in(buyerIds))
+                .groupBy(pointLedger.buyer.id, pointLedger.type)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .fetch();
+    }
+
+    /**
+     * 컴팩션 대상 SAVE 조회: cutoff 이전 발생 + 잔여 0 (id 오름차순)
+     * - 이 SAVE 를 소비한 USE/EXPIRE/CANCEL_USE 중 하나라도 cutoff 이후면 제외
+     *   (최근 USE 의 링크가 아카이브로 빠지면 cancelUse 가 되돌릴 링크를 찾지 못함)
+     */
+    @Override
+    public List<PointLedger> findCompactableSaveLedgers(LocalDateTime cutoff, int limit) {
+        QPointConsumeLink recentLink = new QPointConsumeLink("recentLink");
+        NumberExpression<BigDecimal> consumedSumExpr = getBigDecimalNumberExpression();
+        NumberExpression<BigDecimal> consumedSumCoalesced = getConsumedSumCoalesced(consumedSumExpr);
+        return queryFactory
+                .selectFrom(pointLedger)
+                .where(
+                        pointLedger.type.eq(PointTransactionType.SAVE),
+                        pointLedger.occurredAt.lt(cutoff),
+                        consumedSumCoalesced.goe(pointLedger.amount), // 잔여 <= 0
+                        JPAExpressions.selectOne()
+                                .from(recentLink)
+                                .where(recentLink.saveLedger.eq(pointLedger),
+                                        recentLink.useLedger.occurredAt.goe(cutoff))
+                                .notExists()
+                )
+                .orderBy(pointLedger.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
     @Override
     public Page<PointLedger> findByBuyerAndTypesAndOccurredBetween(Long buyerId, Iterable<PointTransactionType> types,
                                                                    LocalDateTime from, LocalDateTime to, Pageable pageable) {
         BooleanBuilder where = new BooleanBuilder();
         where.and(pointLedger.buyer.id.eq(buyerId));
-        if (types != null) {
-            BooleanBuilder typeOr = new BooleanBuilder();
-            for (PointTransactionType t : types) {
-                typeOr.or(pointLedger.type.eq(t));
-            }
-            if (typeOr.hasValue()) {
-                where.and(typeOr);
-            }
-        }
+        where.and(typeIn(types));
         where.and(pointLedger.occurredAt.between(from, to));
         return getPointLedgers(pageable, where);
     }
@@ -170,6 +263,13 @@ public class PointLedgerRepositoryImpl implements PointLedgerRepositoryCustom {
         return getPointLedgers(pageable, where);
     }
 
+    private static BooleanExpression typeIn(Iterable<PointTransactionType> types) {
+        if (types == null) return null;
+        List<PointTransactionType> list = new ArrayList<>();
+        types.forEach(list::add);
+        return list.isEmpty() ? null : pointLedger.type.in(list);
+    }
+
     @NotNull
     private static NumberExpression<BigDecimal> getBigDecimalNumberExpression() {
         // SUM 서브쿼리를 BigDecimal 표현식으로 래핑
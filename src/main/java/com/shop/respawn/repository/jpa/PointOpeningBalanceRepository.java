@@ -0,0 +1,16 @@
+package com.shop.respawn.repository.jpa;
+
+import com.shop.respawn.domain.PointOpeningBalance;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface PointOpeningBalanceRepository extends JpaRepository<PointOpeningBalance, Long> {
+
+    // 대사용: 기초 잔액 스냅샷이 있는 buyerId keyset 페이지 (원장이 모두 컴팩션된 구매자 포함)
+    @Query("SELECT o.buyerId FROM PointOpeningBalance o WHERE o.buyerId > :after ORDER BY o.buyerId")
+    List<Long> findBuyerIdsAfter(@Param("after") Long after, Limit limit);
+}
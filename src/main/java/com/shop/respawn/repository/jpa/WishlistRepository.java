@@ -4,7 +4,10 @@ import com.shop.respawn.domain.Wishlist;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface WishlistRepository extends JpaRepository<Wishlist, Long> {
@@ -26,4 +29,10 @@ public interface WishlistRepository extends JpaRepository<Wishlist, Long> {
 
     long countByBuyerId(Long buyerId);
 
+    /**
+     * 특정 구매자가 찜한 상품 ID 전체 (Redis 찜 Set 워밍용)
+     */
+    @Query("SELECT w.itemId FROM Wishlist w WHERE w.buyer.id = :buyerId")
+    List<String> findItemIdsByBuyerId(@Param("buyerId") Long buyerId);
+
 }
@@ -0,0 +1,16 @@
+package com.shop.respawn.repository.mongo;
+
+import com.shop.respawn.domain.ChatMessageArchive;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ChatMessageArchiveRepository extends MongoRepository<ChatMessageArchive, String> {
+
+    // 커서 일자 이전(포함) 버킷을 최신 일자순으로
+    List<ChatMessageArchive> findByRoomIdAndDayLessThanEqualOrderByDayDesc(String roomId, LocalDate day, Pageable pageable);
+
+    List<ChatMessageArchive> findByRoomIdOrderByDayDesc(String roomId, Pageable pageable);
+}
@@ -0,0 +1,31 @@
+package com.shop.respawn.repository.mongo;
+
+import com.shop.respawn.domain.ChatMessage;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface ChatMessageRepositoryCustom {
+
+    // 채팅 내역 최신순 keyset 조회 ((timestamp, _id) 가 before 커서보다 이전인 메시지)
+    List<ChatMessage> findHistory(String roomId, LocalDateTime beforeAt, String beforeId, int limit);
+
+    // 상대방이 보낸 안 읽은 메시지를 한 번의 updateMulti 로 읽음 처리
+    long markReadExceptSender(String roomId, String readerId);
+
+    // 방별·발신자별 안 읽은 메시지 수 (roomId → senderId → count, 카운터 초기화용)
+    Map<String, Map<String, Long>> countUnreadBySender(Collection<String> roomIds);
+
+    // 방별 가장 최근 메시지 (마지막 메시지 비정규화 필드 보정용)
+    List<ChatMessage> findLatestByRoomIds(Collection<String> roomIds);
+
+    // 보존 기간(cutoff) 이전 메시지가 남아 있는 방
+    List<String> findRoomIdsWithMessagesBefore(LocalDateTime cutoff);
+
+    // 방의 cutoff 이전 메시지를 오래된 순으로 limit 건
+    List<ChatMessage> findOldestBefore(String roomId, LocalDateTime cutoff, int limit);
+
+    long deleteByIds(Collection<String> ids);
+}
@@ -0,0 +1,109 @@
+package com.shop.respawn.repository.mongo;
+
+import com.shop.respawn.domain.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageRepositoryImpl implements ChatMessageRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<ChatMessage> findHistory(String roomId, LocalDateTime beforeAt, String beforeId, int limit) {
+        Criteria criteria = Criteria.where("roomId").is(roomId);
+        if (beforeAt != null) {
+            criteria = criteria.orOperator(
+                    Criteria.where("timestamp").lt(beforeAt),
+                    Criteria.where("timestamp").is(beforeAt).and("_id").lt(new ObjectId(beforeId))
+            );
+        }
+
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "timestamp", "_id"))
+                .limit(limit);
+        return mongoTemplate.find(query, ChatMessage.class);
+    }
+
+    @Override
+    public long markReadExceptSender(String roomId, String readerId) {
+        Query query = Query.query(Criteria.where("roomId").is(roomId)
+                .and("senderId").ne(readerId)
+                .and("isRead").is(false));
+        return mongoTemplate.updateMulti(query, Update.update("isRead", true), ChatMessage.class).getModifiedCount();
+    }
+
+    @Override
+    public Map<String, Map<String, Long>> countUnreadBySender(Collection<String> roomIds) {
+        Map<String, Map<String, Long>> result = new HashMap<>();
+        if (roomIds.isEmpty()) {
+            return result;
+        }
+
+        Aggregation aggregation = newAggregation(
+                match(Criteria.where("roomId").in(roomIds).and("isRead").is(false)),
+                group("roomId", "senderId").count().as("count")
+        );
+        for (Document doc : mongoTemplate.aggregate(aggregation, ChatMessage.class, Document.class)) {
+            Document id = doc.get("_id", Document.class);
+            result.computeIfAbsent(id.getString("roomId"), k -> new HashMap<>())
+                    .put(id.getString("senderId"), ((Number) doc.get("count")).longValue());
+        }
+        return result;
+    }
+
+    @Override
+    public List<ChatMessage> findLatestByRoomIds(Collection<String> roomIds) {
+        if (roomIds.isEmpty()) {
+            return List.of();
+        }
+
+        // idx_chat_room_timestamp 순서로 정렬 후 방별 첫 문서
+        Aggregation aggregation = newAggregation(
+                match(Criteria.where("roomId").in(roomIds)),
+                sort(Sort.by(Sort.Order.asc("roomId"), Sort.Order.desc("timestamp"), Sort.Order.desc("_id"))),
+                group("roomId").first(ROOT).as("latest"),
+                replaceRoot("latest")
+        );
+        return mongoTemplate.aggregate(aggregation, ChatMessage.class, ChatMessage.class).getMappedResults();
+    }
+
+    @Override
+    public List<String> findRoomIdsWithMessagesBefore(LocalDateTime cutoff) {
+        Query query = Query.query(Criteria.where("timestamp").lt(cutoff));
+        return mongoTemplate.findDistinct(query, "roomId", ChatMessage.class, String.class);
+    }
+
+    @Override
+    public List<ChatMessage> findOldestBefore(String roomId, LocalDateTime cutoff, int limit) {
+        Query query = Query.query(Criteria.where("roomId").is(roomId).and("timestamp").lt(cutoff))
+                .with(Sort.by(Sort.Direction.ASC, "timestamp", "_id"))
+                .limit(limit);
+        return mongoTemplate.find(query, ChatMessage.class);
+    }
+
+    @Override
+    public long deleteByIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return mongoTemplate.remove(Query.query(Criteria.where("_id").in(ids)), ChatMessage.class).getDeletedCount();
+    }
+}
@@ -8,10 +8,10 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ChatRoomRepository extends MongoRepository<ChatRoom, String> {
+public interface ChatRoomRepository extends MongoRepository<ChatRoom, String>, ChatRoomRepositoryCustom {
     // 특정 구매자, 판매자, 상품에 대한 채팅방이 이미 존재하는지 확인
     Optional<ChatRoom> findByBuyerIdAndSellerIdAndItemId(String buyerId, String sellerId, String itemId);
 
-    List<ChatRoom> findBySellerId(String sellerId);
-    List<ChatRoom> findByBuyerId(String buyerId);
+    List<ChatRoom> findBySellerIdOrderByLastMessageAtDesc(String sellerId);
+    List<ChatRoom> findByBuyerIdOrderByLastMessageAtDesc(String buyerId);
 }
\ No newline at end of file
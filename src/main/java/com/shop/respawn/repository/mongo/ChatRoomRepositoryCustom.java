@@ -0,0 +1,14 @@
+package com.shop.respawn.repository.mongo;
+
+import com.shop.respawn.domain.ChatMessage;
+
+import java.util.Collection;
+
+public interface ChatRoomRepositoryCustom {
+
+    // 방별 마지막 메시지 시각/미리보기 갱신 (더 최신 메시지일 때만, bulk 1회)
+    void updateLastMessages(Collection<ChatMessage> latestMessages);
+
+    // 마지막 메시지 보정 완료 표시 (메시지가 없는 방도 다시 집계하지 않도록)
+    void markLastMessageChecked(Collection<String> roomIds);
+}
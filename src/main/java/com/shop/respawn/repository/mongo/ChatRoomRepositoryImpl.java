@@ -0,0 +1,50 @@
+package com.shop.respawn.repository.mongo;
+
+import com.shop.respawn.domain.ChatMessage;
+import com.shop.respawn.domain.ChatRoom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatRoomRepositoryImpl implements ChatRoomRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void updateLastMessages(Collection<ChatMessage> latestMessages) {
+        if (latestMessages.isEmpty()) {
+            return;
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatRoom.class);
+        for (ChatMessage message : latestMessages) {
+            // 순서가 뒤바뀐 flush 가 최신 값을 덮어쓰지 않도록 시각 비교
+            Query query = Query.query(Criteria.where("_id").is(message.roomId()).orOperator(
+                    Criteria.where("lastMessageAt").exists(false),
+                    Criteria.where("lastMessageAt").is(null),
+                    Criteria.where("lastMessageAt").lt(message.timestamp())
+            ));
+            bulk.updateOne(query, new Update()
+                    .set("lastMessageAt", message.timestamp())
+                    .set("lastMessagePreview", ChatRoom.preview(message.message())));
+        }
+        bulk.execute();
+    }
+
+    @Override
+    public void markLastMessageChecked(Collection<String> roomIds) {
+        if (roomIds.isEmpty()) {
+            return;
+        }
+        mongoTemplate.updateMulti(Query.query(Criteria.where("_id").in(roomIds)),
+                new Update().set("lastMessageChecked", true), ChatRoom.class);
+    }
+}
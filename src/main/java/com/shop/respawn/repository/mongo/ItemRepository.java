@@ -8,4 +8,7 @@ import java.util.List;
 public interface ItemRepository extends MongoRepository<Item, String>, ItemRepositoryCustom {
     List<Item> findBySellerId(String sellerId);
 
+    // 상품 소유 검증 (문서 로드 없이 존재 여부만)
+    boolean existsByIdAndSellerId(String id, String sellerId);
+
 }
@@ -7,6 +7,7 @@ import com.shop.respawn.dto.item.ItemSummaryDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,7 +23,13 @@ public interface ItemRepositoryCustom {
 
     List<Item> findPartialItemsByIds(List<String> itemIds);
 
+    // 장바구니/주문 준비용 현재 가격·상태·재고·배송비 프로젝션 (한 번의 $in 조회)
+    List<Item> findCartViewItemsByIds(Collection<String> itemIds);
+
     Optional<Category> findCategoryByName(String name);
 
     List<ItemSummaryDto> findItemIdAndNameBySellerId(String sellerId);
+
+    // 리뷰 수 원자적 증감 ($inc)
+    void incrementReviewCount(String itemId, long delta);
 }
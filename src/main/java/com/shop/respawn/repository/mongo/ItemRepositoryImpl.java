@@ -15,8 +15,10 @@ import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.TextCriteria;
 import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -220,6 +222,27 @@ public class ItemRepositoryImpl implements ItemRepositoryCustom{
         }).collect(Collectors.toList());
     }
 
+    @Override
+    public List<Item> findCartViewItemsByIds(Collection<String> itemIds) {
+        if (itemIds == null || itemIds.isEmpty()) {
+            return List.of();
+        }
+
+        Query query = new Query(Criteria.where("_id").in(itemIds));
+        query.fields()
+                .include("_id")
+                .include("name")
+                .include("description")
+                .include("imageUrl")
+                .include("price")
+                .include("stockQuantity")
+                .include("status")
+                .include("sellerId")
+                .include("deliveryFee");
+
+        return mongoTemplate.find(query, Item.class);
+    }
+
     @Override
     public Optional<Category> findCategoryByName(String name) {
         if (name == null || name.isBlank()) {
@@ -244,4 +267,10 @@ public class ItemRepositoryImpl implements ItemRepositoryCustom{
                 .toList();
     }
 
+
+    @Override
+    public void incrementReviewCount(String itemId, long delta) {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(itemId)),
+                new Update().inc("reviewCount", delta), Item.class);
+    }
 }
@@ -0,0 +1,7 @@
+package com.shop.respawn.repository.mongo;
+
+import com.shop.respawn.domain.ItemReviewStats;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface ItemReviewStatsRepository extends MongoRepository<ItemReviewStats, String>, ItemReviewStatsRepositoryCustom {
+}
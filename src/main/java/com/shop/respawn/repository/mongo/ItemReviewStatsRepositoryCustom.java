@@ -0,0 +1,10 @@
+package com.shop.respawn.repository.mongo;
+
+public interface ItemReviewStatsRepositoryCustom {
+
+    // 리뷰 1건 반영 (delta = 1 작성, -1 삭제), 문서가 없으면 생성
+    void applyReview(String itemId, int rating, int delta);
+
+    // reviews 컬렉션 기준 상품 단위 재계산 (통계 문서 + item.reviewCount 를 관측 값이 그대로일 때만 덮어쓰기)
+    long rebuildAll();
+}
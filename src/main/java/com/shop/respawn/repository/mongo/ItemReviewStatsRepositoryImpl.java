@@ -0,0 +1,176 @@
+package com.shop.respawn.repository.mongo;
+
+import com.shop.respawn.domain.Item;
+import com.shop.respawn.domain.ItemReviewStats;
+import com.shop.respawn.domain.Review;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ItemReviewStatsRepositoryImpl implements ItemReviewStatsRepositoryCustom {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void applyReview(String itemId, int rating, int delta) {
+        Update update = new Update()
+                .inc("reviewCount", delta)
+                .inc("ratingSum", (long) rating * delta)
+                .inc("histogram." + rating, delta)
+                .inc("version", 1)
+                .set("updatedAt", LocalDateTime.now());
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(itemId)), update, ItemReviewStats.class);
+    }
+
+    /**
+     * 리뷰가 있는 상품 + 통계 문서가 있는 상품을 _id 순으로 BATCH_SIZE 개씩 재계산
+     * - 통계 version / item.reviewCount 를 먼저 읽고 나서 리뷰를 집계, 읽은 값 그대로일 때만 덮어씀
+     *   (그 사이 applyReview/adjustReviewCount 의 $inc 가 있었으면 건너뛰고 다시 읽어 재시도)
+     * - 리뷰가 모두 사라진 상품의 통계도 같은 조건으로 상품 단위 삭제 (전체 id 목록 $nin 없음)
+     * @return 재계산 반영된 상품 수
+     */
+    @Override
+    public long rebuildAll() {
+        long rebuilt = 0;
+        String after = null;
+        List<String> itemIds;
+        while (!(itemIds = nextItemIds(after)).isEmpty()) {
+            after = itemIds.getLast();
+            rebuilt += rebuildBatch(itemIds);
+        }
+        return rebuilt;
+    }
+
+    // 리뷰의 itemId 와 통계 _id 합집합에서 after 이후 BATCH_SIZE 개 (각각 상위 BATCH_SIZE 개면 합집합 상위를 모두 포함)
+    private List<String> nextItemIds(String after) {
+        TreeSet<String> ids = new TreeSet<>();
+
+        Criteria reviewCriteria = after == null ? Criteria.where("itemId").ne(null) : Criteria.where("itemId").gt(after);
+        Aggregation aggregation = newAggregation(
+                match(reviewCriteria),
+                group("itemId"),
+                sort(Sort.Direction.ASC, "_id"),
+                limit(BATCH_SIZE)
+        );
+        mongoTemplate.aggregate(aggregation, mongoTemplate.getCollectionName(Review.class), Document.class)
+                .forEach(doc -> ids.add(doc.getString("_id")));
+
+        Query statsQuery = new Query(after == null ? new Criteria() : Criteria.where("_id").gt(after))
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .limit(BATCH_SIZE);
+        statsQuery.fields().include("_id");
+        mongoTemplate.find(statsQuery, ItemReviewStats.class).forEach(stats -> ids.add(stats.getItemId()));
+
+        return ids.stream().limit(BATCH_SIZE).toList();
+    }
+
+    private long rebuildBatch(List<String> itemIds) {
+        long rebuilt = 0;
+        List<String> pending = itemIds;
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS && !pending.isEmpty(); attempt++) {
+            // 관측 값을 집계보다 먼저 읽어야 집계 이후의 증분을 조건부 쓰기에서 감지할 수 있음
+            Map<String, ItemReviewStats> statsById = new HashMap<>();
+            mongoTemplate.find(Query.query(Criteria.where("_id").in(pending)), ItemReviewStats.class)
+                    .forEach(stats -> statsById.put(stats.getItemId(), stats));
+            Query itemQuery = Query.query(Criteria.where("_id").in(pending));
+            itemQuery.fields().include("reviewCount");
+            Map<String, Long> reviewCountById = new HashMap<>();
+            mongoTemplate.find(itemQuery, Item.class)
+                    .forEach(item -> reviewCountById.put(item.getId(), item.getReviewCount()));
+            Map<String, Map<Integer, Long>> countsByItem = countByRating(pending);
+
+            List<String> conflicted = new ArrayList<>();
+            for (String itemId : pending) {
+                ItemReviewStats rebuiltStats = ItemReviewStats.of(itemId, countsByItem.getOrDefault(itemId, Map.of()));
+                if (writeStats(rebuiltStats, statsById.get(itemId))
+                        && writeItemReviewCount(itemId, reviewCountById, rebuiltStats.getReviewCount())) {
+                    rebuilt++;
+                } else {
+                    conflicted.add(itemId);
+                }
+            }
+            pending = conflicted;
+        }
+        if (!pending.isEmpty()) {
+            log.warn("리뷰 통계 재계산 중 동시 갱신으로 건너뜀 - {}개 상품 (다음 재계산에서 처리)", pending.size());
+        }
+        return rebuilt;
+    }
+
+    private Map<String, Map<Integer, Long>> countByRating(List<String> itemIds) {
+        Aggregation aggregation = newAggregation(
+                match(Criteria.where("itemId").in(itemIds)),
+                group("itemId", "rating").count().as("count")
+        );
+        Map<String, Map<Integer, Long>> countsByItem = new HashMap<>();
+        mongoTemplate.aggregate(aggregation, mongoTemplate.getCollectionName(Review.class), Document.class)
+                .forEach(doc -> {
+                    Document key = doc.get("_id", Document.class);
+                    Number rating = key.get("rating", Number.class);
+                    Number count = doc.get("count", Number.class);
+                    countsByItem.computeIfAbsent(key.getString("itemId"), k -> new HashMap<>())
+                            .merge(rating.intValue(), count.longValue(), Long::sum);
+                });
+        return countsByItem;
+    }
+
+    // 관측한 version 그대로일 때만 덮어쓰기/삭제, 관측 시 없던 문서는 insert (동시 생성되면 중복 키로 실패)
+    private boolean writeStats(ItemReviewStats rebuilt, ItemReviewStats observed) {
+        if (observed == null) {
+            if (rebuilt.getReviewCount() == 0) return true;
+            try {
+                mongoTemplate.insert(rebuilt);
+                return true;
+            } catch (DuplicateKeyException e) {
+                return false;
+            }
+        }
+
+        Criteria criteria = Criteria.where("_id").is(rebuilt.getItemId());
+        criteria = observed.getVersion() == null
+                ? criteria.and("version").exists(false)
+                : criteria.and("version").is(observed.getVersion());
+        if (rebuilt.getReviewCount() == 0) {
+            return mongoTemplate.remove(Query.query(criteria), ItemReviewStats.class).getDeletedCount() > 0;
+        }
+        return mongoTemplate.updateFirst(Query.query(criteria), new Update()
+                .set("reviewCount", rebuilt.getReviewCount())
+                .set("ratingSum", rebuilt.getRatingSum())
+                .set("histogram", rebuilt.getHistogram())
+                .set("updatedAt", rebuilt.getUpdatedAt())
+                .inc("version", 1), ItemReviewStats.class).getMatchedCount() > 0;
+    }
+
+    // item.reviewCount 도 관측 값 그대로일 때만 덮어씀 (상품이 없으면 건너뜀)
+    private boolean writeItemReviewCount(String itemId, Map<String, Long> reviewCountById, long reviewCount) {
+        if (!reviewCountById.containsKey(itemId)) return true;
+        Long observed = reviewCountById.get(itemId);
+        if (observed != null && observed == reviewCount) return true;
+
+        Criteria criteria = Criteria.where("_id").is(itemId);
+        criteria = observed == null || observed == 0
+                ? criteria.and("reviewCount").in(0L, null)
+                : criteria.and("reviewCount").is(observed);
+        return mongoTemplate.updateFirst(Query.query(criteria),
+                new Update().set("reviewCount", reviewCount), Item.class).getMatchedCount() > 0;
+    }
+}
@@ -7,7 +7,7 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.util.List;
 
-public interface ProductInquiryRepository extends MongoRepository<ProductInquiry, String> {
+public interface ProductInquiryRepository extends MongoRepository<ProductInquiry, String>, ProductInquiryRepositoryCustom {
 
     Page<ProductInquiry> findByBuyerId(String buyerId, Pageable pageable);
 
@@ -0,0 +1,24 @@
+package com.shop.respawn.repository.mongo;
+
+import com.shop.respawn.domain.InquiryStatus;
+import com.shop.respawn.domain.ProductInquiry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface ProductInquiryRepositoryCustom {
+
+    // 상품별 문의: status / openToPublic 필터를 쿼리에 포함 (null 이면 조건 없음), 필터 기준 total
+    Page<ProductInquiry> findByItemIdFiltered(String itemId, InquiryStatus status, Boolean openToPublic, Pageable pageable);
+
+    // 상품별 문의 (questionDate, _id) desc keyset, cursorAt 이 null 이면 첫 페이지
+    List<ProductInquiry> findByItemIdCursor(String itemId, InquiryStatus status, Boolean openToPublic,
+                                            LocalDateTime cursorAt, String cursorId, int limit);
+
+    // 상품별 미답변(WAITING) 문의 수 (문의가 없는 상품은 키 없음)
+    Map<String, Long> countWaitingByItemIds(Collection<String> itemIds);
+}
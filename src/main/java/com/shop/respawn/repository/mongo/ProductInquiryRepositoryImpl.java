@@ -0,0 +1,87 @@
+package com.shop.respawn.repository.mongo;
+
+import com.shop.respawn.domain.InquiryStatus;
+import com.shop.respawn.domain.ProductInquiry;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductInquiryRepositoryImpl implements ProductInquiryRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Page<ProductInquiry> findByItemIdFiltered(String itemId, InquiryStatus status, Boolean openToPublic, Pageable pageable) {
+        Criteria criteria = itemCriteria(itemId, status, openToPublic);
+        Query query = Query.query(criteria).with(pageable);
+        List<ProductInquiry> content = mongoTemplate.find(query, ProductInquiry.class);
+
+        // 마지막 페이지 등 content 로 total 을 알 수 있으면 count 생략
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> mongoTemplate.count(Query.query(criteria), ProductInquiry.class));
+    }
+
+    @Override
+    public List<ProductInquiry> findByItemIdCursor(String itemId, InquiryStatus status, Boolean openToPublic,
+                                                   LocalDateTime cursorAt, String cursorId, int limit) {
+        Criteria criteria = itemCriteria(itemId, status, openToPublic);
+        if (cursorAt != null) {
+            criteria = criteria.orOperator(
+                    Criteria.where("questionDate").lt(cursorAt),
+                    Criteria.where("questionDate").is(cursorAt).and("_id").lt(new ObjectId(cursorId))
+            );
+        }
+
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "questionDate", "_id"))
+                .limit(limit);
+        return mongoTemplate.find(query, ProductInquiry.class);
+    }
+
+    @Override
+    public Map<String, Long> countWaitingByItemIds(Collection<String> itemIds) {
+        Map<String, Long> result = new HashMap<>();
+        if (itemIds.isEmpty()) {
+            return result;
+        }
+
+        Aggregation aggregation = newAggregation(
+                match(Criteria.where("itemId").in(itemIds).and("status").is(InquiryStatus.WAITING)),
+                group("itemId").count().as("count")
+        );
+        for (Document doc : mongoTemplate.aggregate(aggregation, ProductInquiry.class, Document.class)) {
+            result.put(doc.getString("_id"), ((Number) doc.get("count")).longValue());
+        }
+        return result;
+    }
+
+    private Criteria itemCriteria(String itemId, InquiryStatus status, Boolean openToPublic) {
+        Criteria criteria = Criteria.where("itemId").is(itemId);
+        if (status != null) {
+            criteria = criteria.and("status").is(status);
+        }
+        if (openToPublic != null) {
+            criteria = criteria.and("openToPublic").is(openToPublic);
+        }
+        return criteria;
+    }
+}
@@ -4,11 +4,13 @@ import com.shop.respawn.domain.Review;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface ReviewRepository extends MongoRepository<Review, String> {
+public interface ReviewRepository extends MongoRepository<Review, String>, ReviewRepositoryCustom {
     // 특정 주문 아이템에 리뷰가 이미 있는지 체크
     Optional<Review> findByOrderItemId(String orderItemId);
 
@@ -16,16 +18,17 @@ public interface ReviewRepository extends MongoRepository<Review, String> {
 
     List<Review> findByBuyerId(String buyerId);
 
-    Page<Review> findByItemIdIn(List<String> itemIds, Pageable pageable);
-
     Page<Review> findByItemId(String itemId, Pageable pageable);
 
-    // 특정 아이템의 리뷰 평균 점수와 총 개수만 계산해서 가져오기
-    @org.springframework.data.mongodb.repository.Aggregation(pipeline = {
-            "{ '$match': { 'itemId': ?0 } }",
-            "{ '$group': { '_id': '$itemId', 'averageRating': { '$avg': '$rating' }, 'totalReviews': { '$sum': 1 } } }"
-    })
-    com.shop.respawn.dto.review.ReviewStatsDto getReviewStatsByItemId(String itemId);
+    // 판매자 리뷰 (idx_review_seller_created)
+    Page<Review> findBySellerId(String sellerId, Pageable pageable);
 
     long countByBuyerId(String buyerId);
+
+    // 리뷰 작성 여부 백필용: orderItemId 만 커서로 스트리밍
+    @Query(value = "{ 'orderItemId': { '$ne': null } }", fields = "{ 'orderItemId': 1 }")
+    Stream<Review> streamOrderItemIds();
+
+    // 본인 리뷰만 삭제 (삭제된 건수 반환)
+    long deleteByIdAndBuyerId(String id, String buyerId);
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.shop.respawn.repository.mongo;
+
+import com.shop.respawn.domain.Review;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ReviewRepositoryCustom {
+
+    // 판매자 리뷰 피드 (createdDate, _id) desc keyset, cursorAt 이 null 이면 첫 페이지
+    List<Review> findSellerFeed(String sellerId, String itemId, LocalDateTime cursorAt, String cursorId, int limit);
+
+    // sellerId 가 없는 기존 리뷰에 상품의 sellerId 를 채움 (갱신된 리뷰 수 반환)
+    long backfillSellerIds();
+}
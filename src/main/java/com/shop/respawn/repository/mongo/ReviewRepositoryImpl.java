@@ -0,0 +1,80 @@
+package com.shop.respawn.repository.mongo;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.shop.respawn.domain.Item;
+import com.shop.respawn.domain.Review;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
+
+    private static final int BULK_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<Review> findSellerFeed(String sellerId, String itemId, LocalDateTime cursorAt, String cursorId, int limit) {
+        Criteria criteria = Criteria.where("sellerId").is(sellerId);
+        if (itemId != null) {
+            criteria = criteria.and("itemId").is(itemId);
+        }
+        if (cursorAt != null) {
+            criteria = criteria.orOperator(
+                    Criteria.where("createdDate").lt(cursorAt),
+                    Criteria.where("createdDate").is(cursorAt).and("_id").lt(new ObjectId(cursorId))
+            );
+        }
+
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "createdDate", "_id"))
+                .limit(limit);
+        return mongoTemplate.find(query, Review.class);
+    }
+
+    @Override
+    public long backfillSellerIds() {
+        // 1) sellerId 가 비어 있는 리뷰의 상품 ID 목록
+        Query missing = Query.query(Criteria.where("sellerId").exists(false));
+        List<String> itemIds = mongoTemplate.findDistinct(missing, "itemId", Review.class, String.class);
+
+        long updated = 0;
+        for (int from = 0; from < itemIds.size(); from += BULK_SIZE) {
+            List<String> chunk = itemIds.subList(from, Math.min(from + BULK_SIZE, itemIds.size()));
+
+            // 2) 상품별 sellerId 만 조회
+            Query itemQuery = Query.query(Criteria.where("_id").in(chunk));
+            itemQuery.fields().include("sellerId");
+            List<Item> items = mongoTemplate.find(itemQuery, Item.class);
+
+            // 3) 상품 단위 updateMulti 를 bulk 로 전송
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Review.class);
+            int ops = 0;
+            for (Item item : items) {
+                if (item.getSellerId() == null) {
+                    continue;
+                }
+                bulk.updateMulti(
+                        Query.query(Criteria.where("itemId").is(item.getId()).and("sellerId").exists(false)),
+                        Update.update("sellerId", item.getSellerId()));
+                ops++;
+            }
+            if (ops > 0) {
+                BulkWriteResult result = bulk.execute();
+                updated += result.getModifiedCount();
+            }
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,57 @@
+package com.shop.respawn.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.shop.respawn.repository.jpa.BuyerRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 구매자 ID → 표시명(username) 로컬 캐시 (크기/시간 제한)
+ * - 리뷰/문의/채팅 목록의 작성자 표시용, 캐시 미스인 ID 만 모아 id/username 프로젝션 1회 조회
+ * - 마스킹 정책이 화면마다 달라 원본을 보관하고 조회 시 마스킹 (maskMiddleFourChars / maskUsername)
+ * - 프로필 변경 시 evict
+ */
+@Component
+public class BuyerDisplayNameCache {
+
+    private final BuyerRepository buyerRepository;
+    private final Cache<Long, String> usernames;
+
+    public BuyerDisplayNameCache(BuyerRepository buyerRepository,
+                                 @Value("${display-name.cache.max-size:100000}") long maxSize,
+                                 @Value("${display-name.cache.expire-minutes:30}") long expireMinutes) {
+        this.buyerRepository = buyerRepository;
+        this.usernames = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+                .build();
+    }
+
+    /**
+     * 구매자 ID → username (존재하지 않는 구매자는 키 없음)
+     */
+    public Map<Long, String> usernames(Collection<Long> buyerIds) {
+        List<Long> ids = buyerIds.stream().filter(Objects::nonNull).distinct().toList();
+        return usernames.getAll(ids, missing -> buyerRepository.findUsernamesByIds(List.copyOf(missing)));
+    }
+
+    public String username(Long buyerId, String defaultName) {
+        if (buyerId == null) {
+            return defaultName;
+        }
+        return usernames(List.of(buyerId)).getOrDefault(buyerId, defaultName);
+    }
+
+    public void evict(Long buyerId) {
+        if (buyerId != null) {
+            usernames.invalidate(buyerId);
+        }
+    }
+}
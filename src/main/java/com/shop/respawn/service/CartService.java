@@ -4,32 +4,232 @@ import com.shop.respawn.domain.Buyer;
 import com.shop.respawn.domain.Cart;
 import com.shop.respawn.domain.CartItem;
 import com.shop.respawn.domain.Item;
+import com.shop.respawn.dto.CartLine;
+import com.shop.respawn.dto.CartView;
+import com.shop.respawn.repository.jdbc.CartJdbcRepository;
 import com.shop.respawn.repository.jpa.BuyerRepository;
 import com.shop.respawn.repository.jpa.CartRepository;
 import com.shop.respawn.repository.mongo.ItemRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.List;
+import java.time.Duration;
+import java.util.*;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class CartService {
 
+    /*
+     * 장바구니는 Redis Hash 가 원본, cart / cart_item 테이블은 write-behind 사본
+     * - 구매자: cart:{buyerId}, 비회원: cart:guest:{guestId} (비회원은 DB 에 저장하지 않고 TTL 로만 유지)
+     * - 필드: _w(워밍 마커), i:{itemId} → cartItemId, t:{cartItemId} → itemId, p:{cartItemId} → 담은 가격, c:{cartItemId} → 수량
+     * - cartItemId 는 cart:item-seq INCR 로 발급 (기동 시, 그리고 실행 중 시퀀스 키가 사라지면 cart_item 전역 최대 id 로 시드)
+     *   → 기존 API 의 cartItemId 그대로 유지
+     * - 변경은 Lua 스크립트 1회 (마커가 없으면 COLD 반환 → DB 에서 워밍 후 재시도), 변경된 구매자는 cart:dirty 에 기록
+     * - CartFlushScheduler 가 cart:dirty 를 꺼내 구매자 단위로 cart_item 행을 스냅샷으로 교체
+     */
+    private static final String KEY_PREFIX = "cart:";
+    private static final String GUEST_PREFIX = "guest:";
+    private static final String DIRTY_KEY = "cart:dirty";
+    private static final String SEQ_KEY = "cart:item-seq";
+    private static final String FLUSH_LOCK_PREFIX = "cart:flush-lock:";
+    private static final String WARM_FIELD = "_w";
+
+    private static final long COLD = -1L;
+    private static final long LINE_NOT_FOUND = -2L;
+    private static final long BELOW_MINIMUM = -3L;
+    private static final long SEQ_MISSING = -4L;
+
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HEXISTS', KEYS[1], '_w') == 0 then
+                if ARGV[6] ~= '1' then return -1 end
+                redis.call('HSET', KEYS[1], '_w', '1')
+            end
+            local id = redis.call('HGET', KEYS[1], 'i:' .. ARGV[1])
+            if not id then
+                if redis.call('EXISTS', KEYS[3]) == 0 then return -4 end
+                id = tostring(redis.call('INCR', KEYS[3]))
+                redis.call('HSET', KEYS[1], 'i:' .. ARGV[1], id, 't:' .. id, ARGV[1], 'p:' .. id, ARGV[2])
+            end
+            local count = redis.call('HINCRBY', KEYS[1], 'c:' .. id, ARGV[3])
+            if ARGV[4] ~= '' then redis.call('SADD', KEYS[2], ARGV[4]) end
+            redis.call('EXPIRE', KEYS[1], ARGV[5])
+            return count
+            """, Long.class);
+
+    private static final RedisScript<Long> CHANGE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HEXISTS', KEYS[1], '_w') == 0 then return -1 end
+            local current = redis.call('HGET', KEYS[1], 'c:' .. ARGV[1])
+            if not current then return -2 end
+            if tonumber(current) + tonumber(ARGV[2]) < 1 then return -3 end
+            local count = redis.call('HINCRBY', KEYS[1], 'c:' .. ARGV[1], ARGV[2])
+            if ARGV[3] ~= '' then redis.call('SADD', KEYS[2], ARGV[3]) end
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            return count
+            """, Long.class);
+
+    // ARGV[3] == 'item' 이면 ARGV[4..] 를 itemId 로, 아니면 cartItemId 로 해석
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HEXISTS', KEYS[1], '_w') == 0 then return -1 end
+            local removed = 0
+            for i = 4, #ARGV do
+                local id, itemId
+                if ARGV[3] == 'item' then
+                    itemId = ARGV[i]
+                    id = redis.call('HGET', KEYS[1], 'i:' .. itemId)
+                else
+                    id = ARGV[i]
+                    itemId = redis.call('HGET', KEYS[1], 't:' .. id)
+                end
+                if id and itemId then
+                    redis.call('HDEL', KEYS[1], 'i:' .. itemId, 't:' .. id, 'p:' .. id, 'c:' .. id)
+                    removed = removed + 1
+                end
+            end
+            if removed > 0 then
+                if ARGV[1] ~= '' then redis.call('SADD', KEYS[2], ARGV[1]) end
+                redis.call('EXPIRE', KEYS[1], ARGV[2])
+            end
+            return removed
+            """, Long.class);
+
+    // 비우기는 이전 상태가 필요 없으므로 워밍 없이 빈 장바구니(마커만)로 교체
+    private static final RedisScript<Long> CLEAR_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], '_w', '1')
+            if ARGV[1] ~= '' then redis.call('SADD', KEYS[2], ARGV[1]) end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    // 이미 워밍된 장바구니는 덮어쓰지 않음 (동시 워밍 시 먼저 반영된 변경 보존)
+    // 시퀀스는 이미 있을 때만 올림 - 없는 시퀀스를 이 장바구니 최대값으로 만들면 다른 장바구니 id 와 충돌하므로 전역 시드에 맡김
+    private static final RedisScript<Long> WARM_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HEXISTS', KEYS[1], '_w') == 1 then return 0 end
+            redis.call('HSET', KEYS[1], '_w', '1')
+            for i = 3, #ARGV, 2 do
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            local seq = redis.call('GET', KEYS[2])
+            if seq and tonumber(seq) < tonumber(ARGV[2]) then
+                redis.call('SET', KEYS[2], ARGV[2])
+            end
+            return 1
+            """, Long.class);
+
+    // 본인 토큰일 때만 flush 잠금 해제 (TTL 만료 후 다른 노드가 잡은 잠금 보존)
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>("""
+            local seq = redis.call('GET', KEYS[1])
+            if not seq or tonumber(seq) < tonumber(ARGV[1]) then
+                redis.call('SET', KEYS[1], ARGV[1])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    // 비회원 장바구니를 구매자 장바구니로 합침 (같은 상품은 수량 합산, 담은 가격은 구매자 쪽 유지)
+    private static final RedisScript<Long> MERGE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HEXISTS', KEYS[1], '_w') == 0 then return -1 end
+            local fields = redis.call('HGETALL', KEYS[2])
+            local guest = {}
+            for i = 1, #fields, 2 do guest[fields[i]] = fields[i + 1] end
+            local merged = 0
+            for field, id in pairs(guest) do
+                if string.sub(field, 1, 2) == 'i:' and guest['c:' .. id] then
+                    local target = redis.call('HGET', KEYS[1], field)
+                    if not target then
+                        target = id
+                        redis.call('HSET', KEYS[1], field, id, 't:' .. id, string.sub(field, 3), 'p:' .. id, guest['p:' .. id])
+                    end
+                    redis.call('HINCRBY', KEYS[1], 'c:' .. target, guest['c:' .. id])
+                    merged = merged + 1
+                end
+            end
+            redis.call('DEL', KEYS[2])
+            if merged > 0 then redis.call('SADD', KEYS[3], ARGV[1]) end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return merged
+            """, Long.class);
+
     private final CartRepository cartRepository;
+    private final CartJdbcRepository cartJdbcRepository;
     private final BuyerRepository buyerRepository;
     private final ItemRepository itemRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${cart.redis.ttl-days:7}")
+    private long cartTtlDays;
+
+    @Value("${cart.guest.ttl-days:3}")
+    private long guestTtlDays;
+
+    @Value("${cart.write-behind.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    /**
+     * 장바구니 소유자 (로그인 구매자 또는 비회원 쿠키 식별자)
+     */
+    public record CartOwner(Long buyerId, String guestId) {
+
+        public static CartOwner buyer(Long buyerId) {
+            return new CartOwner(buyerId, null);
+        }
+
+        public static CartOwner guest(String guestId) {
+            return new CartOwner(null, guestId);
+        }
+
+        public boolean isBuyer() {
+            return buyerId != null;
+        }
+    }
+
+    public Duration guestCartTtl() {
+        return Duration.ofDays(guestTtlDays);
+    }
+
+    /**
+     * cartItemId 시퀀스를 DB 최대값 이상으로 맞춤 (Redis 가 비워진 경우 id 충돌 방지)
+     * 기동 시 외에도 ADD 스크립트가 시퀀스 없음(SEQ_MISSING)을 알리면 다시 호출
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedCartItemSequence() {
+        Long maxId = cartRepository.findMaxCartItemId();
+        Long seeded = redisTemplate.execute(SEED_SCRIPT, List.of(SEQ_KEY), String.valueOf(maxId));
+        if (Long.valueOf(1L).equals(seeded)) {
+            log.info("장바구니 아이템 시퀀스 시드: {}", maxId);
+        }
+    }
 
     /**
      * 장바구니에 상품 추가
      */
     public void addItemToCart(Long buyerId, String itemId, Long count) {
-        // 구매자 조회
-        Buyer buyer = buyerRepository.findById(buyerId)
-                .orElseThrow(() -> new RuntimeException("구매자를 찾을 수 없습니다: " + buyerId));
+        addItemToCart(CartOwner.buyer(buyerId), itemId, count);
+    }
+
+    public void addItemToCart(CartOwner owner, String itemId, Long count) {
+        if (count == null || count <= 0) {
+            throw new IllegalArgumentException("수량은 1개 이상이어야 합니다.");
+        }
 
         // 상품 조회
         Item item = itemRepository.findById(itemId)
@@ -40,110 +240,305 @@ public class CartService {
             throw new RuntimeException("재고가 부족합니다. 현재 재고: " + item.getStockQuantity());
         }
 
-        // 구매자의 장바구니 조회 또는 생성
-        Cart cart = cartRepository.findByBuyerId(buyerId)
-                .orElseGet(() -> {
-                    Cart newCart = new Cart();
-                    newCart.setBuyer(buyer);
-                    return cartRepository.save(newCart);
-                });
-
-        // 이미 장바구니에 있는 상품인지 확인
-        boolean itemExists = false;
-        for (CartItem cartItem : cart.getCartItems()) {
-            if (cartItem.getItemId().equals(itemId)) {
-                // 기존 수량에 추가
-                cartItem.increaseQuantity(count);
-                itemExists = true;
-                break;
-            }
+        // 이미 담긴 상품이면 수량만 증가, 새 상품이면 현재 가격으로 한 줄 추가
+        Object[] args = {itemId, String.valueOf(item.getPrice()), String.valueOf(count),
+                dirtyMember(owner), ttlSeconds(owner), owner.isBuyer() ? "0" : "1"};
+        List<String> keys = List.of(key(owner), DIRTY_KEY, SEQ_KEY);
+        long result = execute(owner, ADD_SCRIPT, keys, args);
+        if (result == SEQ_MISSING) {
+            // 실행 중 Redis 재시작/flush 로 시퀀스가 사라진 경우 DB 전역 최대값으로 다시 시드 후 재시도
+            seedCartItemSequence();
+            result = execute(owner, ADD_SCRIPT, keys, args);
         }
-
-        // 새로운 상품이면 장바구니에 추가
-        if (!itemExists) {
-            CartItem cartItem = CartItem.createCartItem(cart, itemId, item.getPrice(), count);
-            cart.addCartItem(cartItem);
+        if (result == COLD || result == SEQ_MISSING) {
+            throw new IllegalStateException("장바구니를 불러오지 못했습니다.");
         }
-
-        cartRepository.save(cart);
     }
 
     /**
-     * 장바구니 조회
+     * 장바구니 조회 (cartItemId 오름차순)
      */
-    public Cart getCartByBuyerId(Long buyerId) {
-        return cartRepository.findByBuyerId(buyerId)
-                .orElse(null);
+    public List<CartLine> getCartLines(Long buyerId) {
+        return getCartLines(CartOwner.buyer(buyerId));
+    }
+
+    public List<CartLine> getCartLines(CartOwner owner) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(key(owner));
+        if (!entries.containsKey(WARM_FIELD) && owner.isBuyer()) {
+            warm(owner.buyerId());
+            entries = redisTemplate.opsForHash().entries(key(owner));
+        }
+        return toLines(entries);
     }
 
     /**
      * 장바구니 아이템 수량 증가
      */
     public void increaseCartItemQuantity(Long buyerId, Long cartItemId, Long amount) {
-        Cart cart = cartRepository.findByBuyerId(buyerId)
-                .orElseThrow(() -> new RuntimeException("장바구니를 찾을 수 없습니다"));
-
-        CartItem cartItem = cart.getCartItems().stream()
-                .filter(item -> item.getId().equals(cartItemId))
-                .findFirst()
-                .orElseThrow(() -> new RuntimeException("장바구니 아이템을 찾을 수 없습니다"));
+        increaseCartItemQuantity(CartOwner.buyer(buyerId), cartItemId, amount);
+    }
 
-        cartItem.increaseQuantity(amount);
-        cartRepository.save(cart);
+    public void increaseCartItemQuantity(CartOwner owner, Long cartItemId, Long amount) {
+        if (amount == null || amount <= 0) {
+            throw new IllegalArgumentException("증가량은 0보다 커야 합니다.");
+        }
+        changeQuantity(owner, cartItemId, amount);
     }
 
     /**
      * 장바구니 아이템 수량 감소
      */
     public void decreaseCartItemQuantity(Long buyerId, Long cartItemId, Long amount) {
-        Cart cart = cartRepository.findByBuyerId(buyerId)
-                .orElseThrow(() -> new RuntimeException("장바구니를 찾을 수 없습니다"));
+        decreaseCartItemQuantity(CartOwner.buyer(buyerId), cartItemId, amount);
+    }
 
-        CartItem cartItem = cart.getCartItems().stream()
-                .filter(item -> item.getId().equals(cartItemId))
-                .findFirst()
-                .orElseThrow(() -> new RuntimeException("장바구니 아이템을 찾을 수 없습니다"));
+    public void decreaseCartItemQuantity(CartOwner owner, Long cartItemId, Long amount) {
+        if (amount == null || amount <= 0) {
+            throw new IllegalArgumentException("감소량은 0보다 커야 합니다.");
+        }
+        changeQuantity(owner, cartItemId, -amount);
+    }
 
-        cartItem.decreaseQuantity(amount);
-        cartRepository.save(cart);
+    private void changeQuantity(CartOwner owner, Long cartItemId, long delta) {
+        long result = execute(owner, CHANGE_SCRIPT, List.of(key(owner), DIRTY_KEY),
+                String.valueOf(cartItemId), String.valueOf(delta), dirtyMember(owner), ttlSeconds(owner));
+        if (result == COLD || result == LINE_NOT_FOUND) {
+            throw new RuntimeException("장바구니 아이템을 찾을 수 없습니다");
+        }
+        if (result == BELOW_MINIMUM) {
+            throw new IllegalArgumentException("수량은 1개 이상이어야 합니다.");
+        }
     }
 
     /**
      * 장바구니에서 아이템 제거
      */
     public void removeCartItem(Long buyerId, List<Long> cartItemIds) {
+        removeCartItem(CartOwner.buyer(buyerId), cartItemIds);
+    }
+
+    public void removeCartItem(CartOwner owner, List<Long> cartItemIds) {
         if (cartItemIds == null || cartItemIds.isEmpty()) {
             return;
         }
 
-        int deletedCount = cartRepository.deleteByIdsAndBuyerId(buyerId, cartItemIds);
+        long removed = remove(owner, "line", cartItemIds.stream().map(String::valueOf).toList());
 
-        if (deletedCount == 0) {
+        if (removed <= 0) {
             throw new EntityNotFoundException("삭제할 장바구니 아이템을 찾을 수 없거나, 소유자가 일치하지 않습니다.");
         }
     }
 
     /**
-     * 장바구니 전체 금액 계산
+     * 주문 완료된 상품을 장바구니에서 제거 (주문 트랜잭션 커밋 후 반영)
      */
-    @Transactional(readOnly = true)
-    public Long calculateTotalPrice(Long buyerId) {
-        Cart cart = getCartByBuyerId(buyerId);
-        if (cart == null) return 0L; // Long 리터럴
+    public void removeOrderedItems(Long buyerId, Collection<String> itemIds) {
+        if (itemIds.isEmpty()) {
+            return;
+        }
+        List<String> ids = List.copyOf(itemIds);
+        Runnable removal = () -> {
+            long removed = remove(CartOwner.buyer(buyerId), "item", ids);
+            log.info("주문 완료 상품 장바구니 제거 - buyerId={}, {}건", buyerId, Math.max(removed, 0));
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            removal.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                removal.run();
+            }
+        });
+    }
 
-        return cart.getCartItems().stream()
-                .mapToLong(CartItem::getTotalPrice) // long 타입 스트림으로 변환
-                .sum();
+    private long remove(CartOwner owner, String mode, List<String> ids) {
+        List<String> args = new ArrayList<>(ids.size() + 3);
+        args.add(dirtyMember(owner));
+        args.add(ttlSeconds(owner));
+        args.add(mode);
+        args.addAll(ids);
+        return execute(owner, REMOVE_SCRIPT, List.of(key(owner), DIRTY_KEY), args.toArray());
+    }
+
+    /**
+     * 현재 가격/상태/재고를 반영한 장바구니 (상품은 프로젝션 $in 조회 1회)
+     */
+    public CartView getCartView(Long buyerId) {
+        return getCartView(CartOwner.buyer(buyerId));
+    }
+
+    public CartView getCartView(CartOwner owner) {
+        List<CartLine> lines = getCartLines(owner);
+        if (lines.isEmpty()) {
+            return new CartView(List.of());
+        }
+        List<String> itemIds = lines.stream().map(CartLine::itemId).distinct().toList();
+        Map<String, Item> items = new HashMap<>();
+        for (Item item : itemRepository.findCartViewItemsByIds(itemIds)) {
+            items.put(item.getId(), item);
+        }
+        return new CartView(lines.stream()
+                .map(line -> new CartView.Line(line, items.get(line.itemId())))
+                .toList());
+    }
+
+    /**
+     * 장바구니 전체 금액 계산 (주문 가능한 상품만, 현재 가격 기준)
+     */
+    public Long calculateTotalPrice(Long buyerId) {
+        return getCartView(buyerId).totalPrice();
     }
 
     /**
      * 장바구니 비우기 (아이템만 제거, 장바구니는 유지)
      */
     public void clearCart(Long buyerId) {
-        Cart cart = cartRepository.findByBuyerId(buyerId)
-                .orElseThrow(() -> new RuntimeException("장바구니를 찾을 수 없습니다"));
+        clearCart(CartOwner.buyer(buyerId));
+    }
+
+    public void clearCart(CartOwner owner) {
+        redisTemplate.execute(CLEAR_SCRIPT, List.of(key(owner), DIRTY_KEY), dirtyMember(owner), ttlSeconds(owner));
+    }
+
+    /**
+     * 로그인 시 비회원 장바구니를 구매자 장바구니로 병합
+     * @return 병합된 상품 줄 수
+     */
+    public long mergeGuestCart(String guestId, Long buyerId) {
+        if (guestId == null || buyerId == null) {
+            return 0;
+        }
+        CartOwner buyer = CartOwner.buyer(buyerId);
+        long merged = execute(buyer, MERGE_SCRIPT,
+                List.of(key(buyer), key(CartOwner.guest(guestId)), DIRTY_KEY),
+                String.valueOf(buyerId), ttlSeconds(buyer));
+        if (merged > 0) {
+            log.info("비회원 장바구니 병합 - buyerId={}, {}건", buyerId, merged);
+        }
+        return Math.max(merged, 0);
+    }
+
+    /**
+     * write-behind: 변경된 구매자 장바구니를 cart_item 에 반영 (CartFlushScheduler)
+     */
+    public void flushDirty() {
+        while (true) {
+            List<String> buyerIds = redisTemplate.opsForSet().pop(DIRTY_KEY, flushBatchSize);
+            if (buyerIds == null || buyerIds.isEmpty()) {
+                return;
+            }
+            for (String id : buyerIds) {
+                try {
+                    flushCart(Long.valueOf(id));
+                } catch (RuntimeException e) {
+                    log.warn("장바구니 DB 반영 실패 - buyerId={}", id, e);
+                    redisTemplate.opsForSet().add(DIRTY_KEY, id);
+                }
+            }
+            if (buyerIds.size() < flushBatchSize) {
+                return;
+            }
+        }
+    }
+
+    // 스냅샷 역전을 막기 위해 구매자 단위 잠금 (잠금 실패 시 다음 주기로 미룸)
+    private void flushCart(Long buyerId) {
+        String lockKey = FLUSH_LOCK_PREFIX + buyerId;
+        String token = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(lockKey, token, Duration.ofSeconds(30));
+        if (!Boolean.TRUE.equals(locked)) {
+            redisTemplate.opsForSet().add(DIRTY_KEY, String.valueOf(buyerId));
+            return;
+        }
+        try {
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(key(CartOwner.buyer(buyerId)));
+            if (!entries.containsKey(WARM_FIELD)) {
+                return;
+            }
+            Long cartId = cartRepository.findIdByBuyerId(buyerId).orElseGet(() -> createCart(buyerId));
+            if (cartId == null) {
+                return;
+            }
+            cartJdbcRepository.replaceItems(cartId, toLines(entries));
+        } finally {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), token);
+        }
+    }
+
+    private Long createCart(Long buyerId) {
+        Optional<Buyer> buyer = buyerRepository.findById(buyerId);
+        if (buyer.isEmpty()) {
+            log.warn("장바구니 DB 반영 건너뜀 - 구매자 없음: {}", buyerId);
+            return null;
+        }
+        Cart cart = new Cart();
+        cart.setBuyer(buyer.get());
+        return cartRepository.save(cart).getId();
+    }
+
+    /**
+     * DB 의 cart_item 으로 Redis 장바구니 구성 (이미 워밍되어 있으면 무시)
+     */
+    private void warm(Long buyerId) {
+        List<CartItem> cartItems = cartRepository.findItemsByBuyerId(buyerId);
+        List<String> args = new ArrayList<>(cartItems.size() * 8 + 2);
+        args.add(ttlSeconds(CartOwner.buyer(buyerId)));
+        long maxId = 0;
+        for (CartItem cartItem : cartItems) {
+            String id = String.valueOf(cartItem.getId());
+            Collections.addAll(args,
+                    "i:" + cartItem.getItemId(), id,
+                    "t:" + id, cartItem.getItemId(),
+                    "p:" + id, String.valueOf(cartItem.getCartPrice()),
+                    "c:" + id, String.valueOf(cartItem.getCount()));
+            maxId = Math.max(maxId, cartItem.getId());
+        }
+        args.add(1, String.valueOf(maxId));
+        redisTemplate.execute(WARM_SCRIPT, List.of(key(CartOwner.buyer(buyerId)), SEQ_KEY), args.toArray());
+    }
+
+    // 구매자 장바구니가 COLD 면 워밍 후 한 번만 재시도
+    private long execute(CartOwner owner, RedisScript<Long> script, List<String> keys, Object... args) {
+        Long result = redisTemplate.execute(script, keys, args);
+        if (result != null && result == COLD && owner.isBuyer()) {
+            warm(owner.buyerId());
+            result = redisTemplate.execute(script, keys, args);
+        }
+        return result == null ? COLD : result;
+    }
+
+    private static List<CartLine> toLines(Map<Object, Object> entries) {
+        List<CartLine> lines = new ArrayList<>();
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            String field = (String) entry.getKey();
+            if (!field.startsWith("c:")) {
+                continue;
+            }
+            String id = field.substring(2);
+            Object itemId = entries.get("t:" + id);
+            Object price = entries.get("p:" + id);
+            if (itemId == null || price == null) {
+                continue;
+            }
+            lines.add(new CartLine(Long.valueOf(id), (String) itemId,
+                    Long.valueOf((String) price), Long.valueOf((String) entry.getValue())));
+        }
+        lines.sort(Comparator.comparing(CartLine::cartItemId));
+        return lines;
+    }
+
+    private String key(CartOwner owner) {
+        return owner.isBuyer() ? KEY_PREFIX + owner.buyerId() : KEY_PREFIX + GUEST_PREFIX + owner.guestId();
+    }
+
+    private String dirtyMember(CartOwner owner) {
+        return owner.isBuyer() ? String.valueOf(owner.buyerId()) : "";
+    }
 
-        cart.getCartItems().clear();
-        cartRepository.save(cart);
+    private String ttlSeconds(CartOwner owner) {
+        long days = owner.isBuyer() ? cartTtlDays : guestTtlDays;
+        return String.valueOf(Duration.ofDays(days).toSeconds());
     }
 }
@@ -0,0 +1,206 @@
+package com.shop.respawn.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.respawn.domain.ChatMessage;
+import com.shop.respawn.domain.ChatMessageArchive;
+import com.shop.respawn.repository.mongo.ChatMessageArchiveRepository;
+import com.shop.respawn.repository.mongo.ChatMessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 채팅 메시지 보존 계층
+ * - hot: chat_messages (최근 N일, 커서 조회 인덱스 대상)
+ * - archive: chat_message_archive (방 + 일자 버킷, 메시지 목록을 gzip 압축 저장)
+ * 아카이브 버킷 저장 후 hot 메시지를 삭제하므로 중간 실패 시 양쪽에 중복이 남을 수 있고, 병합/조회 시 ID 로 중복 제거
+ * 버킷은 @Version 으로 보호되어 여러 노드가 동시에 같은 방을 아카이브해도 서로의 병합 결과를 덮어쓰지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatArchiveService {
+
+    // 커서 조회 시 한 번에 읽어 올 버킷(일자) 수
+    private static final int BUCKET_PAGE_SIZE = 7;
+
+    private static final int MAX_MERGE_ATTEMPTS = 5;
+
+    private static final TypeReference<List<ArchivedMessage>> PAYLOAD_TYPE = new TypeReference<>() {};
+
+    // 최신순 정렬 (timestamp desc, 같은 시각은 id desc - ObjectId hex 는 사전순 = 생성순)
+    private static final Comparator<ChatMessage> NEWEST_FIRST = Comparator
+            .comparing(ChatMessage::timestamp)
+            .thenComparing(ChatMessage::id)
+            .reversed();
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageArchiveRepository chatMessageArchiveRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 방 하나의 cutoff 이전 메시지를 청크 단위로 아카이브로 이동
+     * @return 이동한 메시지 수
+     */
+    public long archiveRoom(String roomId, LocalDateTime cutoff, int chunkSize) {
+        long moved = 0;
+        List<ChatMessage> chunk;
+        do {
+            chunk = chatMessageRepository.findOldestBefore(roomId, cutoff, chunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            Map<LocalDate, List<ChatMessage>> byDay = chunk.stream()
+                    .collect(Collectors.groupingBy(m -> m.timestamp().toLocalDate(), TreeMap::new, Collectors.toList()));
+            byDay.forEach((day, messages) -> mergeIntoBucket(roomId, day, messages));
+
+            // 버킷 저장이 끝난 뒤에만 hot 에서 삭제
+            chatMessageRepository.deleteByIds(chunk.stream().map(ChatMessage::id).toList());
+            moved += chunk.size();
+        } while (chunk.size() == chunkSize);
+        return moved;
+    }
+
+    /**
+     * 아카이브에서 (beforeAt, beforeId) 커서 이전 메시지를 최신순으로 limit 건 조회
+     * beforeAt 이 null 이면 가장 최근 버킷부터
+     */
+    public List<ChatMessage> findHistory(String roomId, LocalDateTime beforeAt, String beforeId, int limit) {
+        List<ChatMessage> result = new ArrayList<>(limit);
+        int page = 0;
+        while (result.size() < limit) {
+            Pageable pageable = PageRequest.of(page++, BUCKET_PAGE_SIZE);
+            List<ChatMessageArchive> buckets = beforeAt == null
+                    ? chatMessageArchiveRepository.findByRoomIdOrderByDayDesc(roomId, pageable)
+                    : chatMessageArchiveRepository.findByRoomIdAndDayLessThanEqualOrderByDayDesc(
+                            roomId, beforeAt.toLocalDate(), pageable);
+
+            for (ChatMessageArchive bucket : buckets) {
+                List<ChatMessage> messages = decode(bucket).stream()
+                        .filter(m -> isBefore(m, beforeAt, beforeId))
+                        .sorted(NEWEST_FIRST)
+                        .toList();
+                for (ChatMessage m : messages) {
+                    result.add(m);
+                    if (result.size() == limit) {
+                        return result;
+                    }
+                }
+            }
+            if (buckets.size() < BUCKET_PAGE_SIZE) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 버킷 병합 저장, 다른 노드와 경합해 버전이 바뀌었으면 다시 읽어 병합
+     * 끝내 실패하면 예외를 던져 hot 메시지 삭제를 막음 (다음 실행에서 재시도)
+     */
+    private void mergeIntoBucket(String roomId, LocalDate day, List<ChatMessage> messages) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                tryMergeIntoBucket(roomId, day, messages);
+                return;
+            } catch (OptimisticLockingFailureException | DuplicateKeyException e) {
+                if (attempt >= MAX_MERGE_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("채팅 아카이브 버킷 경합, 재시도 - roomId={}, day={}, attempt={}", roomId, day, attempt);
+            }
+        }
+    }
+
+    private void tryMergeIntoBucket(String roomId, LocalDate day, List<ChatMessage> messages) {
+        String bucketId = ChatMessageArchive.bucketId(roomId, day);
+        ChatMessageArchive bucket = chatMessageArchiveRepository.findById(bucketId).orElseGet(() -> {
+            ChatMessageArchive created = new ChatMessageArchive();
+            created.setId(bucketId);
+            created.setRoomId(roomId);
+            created.setDay(day);
+            return created;
+        });
+
+        // 기존 버킷 + 신규 메시지 (재시도로 인한 중복은 ID 기준 제거)
+        Map<String, ChatMessage> merged = new LinkedHashMap<>();
+        if (bucket.getPayload() != null) {
+            decode(bucket).forEach(m -> merged.put(m.id(), m));
+        }
+        messages.forEach(m -> merged.put(m.id(), m));
+
+        List<ChatMessage> sorted = merged.values().stream()
+                .sorted(NEWEST_FIRST.reversed())
+                .toList();
+        bucket.setFirstAt(sorted.get(0).timestamp());
+        bucket.setLastAt(sorted.get(sorted.size() - 1).timestamp());
+        bucket.setCount(sorted.size());
+        bucket.setPayload(encode(sorted));
+        chatMessageArchiveRepository.save(bucket);
+    }
+
+    private static boolean isBefore(ChatMessage m, LocalDateTime beforeAt, String beforeId) {
+        if (beforeAt == null) {
+            return true;
+        }
+        int cmp = m.timestamp().compareTo(beforeAt);
+        return cmp < 0 || (cmp == 0 && beforeId != null && m.id().compareTo(beforeId) < 0);
+    }
+
+    private byte[] encode(List<ChatMessage> messages) {
+        List<ArchivedMessage> payload = messages.stream().map(ArchivedMessage::from).toList();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            objectMapper.writeValue(gzip, payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 아카이브 압축 실패", e);
+        }
+        return out.toByteArray();
+    }
+
+    private List<ChatMessage> decode(ChatMessageArchive bucket) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bucket.getPayload()))) {
+            List<ArchivedMessage> payload = objectMapper.readValue(gzip, PAYLOAD_TYPE);
+            return payload.stream().map(m -> m.toMessage(bucket.getRoomId())).toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 아카이브 해제 실패 - bucket=" + bucket.getId(), e);
+        }
+    }
+
+    /**
+     * 압축 payload 의 메시지 한 건 (roomId 는 버킷에 있으므로 생략)
+     */
+    record ArchivedMessage(String id, String senderId, String message, String type, boolean read,
+                           LocalDateTime timestamp) {
+
+        static ArchivedMessage from(ChatMessage m) {
+            return new ArchivedMessage(m.id(), m.senderId(), m.message(), m.type(), m.isRead(), m.timestamp());
+        }
+
+        ChatMessage toMessage(String roomId) {
+            return new ChatMessage(id, roomId, senderId, message, type, read, timestamp);
+        }
+    }
+}
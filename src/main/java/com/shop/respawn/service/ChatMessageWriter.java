@@ -0,0 +1,279 @@
+package com.shop.respawn.service;
+
+import com.shop.respawn.domain.ChatMessage;
+import com.shop.respawn.repository.mongo.ChatRoomRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 비동기 일괄 저장
+ * - STOMP 수신 스레드는 브로드캐스트 후 큐에 넣기만 하고, 전용 writer 스레드가 insertMany 로 저장
+ * - batchSize 가 차거나 flushInterval 이 지나면 flush
+ * - 큐가 가득 차면 offerTimeout 동안 대기(역압), 그래도 자리가 없으면 호출 스레드에서 같은 저장 경로(persist)로 직접 저장
+ *   직접 저장까지 실패하면 예외를 던지지 않고 로그 + chat.persist.dropped 카운트 (브로드캐스트는 이미 완료된 상태)
+ * - 종료 시 남은 메시지를 모두 저장한 뒤 종료
+ * - 대기 중 상대방이 읽음 처리한 메시지는 저장 직전에 읽음으로 표시 (ChatUnreadCounter 의 읽음 시각 기준)
+ * - 저장 후 채팅방 마지막 메시지 시각/미리보기를 방 단위로 한 번에 갱신 (persist 안에서만 수행, 실패한 방은 다음 persist 에서 재시도)
+ * 메시지 id 는 발행 전에 부여되므로, 일괄 저장 실패 시 건별 save(upsert)로 재시도해도 중복되지 않음
+ * 건별 저장도 실패한 메시지는 버리지 않고 배치에 남겨 백오프(최대 5초) 후 다시 저장
+ */
+@Slf4j
+@Component
+public class ChatMessageWriter {
+
+    private static final long MAX_BACKOFF_MS = 5_000;
+
+    private final MongoTemplate mongoTemplate;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatUnreadCounter chatUnreadCounter;
+    private final MeterRegistry meterRegistry;
+    private final BlockingQueue<ChatMessage> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long offerTimeoutMs;
+    private final Timer flushTimer;
+
+    // writer 스레드 전용 (아직 저장되지 않은 메시지, 저장된 것만 제거) - 종료 시 writer 가 끝난 뒤에만 접근
+    private final List<ChatMessage> batch;
+
+    // 저장은 됐지만 채팅방 마지막 메시지 갱신에 실패한 방별 최신 메시지 (writer/직접 저장 스레드 공용)
+    private final Map<String, ChatMessage> pendingActivity = new ConcurrentHashMap<>();
+
+    private volatile boolean running = true;
+    private Thread writer;
+
+    public ChatMessageWriter(MongoTemplate mongoTemplate,
+                             ChatRoomRepository chatRoomRepository,
+                             ChatUnreadCounter chatUnreadCounter,
+                             MeterRegistry meterRegistry,
+                             @Value("${chat.persist.queue-capacity:10000}") int queueCapacity,
+                             @Value("${chat.persist.batch-size:500}") int batchSize,
+                             @Value("${chat.persist.flush-interval-ms:100}") long flushIntervalMs,
+                             @Value("${chat.persist.offer-timeout-ms:200}") long offerTimeoutMs) {
+        this.mongoTemplate = mongoTemplate;
+        this.chatRoomRepository = chatRoomRepository;
+        this.chatUnreadCounter = chatUnreadCounter;
+        this.meterRegistry = meterRegistry;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batch = new ArrayList<>(batchSize);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.flushTimer = meterRegistry.timer("chat.persist.flush");
+        meterRegistry.gauge("chat.persist.queue.depth", queue, BlockingQueue::size);
+    }
+
+    @PostConstruct
+    void start() {
+        writer = new Thread(this::runWriter, "chat-message-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 저장 대기열에 추가 (큐가 가득 차면 잠시 대기 후 직접 저장)
+     */
+    public void enqueue(ChatMessage message) {
+        try {
+            if (running && queue.offer(message, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        meterRegistry.counter("chat.persist.direct").increment();
+        if (!persist(List.of(message)).isEmpty()) {
+            meterRegistry.counter("chat.persist.dropped").increment();
+            log.error("채팅 메시지 직접 저장 실패 - id={}, roomId={}", message.id(), message.roomId());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+        if (writer.isAlive()) {
+            // 저장소 장애로 재시도 중이면 중단시키고 남은 배치는 아래에서 마지막으로 한 번 더 시도
+            writer.interrupt();
+            writer.join(TimeUnit.SECONDS.toMillis(1));
+        }
+        if (!queue.isEmpty() || !batch.isEmpty()) {
+            log.warn("채팅 메시지 writer 종료 대기 초과 - 남은 {}건 직접 저장", queue.size() + batch.size());
+            drainRemaining();
+        }
+    }
+
+    private void runWriter() {
+        long backoffMs = 0;
+        while (running || !queue.isEmpty() || !batch.isEmpty()) {
+            try {
+                if (backoffMs > 0) {
+                    Thread.sleep(backoffMs);
+                }
+                // 직전 flush 에서 저장하지 못한 메시지가 있으면 그대로 두고 새 메시지만 채움
+                if (batch.isEmpty()) {
+                    ChatMessage first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                }
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                        break;
+                    }
+                    ChatMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                List<ChatMessage> failed = persist(batch);
+                batch.clear();
+                batch.addAll(failed);
+                if (!failed.isEmpty()) {
+                    meterRegistry.counter("chat.persist.retry").increment(failed.size());
+                    log.warn("채팅 메시지 저장 실패 - {}건 보관 후 재시도", failed.size());
+                }
+                backoffMs = failed.isEmpty() ? 0 : nextBackoff(backoffMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                // 배치는 유지한 채 백오프 후 재시도
+                log.error("채팅 메시지 writer 오류 - 대기 {}건", batch.size(), e);
+                backoffMs = nextBackoff(backoffMs);
+            }
+        }
+    }
+
+    private long nextBackoff(long backoffMs) {
+        return Math.min(Math.max(backoffMs * 2, flushIntervalMs), MAX_BACKOFF_MS);
+    }
+
+    /**
+     * 일괄 저장, 실패 시 건별 save 재시도 후 저장된 메시지로 채팅방 활동 갱신
+     * writer 스레드와 큐 포화 시 직접 저장이 함께 쓰는 유일한 저장 경로 (예외를 던지지 않음)
+     * @return 저장하지 못한 메시지 (호출 측이 보관 후 재시도)
+     */
+    private List<ChatMessage> persist(List<ChatMessage> messages) {
+        List<ChatMessage> batch = applyReadMarks(messages);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<ChatMessage> failed = new ArrayList<>();
+        try {
+            mongoTemplate.insertAll(batch);
+        } catch (RuntimeException e) {
+            log.warn("채팅 메시지 일괄 저장 실패, 건별 재시도 - {}건", batch.size(), e);
+            for (ChatMessage message : batch) {
+                try {
+                    mongoTemplate.save(message);
+                } catch (RuntimeException ex) {
+                    failed.add(message);
+                }
+            }
+        } finally {
+            sample.stop(flushTimer);
+        }
+
+        List<ChatMessage> saved = failed.isEmpty() ? batch : batch.stream().filter(m -> !failed.contains(m)).toList();
+        meterRegistry.counter("chat.persist.saved").increment(saved.size());
+        if (!saved.isEmpty()) {
+            updateRoomActivity(saved);
+        }
+        return failed;
+    }
+
+    // 대기열에 있는 동안 상대방이 읽음 처리한 메시지는 읽음으로 저장 (markReadExceptSender 는 저장된 메시지만 갱신)
+    // 읽음 시각 조회 실패 시 그대로 저장 (다음 읽음 처리 때 갱신됨)
+    private List<ChatMessage> applyReadMarks(List<ChatMessage> messages) {
+        Map<String, Map<String, Long>> readMarks;
+        try {
+            readMarks = chatUnreadCounter.readMarks(messages.stream().map(ChatMessage::roomId).toList());
+        } catch (RuntimeException e) {
+            log.warn("채팅 읽음 시각 조회 실패 - {}건 읽음 표시 없이 저장", messages.size(), e);
+            return messages;
+        }
+        if (readMarks.isEmpty()) {
+            return messages;
+        }
+
+        List<ChatMessage> result = new ArrayList<>(messages.size());
+        for (ChatMessage m : messages) {
+            result.add(!m.isRead() && readByOther(readMarks.get(m.roomId()), m)
+                    ? new ChatMessage(m.id(), m.roomId(), m.senderId(), m.message(), m.type(), true, m.timestamp())
+                    : m);
+        }
+        return result;
+    }
+
+    private static boolean readByOther(Map<String, Long> marks, ChatMessage message) {
+        if (marks == null) {
+            return false;
+        }
+        long sentAt = message.timestamp().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return marks.entrySet().stream()
+                .anyMatch(e -> !e.getKey().equals(message.senderId()) && e.getValue() >= sentAt);
+    }
+
+    // 배치 안의 방별 마지막 메시지로 채팅방 비정규화 필드 갱신 (bulk 1회)
+    // 갱신에 실패한 방은 pendingActivity 에 남겨 다음 persist(writer/직접 저장 어느 쪽이든)에서 함께 재시도
+    // (updateLastMessages 는 시각 비교로 갱신하므로 재시도가 늦게 도착해도 최신 값을 덮어쓰지 않음)
+    private void updateRoomActivity(List<ChatMessage> saved) {
+        for (ChatMessage message : saved) {
+            pendingActivity.merge(message.roomId(), message, ChatMessageWriter::later);
+        }
+        Map<String, ChatMessage> latestByRoom = new HashMap<>();
+        for (String roomId : List.copyOf(pendingActivity.keySet())) {
+            ChatMessage latest = pendingActivity.remove(roomId);
+            if (latest != null) {
+                latestByRoom.put(roomId, latest);
+            }
+        }
+        if (latestByRoom.isEmpty()) {
+            return;
+        }
+        try {
+            chatRoomRepository.updateLastMessages(latestByRoom.values());
+        } catch (RuntimeException e) {
+            latestByRoom.values().forEach(m -> pendingActivity.merge(m.roomId(), m, ChatMessageWriter::later));
+            meterRegistry.counter("chat.persist.activity.retry").increment(latestByRoom.size());
+            log.warn("채팅방 마지막 메시지 갱신 실패 - {}개 방, 다음 저장 시 재시도", latestByRoom.size(), e);
+        }
+    }
+
+    private static ChatMessage later(ChatMessage a, ChatMessage b) {
+        return b.timestamp().isAfter(a.timestamp()) ? b : a;
+    }
+
+    private void drainRemaining() {
+        List<ChatMessage> rest = new ArrayList<>(batch);
+        batch.clear();
+        queue.drainTo(rest);
+        int lost = 0;
+        for (int i = 0; i < rest.size(); i += batchSize) {
+            lost += persist(rest.subList(i, Math.min(i + batchSize, rest.size()))).size();
+        }
+        if (lost > 0) {
+            log.error("채팅 메시지 종료 시 저장 실패 - {}건", lost);
+        }
+    }
+}
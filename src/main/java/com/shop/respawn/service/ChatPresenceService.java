@@ -0,0 +1,176 @@
+package com.shop.respawn.service;
+
+import com.shop.respawn.dto.chat.ChatTypingEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅 접속/입력 중 상태
+ * - 접속: chat:online:{username} (클라이언트 heartbeat 마다 TTL 갱신, 끊기면 TTL 만료로 오프라인)
+ * - 입력 중: chat:typing:{roomId} Hash (필드 = username, 값 = 만료 시각 ms), 입력 중 신호도 heartbeat 로 갱신
+ * - 입력 중 변경은 방 단위로 모아 broadcast-interval 마다 상태가 바뀐 방만 한 번씩 전송 (키 입력마다 브로드캐스트하지 않음)
+ * - 여러 노드가 같은 방의 변경을 받아도 chat:typing:gate:{roomId} (SET NX PX broadcast-interval) 를 잡은 노드만 전송,
+ *   게이트를 잡지 못한 방은 다음 주기에 다시 확인 (방 단위 전송은 클러스터 전체에서 주기당 최대 1회)
+ * - 만료된 입력 중 상태도 주기 점검에서 제거되어 전송됨
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatPresenceService {
+
+    private static final String ONLINE_PREFIX = "chat:online:";
+    private static final String TYPING_PREFIX = "chat:typing:";
+    private static final String TYPING_GATE_PREFIX = "chat:typing:gate:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ChatRelay chatRelay;
+
+    @Value("${chat.presence.online-ttl-seconds:30}")
+    private long onlineTtlSeconds;
+
+    @Value("${chat.presence.typing-ttl-seconds:5}")
+    private long typingTtlSeconds;
+
+    @Value("${chat.presence.broadcast-interval-ms:1000}")
+    private long broadcastIntervalMs;
+
+    // 이 노드에서 변경 신호를 받은 방
+    private final Set<String> dirtyRooms = ConcurrentHashMap.newKeySet();
+    // 마지막으로 전송한 방별 입력 중 사용자 (비어 있으면 제거)
+    private final Map<String, List<String>> lastBroadcast = new ConcurrentHashMap<>();
+
+    /**
+     * 접속 heartbeat (SET EX 1회)
+     */
+    public void heartbeat(String username) {
+        redisTemplate.opsForValue().set(ONLINE_PREFIX + username, "1", Duration.ofSeconds(onlineTtlSeconds));
+    }
+
+    /**
+     * 입력 중 신호 (true 는 TTL 갱신, false 는 즉시 해제), 전송은 다음 주기에 방 단위로 모아서
+     */
+    public void typing(String roomId, String username, boolean typing) {
+        String key = TYPING_PREFIX + roomId;
+        if (typing) {
+            long expiresAt = System.currentTimeMillis() + Duration.ofSeconds(typingTtlSeconds).toMillis();
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                conn.hSet(key, username, String.valueOf(expiresAt));
+                conn.expire(key, typingTtlSeconds * 2);
+                return null;
+            });
+        } else {
+            redisTemplate.opsForHash().delete(key, username);
+        }
+        dirtyRooms.add(roomId);
+    }
+
+    /**
+     * 접속 중인 사용자 (MGET 1회)
+     */
+    public Set<String> onlineUsers(Collection<String> usernames) {
+        List<String> names = usernames.stream().filter(Objects::nonNull).distinct().toList();
+        if (names.isEmpty()) {
+            return Set.of();
+        }
+        List<String> values = redisTemplate.opsForValue().multiGet(names.stream().map(n -> ONLINE_PREFIX + n).toList());
+        Set<String> online = new HashSet<>();
+        for (int i = 0; i < names.size(); i++) {
+            if (values != null && values.get(i) != null) {
+                online.add(names.get(i));
+            }
+        }
+        return online;
+    }
+
+    /**
+     * 변경된 방과 입력 중 사용자가 남아 있는 방의 상태를 모아 바뀐 방만 전송 (ChatPresenceScheduler)
+     */
+    public void broadcastChanges() {
+        Set<String> rooms = new HashSet<>(lastBroadcast.keySet());
+        for (Iterator<String> it = dirtyRooms.iterator(); it.hasNext(); ) {
+            rooms.add(it.next());
+            it.remove();
+        }
+        if (rooms.isEmpty()) {
+            return;
+        }
+
+        List<String> roomIds = new ArrayList<>(rooms);
+        List<Object> hashes = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (String roomId : roomIds) {
+                conn.hGetAll(TYPING_PREFIX + roomId);
+            }
+            return null;
+        });
+
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < roomIds.size(); i++) {
+            String roomId = roomIds.get(i);
+            @SuppressWarnings("unchecked")
+            Map<String, String> typers = (Map<String, String>) hashes.get(i);
+            List<String> typing = activeTypers(roomId, typers, now);
+
+            List<String> previous = lastBroadcast.getOrDefault(roomId, List.of());
+            if (typing.equals(previous)) {
+                continue;
+            }
+            if (!acquireGate(roomId)) {
+                dirtyRooms.add(roomId);
+                continue;
+            }
+            if (typing.isEmpty()) {
+                lastBroadcast.remove(roomId);
+            } else {
+                lastBroadcast.put(roomId, typing);
+            }
+            try {
+                chatRelay.publish(roomId, ChatTypingEvent.of(roomId, typing));
+            } catch (RuntimeException e) {
+                log.warn("입력 중 상태 전송 실패 - roomId={}", roomId, e);
+            }
+        }
+    }
+
+    // 이번 주기에 이 방을 전송할 노드 선점 (Redis 오류 시 노드 단위 전송으로 동작)
+    private boolean acquireGate(String roomId) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(TYPING_GATE_PREFIX + roomId, "1", Duration.ofMillis(broadcastIntervalMs)));
+        } catch (RuntimeException e) {
+            log.warn("입력 중 전송 게이트 확인 실패 - roomId={}", roomId, e);
+            return true;
+        }
+    }
+
+    // 만료되지 않은 입력 중 사용자 (만료 필드는 정리)
+    private List<String> activeTypers(String roomId, Map<String, String> typers, long now) {
+        if (typers == null || typers.isEmpty()) {
+            return List.of();
+        }
+        List<String> active = new ArrayList<>();
+        List<Object> expired = new ArrayList<>();
+        typers.forEach((username, expiresAt) -> {
+            if (Long.parseLong(expiresAt) > now) {
+                active.add(username);
+            } else {
+                expired.add(username);
+            }
+        });
+        if (!expired.isEmpty()) {
+            redisTemplate.opsForHash().delete(TYPING_PREFIX + roomId, expired.toArray());
+        }
+        Collections.sort(active);
+        return active;
+    }
+}
@@ -0,0 +1,166 @@
+package com.shop.respawn.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 다중 노드 채팅 팬아웃 릴레이 (Redis pub/sub)
+ * - 발행: /topic/chat/{roomId} 로 보낼 메시지를 Redis 채널 chat:room:{roomId} 에 JSON 으로 발행
+ * - 수신: 이 노드에 해당 방 STOMP 구독자가 있을 때만 채널을 구독하고, 받은 메시지를 로컬 simple broker 로 전달
+ * - 로컬 구독은 방 단위 참조 카운트 (첫 구독 시 채널 구독, 마지막 구독 해제/세션 종료 시 채널 해제)
+ *   정확히 /topic/chat/{roomId} 인 구독만 집계
+ * 발행한 노드도 자기 채널 메시지를 받아 전달하므로 노드마다 정확히 한 번 전달된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRelay implements MessageListener {
+
+    private static final String TOPIC_PREFIX = "/topic/chat/";
+    private static final String CHANNEL_PREFIX = "chat:room:";
+    private static final Pattern ROOM_TOPIC = Pattern.compile("^" + Pattern.quote(TOPIC_PREFIX) + "([A-Za-z0-9_-]+)$");
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    // roomId → 이 노드의 구독 수
+    private final Map<String, RoomSubscription> rooms = new ConcurrentHashMap<>();
+    // sessionId → (subscriptionId → roomId), 구독 해제/세션 종료 시 방을 찾기 위함
+    private final Map<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+
+    /**
+     * 방의 모든 노드 구독자에게 메시지 전달 (Redis 장애 시 이 노드 구독자에게만 전달)
+     */
+    public void publish(String roomId, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("채팅 메시지 직렬화 실패: roomId=" + roomId, e);
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL_PREFIX + roomId, json);
+        } catch (RuntimeException e) {
+            log.warn("채팅 릴레이 발행 실패, 로컬 전달로 대체 - roomId={}", roomId, e);
+            messagingTemplate.convertAndSend(TOPIC_PREFIX + roomId, payload);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String roomId = channel.substring(CHANNEL_PREFIX.length());
+        try {
+            JsonNode payload = objectMapper.readTree(message.getBody());
+            messagingTemplate.convertAndSend(TOPIC_PREFIX + roomId, payload);
+        } catch (Exception e) {
+            log.warn("채팅 릴레이 수신 메시지 전달 실패 - roomId={}", roomId, e);
+        }
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String roomId = roomIdOf(accessor.getDestination());
+        if (roomId == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        sessionSubscriptions.computeIfAbsent(accessor.getSessionId(), id -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), roomId);
+        retain(roomId);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subscriptions = accessor.getSessionId() == null
+                ? null : sessionSubscriptions.get(accessor.getSessionId());
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        String roomId = subscriptions.remove(accessor.getSubscriptionId());
+        if (roomId != null) {
+            release(roomId);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::release);
+        }
+    }
+
+    // 정확히 /topic/chat/{roomId} 형태만 방 구독으로 인정 (하위 경로, 패턴 구독 "*", "**" 등은 제외)
+    static String roomIdOf(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        Matcher matcher = ROOM_TOPIC.matcher(destination);
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    // 0 → 1 전이에서만 채널 구독 (Redis 구독은 ConcurrentHashMap.compute 밖에서, 방 단위 락으로 해제와 순서 보장)
+    private void retain(String roomId) {
+        while (true) {
+            RoomSubscription room = rooms.computeIfAbsent(roomId, id -> new RoomSubscription());
+            synchronized (room) {
+                if (room.closed) {
+                    continue; // 방금 해제되어 맵에서 빠진 항목 - 새 항목으로 다시 시도
+                }
+                if (room.count++ == 0) {
+                    listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + roomId));
+                    log.debug("채팅 릴레이 채널 구독 - roomId={}", roomId);
+                }
+                return;
+            }
+        }
+    }
+
+    // 1 → 0 전이에서만 채널 해제, 해제한 항목은 closed 로 표시해 이후 retain 이 새 항목을 만들도록 함
+    private void release(String roomId) {
+        RoomSubscription room = rooms.get(roomId);
+        if (room == null) {
+            return;
+        }
+        synchronized (room) {
+            if (room.closed || --room.count > 0) {
+                return;
+            }
+            room.closed = true;
+            rooms.remove(roomId, room);
+            listenerContainer.removeMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + roomId));
+            log.debug("채팅 릴레이 채널 구독 해제 - roomId={}", roomId);
+        }
+    }
+
+    // 방 하나의 이 노드 구독 수 (이 객체의 락 안에서만 변경)
+    private static final class RoomSubscription {
+        private int count;
+        private boolean closed;
+    }
+}
@@ -1,28 +1,45 @@
 package com.shop.respawn.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.shop.respawn.domain.*;
+import com.shop.respawn.dto.CursorResponse;
 import com.shop.respawn.dto.chat.ChatRoomListResponse;
-import com.shop.respawn.repository.jpa.BuyerRepository;
-import com.shop.respawn.repository.jpa.SellerRepository;
 import com.shop.respawn.repository.mongo.ChatMessageRepository;
 import com.shop.respawn.repository.mongo.ChatRoomRepository;
-import com.shop.respawn.repository.mongo.ItemRepository;
+import com.shop.respawn.util.CursorUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ChatRoomService {
 
+    private static final int MAX_HISTORY_SIZE = 100;
+
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
-    private final BuyerRepository buyerRepository;
-    private final SellerRepository sellerRepository;
-    private final ItemRepository itemRepository;
+    private final ChatArchiveService chatArchiveService;
+    private final EntityBatchLoader entityBatchLoader;
+    private final ChatUnreadCounter chatUnreadCounter;
+    private final ChatPresenceService chatPresenceService;
+
+    // 방 ID → 참여자 username (구매자/판매자, 방 참여자는 바뀌지 않으므로 노드 로컬 캐시)
+    private final Cache<String, Set<String>> participants = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(Duration.ofMinutes(30))
+            .build();
 
     public String createOrGetChatRoom(String buyerId, String sellerId, String itemId) {
         // 1. 방어 로직: 구매자와 판매자가 같은 경우 (자신의 상품에 문의하기 클릭)
@@ -40,56 +57,95 @@ public class ChatRoomService {
                             buyerId,
                             sellerId,
                             itemId,
-                            LocalDateTime.now()
+                            LocalDateTime.now(),
+                            null,
+                            null,
+                            true // 새 방은 메시지 저장 시 갱신되므로 보정 불필요
                     );
                     ChatRoom savedRoom = chatRoomRepository.save(newRoom);
+                    chatUnreadCounter.warmEmpty(savedRoom.id()); // 첫 메시지부터 Redis 카운터로 집계 (Mongo 집계 불필요)
                     return savedRoom.id(); // 새로 생성된 방의 ID 반환
                 });
     }
 
-    public void updateMessagesAsRead(String roomId, String currentUserId) {
-        // 1. 해당 방의 메시지 중 내가 보내지 않았고(상대방이 보냄), 아직 읽지 않은 메시지들을 가져옵니다.
-        List<ChatMessage> unreadMessages = chatMessageRepository.findByRoomId(roomId)
-                .stream()
-                .filter(msg -> !msg.senderId().equals(currentUserId) && !msg.isRead())
-                .toList();
+    /**
+     * 채팅방 참여자(구매자/판매자) 여부 - 내역 조회/읽음 처리/입력 중 신호 공용 검사
+     */
+    public boolean isParticipant(String roomId, String username) {
+        if (roomId == null || username == null) {
+            return false;
+        }
+        return participants.get(roomId, this::loadParticipants).contains(username);
+    }
 
-        // 2. 읽음 상태로 변경 후 저장합니다.
-        if (!unreadMessages.isEmpty()) {
-            List<ChatMessage> readMessages = unreadMessages.stream()
-                    .map(msg -> new ChatMessage(
-                            msg.id(),
-                            msg.roomId(),
-                            msg.senderId(),
-                            msg.message(),
-                            msg.type(),
-                            true,
-                            msg.timestamp()
-                    ))
-                    .toList();
-            chatMessageRepository.saveAll(readMessages);
+    /**
+     * 채팅 내역 최신순 커서 페이지 (before 커서보다 이전 메시지, 클라이언트는 스크롤 시 nextCursor 로 이전 내역 요청)
+     */
+    public CursorResponse<ChatMessage> getChatHistory(String roomId, String username, String before, int size) {
+        checkParticipant(roomId, username);
+        CursorUtil.Cursor c = CursorUtil.decodeObjectId(before);
+        int limit = Math.max(1, Math.min(size, MAX_HISTORY_SIZE));
+
+        // (limit + 1)건 조회로 이전 페이지 존재 여부 판단
+        LocalDateTime beforeAt = c == null ? null : c.at();
+        String beforeId = c == null ? null : c.id();
+        List<ChatMessage> rows = chatMessageRepository.findHistory(roomId, beforeAt, beforeId, limit + 1);
+
+        // hot 컬렉션이 모자라면 마지막 행 이후부터 아카이브에서 이어서 조회 (커서 형식은 동일)
+        if (rows.size() <= limit) {
+            if (!rows.isEmpty()) {
+                ChatMessage oldest = rows.get(rows.size() - 1);
+                beforeAt = oldest.timestamp();
+                beforeId = oldest.id();
+            }
+            List<ChatMessage> archived = chatArchiveService.findHistory(roomId, beforeAt, beforeId, limit + 1 - rows.size());
+            if (!archived.isEmpty()) {
+                rows = new ArrayList<>(rows);
+                rows.addAll(archived);
+            }
+        }
+        boolean hasNext = rows.size() > limit;
+        List<ChatMessage> messages = hasNext ? rows.subList(0, limit) : rows;
+        if (!hasNext) {
+            return CursorResponse.of(messages, null);
         }
+        ChatMessage last = messages.get(messages.size() - 1);
+        return CursorResponse.of(messages, CursorUtil.encode(last.timestamp(), last.id()));
+    }
+
+    public void updateMessagesAsRead(String roomId, String currentUserId) {
+        checkParticipant(roomId, currentUserId);
+
+        // 1. 내 안 읽은 수 카운터 초기화
+        chatUnreadCounter.reset(roomId, currentUserId);
+
+        // 2. 상대방이 보낸 안 읽은 메시지를 한 번에 읽음 처리 (읽음 표시용)
+        chatMessageRepository.markReadExceptSender(roomId, currentUserId);
     }
 
     public List<ChatRoomListResponse> getSellerChatRooms(Long sellerId) {
         String sellerIdStr = String.valueOf(sellerId);
-        String sellerUsername = sellerRepository.findById(sellerId)
-                .map(Seller::getUsername)
-                .orElse("알 수 없는 사용자");
-        return chatRoomRepository.findBySellerId(sellerIdStr).stream()
+        String sellerUsername = entityBatchLoader.sellerUsernames(List.of(sellerId))
+                .getOrDefault(sellerId, "알 수 없는 사용자");
+        List<ChatRoom> rooms = withLastMessages(chatRoomRepository.findBySellerIdOrderByLastMessageAtDesc(sellerIdStr));
+
+        // 상대 구매자 / 상품 일괄 조회
+        Map<Long, String> buyerUsernames = entityBatchLoader.buyerUsernames(
+                EntityBatchLoader.toLongIds(rooms.stream().map(ChatRoom::buyerId).toList()));
+        Map<String, Item> items = loadItems(rooms);
+        Map<String, Long> unreadCounts = chatUnreadCounter.unreadCounts(
+                rooms.stream().map(ChatRoom::id).toList(), sellerUsername);
+        Set<String> online = chatPresenceService.onlineUsers(buyerUsernames.values());
+
+        return rooms.stream()
                 .map(room -> {
-                    long unreadCount = chatMessageRepository.countByRoomIdAndSenderIdNotAndIsReadFalse(room.id(), sellerUsername);
-                    String buyerUsername = buyerRepository.findById(Long.valueOf(room.buyerId()))
-                            .map(Buyer::getUsername)
-                            .orElse("알 수 없는 사용자");
-                    String itemName = "상품 없음";
-                    if (room.itemId() != null) {
-                        itemName = itemRepository.findById(room.itemId())
-                                .map(Item::getName) // 상품명 가져오는 메서드(getName, getTitle 등)
-                                .orElse("삭제된 상품");
-                    }
+                    long unreadCount = unreadCounts.getOrDefault(room.id(), 0L);
+                    String buyerUsername = buyerUsernames.getOrDefault(
+                            EntityBatchLoader.parseId(room.buyerId()), "알 수 없는 사용자");
                     return new ChatRoomListResponse(
-                            room.id(), room.buyerId(), buyerUsername, room.sellerId(), sellerUsername, room.itemId(), itemName, room.createdAt(), unreadCount
+                            room.id(), room.buyerId(), buyerUsername, room.sellerId(), sellerUsername, room.itemId(), itemName(room, items), room.createdAt(),
+                            room.lastMessageAt(), room.lastMessagePreview(), unreadCount,
+                            online.contains(buyerUsername)
                     );
                 })
                 .collect(Collectors.toList());
@@ -97,25 +153,105 @@ public class ChatRoomService {
 
     public List<ChatRoomListResponse> getBuyerChatRooms(Long buyerId) {
         String buyerIdStr = String.valueOf(buyerId);
-        String buyerUsername = buyerRepository.findById(buyerId)
-                .map(Buyer::getUsername)
-                .orElse("알 수 없는 사용자");
-        return chatRoomRepository.findByBuyerId(buyerIdStr).stream()
+        String buyerUsername = entityBatchLoader.buyerUsernames(List.of(buyerId))
+                .getOrDefault(buyerId, "알 수 없는 사용자");
+        List<ChatRoom> rooms = withLastMessages(chatRoomRepository.findByBuyerIdOrderByLastMessageAtDesc(buyerIdStr));
+
+        // 상대 판매자 / 상품 일괄 조회
+        Map<Long, String> sellerUsernames = entityBatchLoader.sellerUsernames(
+                EntityBatchLoader.toLongIds(rooms.stream().map(ChatRoom::sellerId).toList()));
+        Map<String, Item> items = loadItems(rooms);
+        Map<String, Long> unreadCounts = chatUnreadCounter.unreadCounts(
+                rooms.stream().map(ChatRoom::id).toList(), buyerUsername);
+        Set<String> online = chatPresenceService.onlineUsers(sellerUsernames.values());
+
+        return rooms.stream()
                 .map(room -> {
-                    long unreadCount = chatMessageRepository.countByRoomIdAndSenderIdNotAndIsReadFalse(room.id(), buyerUsername);
-                    String sellerUsername = sellerRepository.findById(Long.valueOf(room.sellerId()))
-                            .map(Seller::getUsername)
-                            .orElse("알 수 없는 사용자");
-                    String itemName = "상품 없음";
-                    if (room.itemId() != null) {
-                        itemName = itemRepository.findById(room.itemId())
-                                .map(Item::getName) // 상품명 가져오는 메서드(getName, getTitle 등)
-                                .orElse("삭제된 상품");
-                    }
+                    long unreadCount = unreadCounts.getOrDefault(room.id(), 0L);
+                    String sellerUsername = sellerUsernames.getOrDefault(
+                            EntityBatchLoader.parseId(room.sellerId()), "알 수 없는 사용자");
                     return new ChatRoomListResponse(
-                            room.id(), room.buyerId(), buyerUsername, room.sellerId(), sellerUsername, room.itemId(), itemName, room.createdAt(), unreadCount
+                            room.id(), room.buyerId(), buyerUsername, room.sellerId(), sellerUsername, room.itemId(), itemName(room, items), room.createdAt(),
+                            room.lastMessageAt(), room.lastMessagePreview(), unreadCount,
+                            online.contains(sellerUsername)
                     );
                 })
                 .collect(Collectors.toList());
     }
+
+    private void checkParticipant(String roomId, String username) {
+        if (!isParticipant(roomId, username)) {
+            throw new IllegalArgumentException("채팅방 참여자만 접근할 수 있습니다.");
+        }
+    }
+
+    // 방의 구매자/판매자 username (없는 방은 빈 집합)
+    private Set<String> loadParticipants(String roomId) {
+        return chatRoomRepository.findById(roomId)
+                .map(room -> {
+                    Set<String> usernames = new HashSet<>();
+                    Long buyerId = EntityBatchLoader.parseId(room.buyerId());
+                    Long sellerId = EntityBatchLoader.parseId(room.sellerId());
+                    if (buyerId != null) {
+                        String buyer = entityBatchLoader.buyerUsernames(List.of(buyerId)).get(buyerId);
+                        if (buyer != null) usernames.add(buyer);
+                    }
+                    if (sellerId != null) {
+                        String seller = entityBatchLoader.sellerUsernames(List.of(sellerId)).get(sellerId);
+                        if (seller != null) usernames.add(seller);
+                    }
+                    return Set.copyOf(usernames);
+                })
+                .orElse(Set.of());
+    }
+
+    /**
+     * 마지막 메시지 필드가 비어 있는 방(필드 도입 이전 방)을 최근 메시지 집계 1회로 보정 후 최근 활동순 정렬
+     * 보정한 방은 메시지가 없더라도 lastMessageChecked 로 표시해 다음 조회에서 다시 집계하지 않음
+     */
+    private List<ChatRoom> withLastMessages(List<ChatRoom> rooms) {
+        List<String> missing = rooms.stream()
+                .filter(room -> room.lastMessageAt() == null && !room.lastMessageChecked())
+                .map(ChatRoom::id)
+                .toList();
+
+        Map<String, ChatMessage> latestByRoom = Map.of();
+        if (!missing.isEmpty()) {
+            List<ChatMessage> latest = chatMessageRepository.findLatestByRoomIds(missing);
+            chatRoomRepository.updateLastMessages(latest);
+            chatRoomRepository.markLastMessageChecked(missing);
+            latestByRoom = latest.stream()
+                    .collect(Collectors.toMap(ChatMessage::roomId, m -> m));
+        }
+
+        // 메시지가 없는 방은 생성 시각 기준으로 함께 정렬
+        Map<String, ChatMessage> backfilled = latestByRoom;
+        return rooms.stream()
+                .map(room -> {
+                    ChatMessage message = backfilled.get(room.id());
+                    if (room.lastMessageAt() != null || message == null) {
+                        return room;
+                    }
+                    return new ChatRoom(room.id(), room.buyerId(), room.sellerId(), room.itemId(), room.createdAt(),
+                            message.timestamp(), ChatRoom.preview(message.message()), true);
+                })
+                .sorted(Comparator.comparing(ChatRoom::lastActivityAt,
+                        Comparator.nullsLast(Comparator.reverseOrder())))
+                .toList();
+    }
+
+    private Map<String, Item> loadItems(List<ChatRoom> rooms) {
+        return entityBatchLoader.items(rooms.stream()
+                .map(ChatRoom::itemId)
+                .filter(Objects::nonNull)
+                .toList());
+    }
+
+    private String itemName(ChatRoom room, Map<String, Item> items) {
+        if (room.itemId() == null) {
+            return "상품 없음";
+        }
+        Item item = items.get(room.itemId());
+        return item != null ? item.getName() : "삭제된 상품";
+    }
 }
@@ -0,0 +1,194 @@
+package com.shop.respawn.service;
+
+import com.shop.respawn.repository.mongo.ChatMessageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 채팅방 안 읽은 메시지 카운터 (Redis Hash chat:unread:{roomId}, 필드 = 발신자, 값 = 상대방이 아직 읽지 않은 수)
+ * - 전송 시 발신자 필드 HINCRBY, 읽음 시 읽은 사람이 아닌 발신자 필드를 모두 삭제 (Lua 1회)
+ * - 내 안 읽은 수 = 내가 아닌 발신자 필드 합계
+ * - WARM_MARKER 가 없는 방은 Mongo 의 isRead=false 집계로 초기화 (배포 이전 메시지 / Redis 유실 대비)
+ * - 미초기화 방의 증가는 무시하고(집계에 포함될 값), 초기화는 여전히 미초기화일 때만 Lua 로 채워 동시 증가분을 덮어쓰지 않음
+ *   (Redis 유실 직후 저장 대기열에 있던 메시지는 집계에서 빠져 적게 셀 수 있음 - 읽음 처리 시 0 으로 초기화되며 바로잡힘)
+ * - 새로 만든 방은 생성 시 빈 카운터(마커만)로 초기화해 첫 메시지부터 증가가 반영되도록 함
+ * - 읽음 처리 시각을 chat:read:{roomId} (필드 = 읽은 사람) 에 남겨, 읽음 처리 시점에 아직 저장 대기열에 있던 메시지도
+ *   ChatMessageWriter 가 저장 직전에 읽음으로 표시 (Mongo 의 markReadExceptSender 는 저장된 메시지만 갱신하므로)
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatUnreadCounter {
+
+    private static final String KEY_PREFIX = "chat:unread:";
+    private static final String READ_KEY_PREFIX = "chat:read:";
+    private static final long READ_MARK_TTL_SECONDS = 86_400;
+    private static final String WARM_MARKER = "~";
+
+    // 초기화된 방에서만 증가 (미초기화 방은 다음 조회 때 Mongo 집계로 채움)
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HEXISTS', KEYS[1], ARGV[2]) == 0 then return 0 end
+            return redis.call('HINCRBY', KEYS[1], ARGV[1], 1)
+            """, Long.class);
+
+    // ARGV[1]=마커, ARGV[2..]=발신자/수 쌍 - 다른 요청이 먼저 채웠으면 그대로 둠
+    private static final RedisScript<Long> WARM_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 1 then return 0 end
+            redis.call('DEL', KEYS[1])
+            for i = 2, #ARGV, 2 do
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], '1')
+            return 1
+            """, Long.class);
+
+    // KEYS[2]=읽음 시각 hash, ARGV[3]=읽음 시각(epoch ms), ARGV[4]=TTL(초)
+    private static final RedisScript<Long> RESET_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[2], ARGV[1], ARGV[3])
+            redis.call('EXPIRE', KEYS[2], ARGV[4])
+            local fields = redis.call('HKEYS', KEYS[1])
+            local removed = 0
+            for _, field in ipairs(fields) do
+                if field ~= ARGV[1] and field ~= ARGV[2] then
+                    redis.call('HDEL', KEYS[1], field)
+                    removed = removed + 1
+                end
+            end
+            return removed
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ChatMessageRepository chatMessageRepository;
+
+    /**
+     * 메시지 전송 시 상대방 안 읽은 수 증가
+     */
+    public void increment(String roomId, String senderId) {
+        redisTemplate.execute(INCREMENT_SCRIPT, List.of(key(roomId)), senderId, WARM_MARKER);
+    }
+
+    /**
+     * 읽은 사람 기준 안 읽은 수 초기화
+     */
+    public void reset(String roomId, String readerId) {
+        redisTemplate.execute(RESET_SCRIPT, List.of(key(roomId), readKey(roomId)), readerId, WARM_MARKER,
+                String.valueOf(System.currentTimeMillis()), String.valueOf(READ_MARK_TTL_SECONDS));
+    }
+
+    /**
+     * 새로 만든 방을 빈 카운터로 초기화 (이미 초기화된 방이면 그대로 둠)
+     */
+    public void warmEmpty(String roomId) {
+        redisTemplate.execute(WARM_SCRIPT, List.of(key(roomId)), WARM_MARKER);
+    }
+
+    /**
+     * 방별 마지막 읽음 처리 시각 (roomId -> 읽은 사람 -> epoch ms, 파이프라인 HGETALL 1회)
+     */
+    public Map<String, Map<String, Long>> readMarks(Collection<String> roomIds) {
+        List<String> ids = roomIds.stream().distinct().toList();
+        Map<String, Map<String, Long>> result = new HashMap<>();
+        if (ids.isEmpty()) {
+            return result;
+        }
+
+        List<Object> hashes = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (String roomId : ids) {
+                conn.hGetAll(readKey(roomId));
+            }
+            return null;
+        });
+
+        for (int i = 0; i < ids.size(); i++) {
+            @SuppressWarnings("unchecked")
+            Map<String, String> marks = (Map<String, String>) hashes.get(i);
+            if (marks == null || marks.isEmpty()) {
+                continue;
+            }
+            Map<String, Long> byReader = new HashMap<>();
+            marks.forEach((reader, at) -> byReader.put(reader, Long.parseLong(at)));
+            result.put(ids.get(i), byReader);
+        }
+        return result;
+    }
+
+    /**
+     * 여러 방의 내 안 읽은 수를 한 번에 조회 (파이프라인 HGETALL 1회, 미초기화 방만 집계 1회)
+     */
+    public Map<String, Long> unreadCounts(Collection<String> roomIds, String participantId) {
+        List<String> ids = roomIds.stream().distinct().toList();
+        Map<String, Long> result = new HashMap<>();
+        if (ids.isEmpty()) {
+            return result;
+        }
+
+        List<Object> hashes = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (String roomId : ids) {
+                conn.hGetAll(key(roomId));
+            }
+            return null;
+        });
+
+        List<String> coldRoomIds = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            @SuppressWarnings("unchecked")
+            Map<String, String> counters = (Map<String, String>) hashes.get(i);
+            if (counters == null || !counters.containsKey(WARM_MARKER)) {
+                coldRoomIds.add(ids.get(i));
+                continue;
+            }
+            result.put(ids.get(i), sumExcept(counters, participantId));
+        }
+
+        if (!coldRoomIds.isEmpty()) {
+            Map<String, Map<String, Long>> counts = chatMessageRepository.countUnreadBySender(coldRoomIds);
+            warm(coldRoomIds, counts);
+            for (String roomId : coldRoomIds) {
+                Map<String, Long> bySender = counts.getOrDefault(roomId, Map.of());
+                result.put(roomId, bySender.entrySet().stream()
+                        .filter(e -> !e.getKey().equals(participantId))
+                        .mapToLong(Map.Entry::getValue)
+                        .sum());
+            }
+        }
+        return result;
+    }
+
+    private void warm(List<String> roomIds, Map<String, Map<String, Long>> counts) {
+        for (String roomId : roomIds) {
+            List<String> args = new ArrayList<>();
+            args.add(WARM_MARKER);
+            counts.getOrDefault(roomId, Map.of()).forEach((sender, count) -> {
+                args.add(sender);
+                args.add(String.valueOf(count));
+            });
+            redisTemplate.execute(WARM_SCRIPT, List.of(key(roomId)), args.toArray());
+        }
+    }
+
+    private long sumExcept(Map<String, String> counters, String participantId) {
+        long sum = 0;
+        for (Map.Entry<String, String> entry : counters.entrySet()) {
+            if (!entry.getKey().equals(WARM_MARKER) && !entry.getKey().equals(participantId)) {
+                sum += Long.parseLong(entry.getValue());
+            }
+        }
+        return sum;
+    }
+
+    private String key(String roomId) {
+        return KEY_PREFIX + roomId;
+    }
+
+    private String readKey(String roomId) {
+        return READ_KEY_PREFIX + roomId;
+    }
+}
@@ -0,0 +1,146 @@
+package com.shop.respawn.service;
+
+import com.shop.respawn.domain.Order;
+import com.shop.respawn.dto.order.CheckoutSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * 결제 진행 세션: 주문별 Redis hash 1개 + TTL
+ * - 조회는 HGETALL 1회, 변경은 HSET/HDEL/EXPIRE 를 파이프라인 1회로 전송
+ * - 결제 금액은 Order.totalAmount 를 누적 수정하지 않고 세션 값으로 매번 계산
+ * - 세션이 만료되면 할인 없이 원금액으로 결제되지 않도록 결제 단계에서 거부 (주문을 다시 진행해야 함)
+ */
+@Service
+@RequiredArgsConstructor
+public class CheckoutSessionService {
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${checkout.session.ttl-minutes:30}")
+    private long ttlMinutes;
+
+    public CheckoutSession get(Long orderId) {
+        Map<String, String> hash = redisTemplate.<String, String>opsForHash().entries(key(orderId));
+        return CheckoutSession.from(orderId, hash);
+    }
+
+    /**
+     * 임시 주문 생성 시 세션 시작 (openedAt 기록 + TTL)
+     */
+    public void open(Long orderId) {
+        update(orderId, Map.of(CheckoutSession.OPENED_AT, String.valueOf(System.currentTimeMillis())));
+    }
+
+    /**
+     * 결제 금액 계산/검증/완료에 사용할 세션 조회
+     * - 세션 도입 이후 주문(originalAmount 존재)인데 세션이 만료됐으면 예외 (쿠폰/포인트 할인이 빠진 금액으로 결제 방지)
+     */
+    public CheckoutSession getForPayment(Order order) {
+        CheckoutSession session = get(order.getId());
+        if (order.getOriginalAmount() != null && !session.isOpen()) {
+            throw new IllegalStateException("결제 세션이 만료되었습니다. 주문을 다시 진행해주세요. orderId=" + order.getId());
+        }
+        return session;
+    }
+
+    /**
+     * 필드 설정/삭제 + TTL 갱신 (파이프라인)
+     */
+    public void update(Long orderId, Map<String, String> put, String... remove) {
+        byte[] rawKey = key(orderId).getBytes(UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            write(connection, rawKey, put, remove);
+            return null;
+        });
+    }
+
+    public void applyCoupon(Long orderId, String couponCode, long couponAmount) {
+        update(orderId, Map.of(
+                CheckoutSession.COUPON_CODE, couponCode,
+                CheckoutSession.COUPON_AMOUNT, String.valueOf(couponAmount)));
+    }
+
+    public void cancelCoupon(Long orderId) {
+        update(orderId, Map.of(), CheckoutSession.COUPON_CODE, CheckoutSession.COUPON_AMOUNT);
+    }
+
+    public void applyPoints(Long orderId, long pointAmount) {
+        update(orderId, Map.of(CheckoutSession.POINT_AMOUNT, String.valueOf(pointAmount)));
+    }
+
+    /**
+     * 결제창 이동 전 사용자 선택 보존 (기존 Temporary 테이블 대체)
+     */
+    public void saveRequest(Long orderId, Long addressId, String couponCode, Long usePointAmount) {
+        Map<String, String> put = new HashMap<>();
+        List<String> remove = new ArrayList<>();
+        putOrRemove(put, remove, CheckoutSession.ADDRESS_ID, addressId);
+        putOrRemove(put, remove, CheckoutSession.REQUESTED_COUPON_CODE, couponCode);
+        putOrRemove(put, remove, CheckoutSession.REQUESTED_POINT_AMOUNT, usePointAmount);
+        update(orderId, put, remove.toArray(String[]::new));
+    }
+
+    /**
+     * 세션 기준 결제 금액 (세션 도입 이전 주문은 주문에 저장된 금액, 만료된 세션은 예외)
+     */
+    public long payableAmount(Order order) {
+        if (order.getOriginalAmount() == null) {
+            return order.getTotalAmount();
+        }
+        return payableAmount(order, getForPayment(order));
+    }
+
+    /**
+     * 이미 조회한 세션 기준 결제 금액 (검증 금액과 포인트 차감을 같은 세션 값으로 맞출 때)
+     */
+    public long payableAmount(Order order, CheckoutSession session) {
+        Long originalAmount = order.getOriginalAmount();
+        if (originalAmount == null) {
+            return order.getTotalAmount();
+        }
+        return session.payableAmount(originalAmount);
+    }
+
+    public void delete(Long orderId) {
+        redisTemplate.delete(key(orderId));
+    }
+
+    public void deleteAll(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) return;
+        redisTemplate.delete(orderIds.stream().map(CheckoutSessionService::key).toList());
+    }
+
+    private void write(RedisConnection connection, byte[] rawKey, Map<String, String> put, String... remove) {
+        if (!put.isEmpty()) {
+            Map<byte[], byte[]> raw = new HashMap<>();
+            put.forEach((field, value) -> raw.put(field.getBytes(UTF_8), value.getBytes(UTF_8)));
+            connection.hashCommands().hMSet(rawKey, raw);
+        }
+        if (remove.length > 0) {
+            byte[][] fields = Arrays.stream(remove).map(f -> f.getBytes(UTF_8)).toArray(byte[][]::new);
+            connection.hashCommands().hDel(rawKey, fields);
+        }
+        connection.keyCommands().expire(rawKey, ttlMinutes * 60);
+    }
+
+    private static void putOrRemove(Map<String, String> put, List<String> remove, String field, Object value) {
+        if (value == null || value.toString().isBlank()) {
+            remove.add(field);
+        } else {
+            put.put(field, value.toString());
+        }
+    }
+
+    private static String key(Long orderId) {
+        return "checkout:" + orderId;
+    }
+}
@@ -0,0 +1,141 @@
+package com.shop.respawn.service;
+
+import com.shop.respawn.domain.CouponCampaign;
+import com.shop.respawn.dto.coupon.CouponCampaignRequest;
+import com.shop.respawn.repository.jdbc.CouponJdbcRepository;
+import com.shop.respawn.repository.jpa.BuyerRepository;
+import com.shop.respawn.repository.jpa.CouponCampaignRepository;
+import com.shop.respawn.util.CouponPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쿠폰 일괄 발급 작업
+ * - 대상 구매자 id 를 keyset 으로 partitionSize 씩 읽어 워커 풀에 파티션 단위로 분배
+ * - 파티션마다 coupon_id 블록 예약 → 메모리에서 시간 정렬 코드 생성 → JDBC batch insert (파티션당 1 트랜잭션)
+ * - 워커 큐가 가득 차면 읽는 스레드가 직접 처리 (CallerRuns) 하여 메모리 상한 유지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponCampaignJob {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final BuyerRepository buyerRepository;
+    private final CouponJdbcRepository couponJdbcRepository;
+    private final CouponCampaignRepository campaignRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${coupon.campaign.partition-size:5000}")
+    private int partitionSize;
+
+    @Value("${coupon.campaign.parallelism:8}")
+    private int parallelism;
+
+    @Async
+    public void run(CouponCampaign campaign, CouponCampaignRequest request,
+                    CouponCampaignService.Progress progress, Runnable onFinish) {
+        long started = System.currentTimeMillis();
+        ThreadPoolExecutor workers = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(parallelism), new ThreadPoolExecutor.CallerRunsPolicy());
+        try {
+            Long lastBuyerId = null;
+            while (true) {
+                List<Long> partition = buyerRepository.findCampaignTargetIdsAfter(lastBuyerId,
+                        request.getGrades(), request.getBuyerIds(), request.getJoinedFrom(), request.getJoinedTo(),
+                        partitionSize);
+                if (partition.isEmpty()) break;
+                lastBuyerId = partition.get(partition.size() - 1);
+                progress.getBuyersScanned().addAndGet(partition.size());
+                workers.execute(() -> issuePartition(campaign, partition, progress));
+                if (partition.size() < partitionSize) break;
+            }
+            workers.shutdown();
+            if (!workers.awaitTermination(1, TimeUnit.HOURS)) {
+                throw new IllegalStateException("쿠폰 발급 파티션이 제한 시간 안에 끝나지 않았습니다.");
+            }
+            progress.complete();
+            log.info("쿠폰 캠페인 발급 완료 - campaignId={}, issued={}, failed={}, elapsedMs={}",
+                    campaign.getId(), progress.getIssuedCount().get(), progress.getFailedCount().get(),
+                    System.currentTimeMillis() - started);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            progress.fail(e);
+        } catch (RuntimeException e) {
+            progress.fail(e);
+            log.warn("쿠폰 캠페인 발급 실패 - campaignId={}", campaign.getId(), e);
+        } finally {
+            workers.shutdownNow();
+            saveResult(campaign.getId(), progress);
+            onFinish.run();
+        }
+    }
+
+    // 파티션 하나 발급: code unique 충돌 시 새 코드로 파티션 전체 재시도
+    private void issuePartition(CouponCampaign campaign, List<Long> buyerIds,
+                                CouponCampaignService.Progress progress) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                long firstId = couponJdbcRepository.reserveIds(buyerIds.size());
+                couponJdbcRepository.insertAll(buildRows(campaign, buyerIds, firstId));
+                progress.getIssuedCount().addAndGet(buyerIds.size());
+                meterRegistry.counter("coupon.campaign.issued").increment(buyerIds.size());
+                sample.stop(meterRegistry.timer("coupon.campaign.partition.duration"));
+                return;
+            } catch (DuplicateKeyException e) {
+                log.warn("쿠폰 코드 충돌로 파티션 재시도 - campaignId={}, attempt={}", campaign.getId(), attempt);
+            } catch (RuntimeException e) {
+                log.warn("쿠폰 발급 파티션 실패 - campaignId={}, firstBuyerId={}, size={}",
+                        campaign.getId(), buyerIds.get(0), buyerIds.size(), e);
+                break;
+            }
+        }
+        progress.getFailedCount().addAndGet(buyerIds.size());
+        meterRegistry.counter("coupon.campaign.failed").increment(buyerIds.size());
+    }
+
+    private List<CouponJdbcRepository.Row> buildRows(CouponCampaign campaign, List<Long> buyerIds, long firstId) {
+        LocalDateTime now = LocalDateTime.now();
+        List<CouponJdbcRepository.Row> rows = new ArrayList<>(buyerIds.size());
+        Set<String> codes = new HashSet<>(buyerIds.size() * 2);
+        long id = firstId;
+        for (Long buyerId : buyerIds) {
+            String code;
+            do {
+                code = CouponPolicy.generateCode();
+            } while (!codes.add(code)); // 파티션 내 중복은 메모리에서 제거
+            rows.add(new CouponJdbcRepository.Row(id++, buyerId, code, campaign.getName(),
+                    campaign.getCouponAmount(), now, campaign.getExpiresAt(), campaign.getId(), null));
+        }
+        return rows;
+    }
+
+    private void saveResult(Long campaignId, CouponCampaignService.Progress progress) {
+        try {
+            campaignRepository.findById(campaignId).ifPresent(c -> {
+                c.finish(progress.getState(), progress.getIssuedCount().get(),
+                        progress.getFailedCount().get(), progress.getError());
+                campaignRepository.save(c);
+            });
+        } catch (RuntimeException e) {
+            log.warn("쿠폰 캠페인 결과 저장 실패 - campaignId={}", campaignId, e);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.shop.respawn.service;
+
+import com.shop.respawn.domain.CouponCampaign;
+import com.shop.respawn.dto.coupon.CouponCampaignRequest;
+import com.shop.respawn.dto.coupon.CouponCampaignStatusDto;
+import com.shop.respawn.repository.jpa.CouponCampaignRepository;
+import com.shop.respawn.util.CouponPolicy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+@RequiredArgsConstructor
+public class CouponCampaignService {
+
+    private final CouponCampaignRepository campaignRepository;
+    private final CouponCampaignJob couponCampaignJob;
+
+    // 실행 중인 캠페인 진행 상태 (종료되면 coupon_campaign 행 기준으로 조회)
+    private final Map<Long, Progress> running = new ConcurrentHashMap<>();
+
+    /**
+     * 쿠폰 일괄 발급 캠페인 시작 (실제 발급은 CouponCampaignJob 에서 비동기로 수행)
+     */
+    public CouponCampaignStatusDto start(CouponCampaignRequest request) {
+        if (request.getName() == null || request.getName().isBlank()) {
+            throw new IllegalArgumentException("캠페인 쿠폰 이름은 비어 있을 수 없습니다.");
+        }
+        if (request.getCouponAmount() == null || request.getCouponAmount() <= 0L) {
+            throw new IllegalArgumentException("쿠폰 금액은 0보다 커야 합니다.");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = request.getExpiresAt() != null
+                ? request.getExpiresAt()
+                : CouponPolicy.defaultExpiry(now);
+        if (!expiresAt.isAfter(now)) {
+            throw new IllegalArgumentException("만료일은 현재 시각 이후여야 합니다.");
+        }
+
+        CouponCampaign campaign = campaignRepository.save(CouponCampaign.start(
+                request.getName(), request.getCouponAmount(), expiresAt, describeSelector(request)));
+
+        Progress progress = new Progress(campaign.getId(), campaign.getName(), campaign.getStartedAt());
+        running.put(campaign.getId(), progress);
+        couponCampaignJob.run(campaign, request, progress, () -> running.remove(campaign.getId()));
+        return progress.toStatus();
+    }
+
+    public CouponCampaignStatusDto getStatus(Long campaignId) {
+        Progress progress = running.get(campaignId);
+        if (progress != null) {
+            return progress.toStatus();
+        }
+        CouponCampaign campaign = campaignRepository.findById(campaignId)
+                .orElseThrow(() -> new IllegalArgumentException("캠페인을 찾을 수 없습니다: " + campaignId));
+        return new CouponCampaignStatusDto(campaign.getId(), campaign.getName(), campaign.getState(),
+                campaign.getIssuedCount() + campaign.getFailedCount(),
+                campaign.getIssuedCount(), campaign.getFailedCount(),
+                rate(campaign.getIssuedCount(), campaign.getStartedAt(), campaign.getFinishedAt()),
+                campaign.getStartedAt(), campaign.getFinishedAt(), campaign.getError());
+    }
+
+    private String describeSelector(CouponCampaignRequest request) {
+        StringBuilder sb = new StringBuilder();
+        if (request.getGrades() != null && !request.getGrades().isEmpty()) {
+            sb.append("grades=").append(request.getGrades()).append(' ');
+        }
+        if (request.getBuyerIds() != null && !request.getBuyerIds().isEmpty()) {
+            sb.append("buyerIds=").append(request.getBuyerIds().size()).append("건 ");
+        }
+        if (request.getJoinedFrom() != null) {
+            sb.append("joinedFrom=").append(request.getJoinedFrom()).append(' ');
+        }
+        if (request.getJoinedTo() != null) {
+            sb.append("joinedTo=").append(request.getJoinedTo()).append(' ');
+        }
+        return sb.isEmpty() ? "ALL" : sb.toString().trim();
+    }
+
+    private static double rate(long issued, LocalDateTime startedAt, LocalDateTime finishedAt) {
+        LocalDateTime end = finishedAt != null ? finishedAt : LocalDateTime.now();
+        long millis = Math.max(1L, Duration.between(startedAt, end).toMillis());
+        return issued * 1000.0 / millis;
+    }
+
+    /**
+     * 캠페인 진행 상태 (여러 파티션 워커가 동시에 갱신)
+     */
+    @Getter
+    public static class Progress {
+        private final Long campaignId;
+        private final String name;
+        private final LocalDateTime startedAt;
+        private final AtomicLong buyersScanned = new AtomicLong();
+        private final AtomicLong issuedCount = new AtomicLong();
+        private final AtomicLong failedCount = new AtomicLong();
+        private volatile String state = "RUNNING";
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        Progress(Long campaignId, String name, LocalDateTime startedAt) {
+            this.campaignId = campaignId;
+            this.name = name;
+            this.startedAt = startedAt;
+        }
+
+        public void complete() {
+            this.finishedAt = LocalDateTime.now();
+            this.state = "COMPLETED";
+        }
+
+        public void fail(Throwable e) {
+            this.error = e.getMessage();
+            this.finishedAt = LocalDateTime.now();
+            this.state = "FAILED";
+        }
+
+        public CouponCampaignStatusDto toStatus() {
+            return new CouponCampaignStatusDto(campaignId, name, state,
+                    buyersScanned.get(), issuedCount.get(), failedCount.get(),
+                    rate(issuedCount.get(), startedAt, finishedAt),
+                    startedAt, finishedAt, error);
+        }
+    }
+}
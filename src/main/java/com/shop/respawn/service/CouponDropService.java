@@ -0,0 +1,273 @@
+package com.shop.respawn.service;
+
+import com.shop.respawn.domain.CouponDrop;
+import com.shop.respawn.dto.coupon.CouponDropClaimResponse;
+import com.shop.respawn.dto.coupon.CouponDropRequest;
+import com.shop.respawn.dto.coupon.CouponDropStatusDto;
+import com.shop.respawn.repository.jdbc.CouponJdbcRepository;
+import com.shop.respawn.repository.jpa.CouponDropRepository;
+import com.shop.respawn.repository.jpa.CouponRepository;
+import com.shop.respawn.util.CouponPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 선착순 한정 수량 쿠폰 이벤트
+ * - 응모: Lua 스크립트 1회로 중복 확인(SISMEMBER) + 잔여 수량 차감(DECR) + 당첨자 등록을 원자적으로 처리 (초과 발급 없음)
+ * - 매진 여부는 로컬 메모리에 기억해 이후 응모는 Redis 왕복 없이 즉시 응답
+ * - 당첨자는 Redis 적재 대기 리스트에 쌓이고, 스케줄러가 배치로 coupons 에 JDBC insert
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponDropService {
+
+    private static final String ACTIVE_DROPS_KEY = "coupon:drop:active";
+
+    // KEYS[1]=잔여 수량, KEYS[2]=당첨자 set, KEYS[3]=적재 대기 list / ARGV[1]=buyerId
+    // 반환: 1 당첨, 0 매진, -1 이미 응모, -2 이벤트 없음(미오픈/만료)
+    // 당첨자/대기 리스트는 잔여 수량 키와 같은 TTL (이벤트 종료 + 1일)
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then return -1 end
+            local stock = redis.call('GET', KEYS[1])
+            if not stock then return -2 end
+            if tonumber(stock) <= 0 then return 0 end
+            redis.call('DECR', KEYS[1])
+            redis.call('SADD', KEYS[2], ARGV[1])
+            redis.call('RPUSH', KEYS[3], ARGV[1])
+            local ttl = redis.call('TTL', KEYS[1])
+            if ttl > 0 then
+              redis.call('EXPIRE', KEYS[2], ttl)
+              redis.call('EXPIRE', KEYS[3], ttl)
+            end
+            return 1
+            """, Long.class);
+
+    // KEYS[1]=적재 대기 list, KEYS[2]=적재 중 list, KEYS[3]=락 / ARGV[1]=락 토큰, ARGV[2]=배치 크기, ARGV[3]=적재 중 TTL(초)
+    // 락 소유자일 때만 대기 리스트 앞부분을 적재 중 리스트로 원자적으로 이동해 반환
+    // 적재 중 리스트가 남아 있으면(이전 실행이 확정 전 중단) 그 배치를 다시 반환 - 재적재는 uk 충돌 처리로 중복 없음
+    // 반환: 배치 (락을 잃었으면 nil)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POP_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[3]) ~= ARGV[1] then return nil end
+            local inflight = redis.call('LRANGE', KEYS[2], 0, -1)
+            if #inflight > 0 then return inflight end
+            local batch = redis.call('LRANGE', KEYS[1], 0, tonumber(ARGV[2]) - 1)
+            if #batch == 0 then return batch end
+            redis.call('LTRIM', KEYS[1], #batch, -1)
+            redis.call('RPUSH', KEYS[2], unpack(batch))
+            redis.call('EXPIRE', KEYS[2], tonumber(ARGV[3]))
+            return batch
+            """, List.class);
+
+    // KEYS[1]=적재 중 list, KEYS[2]=락 / ARGV[1]=락 토큰 - 락 소유자일 때만 적재 완료 확정
+    private static final RedisScript<Long> ACK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[2]) ~= ARGV[1] then return 0 end
+            redis.call('DEL', KEYS[1])
+            return 1
+            """, Long.class);
+
+    // KEYS[1]=락 / ARGV[1]=락 토큰 - 본인 락만 해제
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end
+            return 0
+            """, Long.class);
+
+    private static final Duration FLUSH_LOCK_TTL = Duration.ofSeconds(30);
+    private static final Duration INFLIGHT_TTL = Duration.ofDays(1);
+
+    private final CouponDropRepository couponDropRepository;
+    private final CouponRepository couponRepository;
+    private final CouponJdbcRepository couponJdbcRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${coupon.drop.flush-batch-size:1000}")
+    private int flushBatchSize;
+
+    // 이벤트 메타(기간/금액)는 변경되지 않으므로 노드 로컬 캐시
+    private final Map<Long, CouponDrop> drops = new ConcurrentHashMap<>();
+    private final Set<Long> soldOut = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 이벤트 생성 + Redis 잔여 수량 초기화
+     */
+    public CouponDrop open(CouponDropRequest request) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime opensAt = request.getOpensAt() != null ? request.getOpensAt() : now;
+        LocalDateTime closesAt = request.getClosesAt() != null ? request.getClosesAt() : opensAt.plusDays(1);
+        LocalDateTime expiresAt = request.getExpiresAt() != null
+                ? request.getExpiresAt()
+                : CouponPolicy.defaultExpiry(closesAt);
+
+        CouponDrop drop = couponDropRepository.save(CouponDrop.create(
+                request.getName(), request.getCouponAmount(), request.getQuantity(), opensAt, closesAt, expiresAt));
+
+        // 이벤트 종료 후에도 적재/조회를 위해 하루 더 보관
+        Duration ttl = Duration.between(now, closesAt).plusDays(1);
+        redisTemplate.opsForValue().set(stockKey(drop.getId()), String.valueOf(drop.getQuantity()), ttl);
+        redisTemplate.opsForSet().add(ACTIVE_DROPS_KEY, String.valueOf(drop.getId()));
+        drops.put(drop.getId(), drop);
+        return drop;
+    }
+
+    /**
+     * 선착순 응모
+     */
+    public CouponDropClaimResponse claim(Long buyerId, Long dropId) {
+        if (soldOut.contains(dropId)) {
+            return result(dropId, "SOLD_OUT", "선착순 쿠폰이 모두 소진되었습니다.");
+        }
+        CouponDrop drop = getDrop(dropId);
+        if (!drop.isOpen(LocalDateTime.now())) {
+            return result(dropId, "NOT_OPEN", "이벤트 진행 기간이 아닙니다.");
+        }
+
+        Long code = redisTemplate.execute(CLAIM_SCRIPT,
+                List.of(stockKey(dropId), winnersKey(dropId), pendingKey(dropId)), String.valueOf(buyerId));
+
+        if (code == null || code == -2L) {
+            return result(dropId, "NOT_OPEN", "이벤트 진행 기간이 아닙니다.");
+        }
+        if (code == -1L) {
+            return result(dropId, "ALREADY_CLAIMED", "이미 응모한 이벤트입니다.");
+        }
+        if (code == 0L) {
+            soldOut.add(dropId);
+            return result(dropId, "SOLD_OUT", "선착순 쿠폰이 모두 소진되었습니다.");
+        }
+        return result(dropId, "WON", "쿠폰이 발급되었습니다. 쿠폰함에 곧 반영됩니다.");
+    }
+
+    public CouponDropStatusDto getStatus(Long dropId) {
+        CouponDrop drop = getDrop(dropId);
+        String remaining = redisTemplate.opsForValue().get(stockKey(dropId));
+        Long claimed = redisTemplate.opsForSet().size(winnersKey(dropId));
+        Long pending = redisTemplate.opsForList().size(pendingKey(dropId));
+        Long inflight = redisTemplate.opsForList().size(inflightKey(dropId));
+        return new CouponDropStatusDto(drop.getId(), drop.getName(), drop.getQuantity(),
+                remaining == null ? 0L : Long.parseLong(remaining),
+                claimed == null ? 0L : claimed,
+                (pending == null ? 0L : pending) + (inflight == null ? 0L : inflight),
+                couponRepository.countByDropId(dropId),
+                drop.getOpensAt(), drop.getClosesAt());
+    }
+
+    /**
+     * 당첨자 비동기 적재 (스케줄러에서 주기적으로 호출)
+     * 이벤트별 Redis 락(소유자 토큰)으로 여러 노드 중 한 곳만 적재
+     * 배치는 대기 리스트 → 적재 중 리스트로 원자적으로 옮긴 뒤 적재하고, 적재 성공 후 락 소유자일 때만 적재 중 리스트 삭제
+     */
+    public void flushPending() {
+        Set<String> active = redisTemplate.opsForSet().members(ACTIVE_DROPS_KEY);
+        if (active == null) return;
+        for (String id : active) {
+            Long dropId = Long.valueOf(id);
+            try {
+                flushDrop(dropId);
+            } catch (RuntimeException e) {
+                log.warn("선착순 쿠폰 적재 실패 - dropId={}", dropId, e);
+            }
+        }
+    }
+
+    private void flushDrop(Long dropId) {
+        String lockKey = lockKey(dropId);
+        String token = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(lockKey, token, FLUSH_LOCK_TTL);
+        if (!Boolean.TRUE.equals(locked)) return;
+        try {
+            CouponDrop drop = getDrop(dropId);
+            List<String> keys = List.of(pendingKey(dropId), inflightKey(dropId), lockKey);
+            while (true) {
+                @SuppressWarnings("unchecked")
+                List<String> batch = redisTemplate.execute(POP_SCRIPT, keys,
+                        token, String.valueOf(flushBatchSize), String.valueOf(INFLIGHT_TTL.toSeconds()));
+                if (batch == null) {
+                    log.warn("선착순 쿠폰 적재 락 만료 - dropId={}", dropId);
+                    return;
+                }
+                if (batch.isEmpty()) {
+                    if (drop.getClosesAt().isBefore(LocalDateTime.now())) {
+                        redisTemplate.opsForSet().remove(ACTIVE_DROPS_KEY, String.valueOf(dropId));
+                    }
+                    return;
+                }
+                persist(drop, batch.stream().map(Long::valueOf).toList());
+                // 락을 잃었으면 적재 중 리스트를 남겨 두고 종료 (다음 소유자가 중복 없이 재적재)
+                Long acked = redisTemplate.execute(ACK_SCRIPT, List.of(inflightKey(dropId), lockKey), token);
+                if (!Long.valueOf(1L).equals(acked) || batch.size() < flushBatchSize) return;
+            }
+        } finally {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), token);
+        }
+    }
+
+    // 직전 적재 후 리스트 정리 전에 중단된 경우를 대비해, uk(drop_id, buyer_id) 충돌 시 적재된 당첨자를 빼고 재시도
+    private void persist(CouponDrop drop, List<Long> buyerIds) {
+        try {
+            couponJdbcRepository.insertAll(buildRows(drop, buyerIds));
+        } catch (DuplicateKeyException e) {
+            Set<Long> persisted = new HashSet<>(couponRepository.findDropWinnerIds(drop.getId(), buyerIds));
+            List<Long> remaining = buyerIds.stream().filter(id -> !persisted.contains(id)).toList();
+            if (!remaining.isEmpty()) {
+                couponJdbcRepository.insertAll(buildRows(drop, remaining));
+            }
+        }
+        meterRegistry.counter("coupon.drop.persisted").increment(buyerIds.size());
+    }
+
+    private List<CouponJdbcRepository.Row> buildRows(CouponDrop drop, List<Long> buyerIds) {
+        LocalDateTime now = LocalDateTime.now();
+        long id = couponJdbcRepository.reserveIds(buyerIds.size());
+        List<CouponJdbcRepository.Row> rows = new ArrayList<>(buyerIds.size());
+        for (Long buyerId : buyerIds) {
+            rows.add(new CouponJdbcRepository.Row(id++, buyerId, CouponPolicy.generateCode(), drop.getName(),
+                    drop.getCouponAmount(), now, drop.getExpiresAt(), null, drop.getId()));
+        }
+        return rows;
+    }
+
+    private CouponDrop getDrop(Long dropId) {
+        return drops.computeIfAbsent(dropId, id -> couponDropRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 쿠폰 이벤트입니다: " + id)));
+    }
+
+    private CouponDropClaimResponse result(Long dropId, String result, String message) {
+        meterRegistry.counter("coupon.drop.claims", "result", result).increment();
+        return new CouponDropClaimResponse(dropId, result, message);
+    }
+
+    // 해시 태그로 한 이벤트의 키를 같은 슬롯에 배치 (클러스터에서도 Lua 다중 키 사용 가능)
+    private static String stockKey(Long dropId) {
+        return "coupon:drop:{" + dropId + "}:stock";
+    }
+
+    private static String winnersKey(Long dropId) {
+        return "coupon:drop:{" + dropId + "}:winners";
+    }
+
+    private static String pendingKey(Long dropId) {
+        return "coupon:drop:{" + dropId + "}:pending";
+    }
+
+    private static String inflightKey(Long dropId) {
+        return "coupon:drop:{" + dropId + "}:inflight";
+    }
+
+    private static String lockKey(Long dropId) {
+        return "coupon:drop:{" + dropId + "}:flush-lock";
+    }
+}
@@ -9,7 +9,6 @@ import com.shop.respawn.domain.Buyer;
 import com.shop.respawn.domain.Coupon;
 import com.shop.respawn.repository.jpa.CouponRepository;
 import com.shop.respawn.repository.jpa.BuyerRepository;
-import com.shop.respawn.util.RedisUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -19,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -29,7 +29,7 @@ public class CouponService {
     private final CouponRepository couponRepository;
     private final BuyerRepository buyerRepository;
     private final OrderRepository orderRepository;
-    private final RedisUtil redisUtil;
+    private final CheckoutSessionService checkoutSessionService;
 
     public void newBuyerCoupon(Long buyerId) {
         Buyer buyer = buyerRepository.findById(buyerId)
@@ -74,6 +74,34 @@ public class CouponService {
         couponRepository.save(coupon);
     }
 
+    /**
+     * 등급 변경 쿠폰 일괄 발급 (등급 재계산 배치용)
+     * - 구매자는 프록시 참조만 사용해 조회 없이 insert
+     * - 쿠폰 금액이 0인 등급(BASIC)은 발급하지 않음
+     * @return 발급된 쿠폰 수
+     */
+    public int issueGradeCoupons(Map<Grade, List<Long>> buyerIdsByGrade) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Coupon> coupons = new ArrayList<>();
+        buyerIdsByGrade.forEach((tier, buyerIds) -> {
+            long couponAmount = CouponPolicy.couponAmount(tier);
+            if (couponAmount <= 0) return;
+            for (Long buyerId : buyerIds) {
+                coupons.add(Coupon.builder()
+                        .buyer(buyerRepository.getReferenceById(buyerId))
+                        .code(CouponPolicy.generateCode()) // 충돌은 code unique 인덱스가 차단
+                        .name(CouponPolicy.couponName(tier))
+                        .couponAmount(couponAmount)
+                        .issuedAt(now)
+                        .expiresAt(CouponPolicy.defaultExpiry(now))
+                        .used(false)
+                        .build());
+            }
+        });
+        couponRepository.saveAll(coupons);
+        return coupons.size();
+    }
+
     public void applyCouponIfValid(String code, long orderItemsAmount) {
         Coupon coupon = couponRepository.findByCode(code)
                 .orElseThrow(() -> new RuntimeException("쿠폰을 찾을 수 없습니다."));
@@ -127,10 +155,8 @@ public class CouponService {
             return CouponValidationResult.fail("상품 금액이 쿠폰 금액보다 커야 합니다."); // 금액 정책 [1]
         }
 
-        order.setTotalAmount(order.getTotalAmount() - coupon.getCouponAmount());
-
-        String redisKey = "order:" + orderId + ":couponAmount";
-        redisUtil.setData(redisKey, String.valueOf(coupon.getCouponAmount()));
+        // 결제 금액은 세션 기준으로 계산 (재적용 시 덮어쓰기이므로 중복 차감 없음)
+        checkoutSessionService.applyCoupon(orderId, couponCode, coupon.getCouponAmount());
 
         // 5) 통과
         return CouponValidationResult.ok(); // 비즈니스 결과 반환 [9]
@@ -142,35 +168,20 @@ public class CouponService {
                 .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다: " + orderId)); // 도메인 조회 [9]
         order.validateOwner(buyerId); // 비즈니스 규칙: 소유자 검증 [1]
 
-        String redisKey = "order:" + orderId + ":couponAmount";
-        String data = redisUtil.getData(redisKey);
-        order.setTotalAmount(order.getTotalAmount() + Long.parseLong(data));
-        redisUtil.deleteData(redisKey);
+        checkoutSessionService.cancelCoupon(orderId);
 
         // 5) 통과
         return CouponValidationResult.ok(); // 비즈니스 결과 반환 [9]
     }
 
-    // 쿠폰 코드 중복 검사
+    // 시간 정렬 난수 코드: 충돌은 code unique 인덱스가 최종 차단하므로 발급마다 조회하지 않음
     private String uniqueCode() {
-        String code;
-        do {
-            code = CouponPolicy.generateCode();
-        } while (couponRepository.findByCode(code).isPresent());
-        return code;
+        return CouponPolicy.generateCode();
     }
 
     @Transactional(readOnly = true)
     public CouponCountDto countCouponsByBuyerId(Long buyerId) {
-        LocalDateTime now = LocalDateTime.now();
-        List<CouponStatusDto> coupons = couponRepository.findAllByBuyerIdQueryDsl(buyerId);
-        int availableCount = (int) coupons.stream()
-                .filter(c -> !c.used() && c.expiresAt() != null && c.expiresAt().isAfter(now))
-                .count();
-        int unavailableCount = (int) coupons.stream()
-                .filter(c -> c.used() || c.expiresAt() == null || !c.expiresAt().isAfter(now))
-                .count();
-        return new CouponCountDto(availableCount, unavailableCount);
+        return couponRepository.countStatusByBuyerId(buyerId, LocalDateTime.now());
     }
 
     @Transactional(readOnly = true)
@@ -185,33 +196,23 @@ public class CouponService {
                 .map(CouponDTO::fromEntity);
     }
 
+    /**
+     * 주문 페이지 쿠폰 목록: 전체 쿠폰의 적용 가능 여부와 불가 사유(사용/만료/금액 미달)를 DB 에서 계산해 반환
+     * (엔티티를 모두 읽어 Java 에서 판정하던 기존 응답과 같은 항목/사유)
+     */
+    @Transactional(readOnly = true)
     public List<CouponUsageStatusDto> getCouponsUsageStatusByBuyerAndOrder(Long buyerId, Long orderId) {
-        List<Coupon> coupons = couponRepository.findAllByBuyerId(buyerId);
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다: " + orderId));
+        order.validateOwner(buyerId);
 
         long totalItemAmount = order.getOrderItems().stream()
                 .mapToLong(oi -> oi.getOrderPrice() * oi.getCount())
                 .sum();
 
-        List<CouponUsageStatusDto> result = new ArrayList<>();
-
-        for (Coupon coupon : coupons) {
-            CouponDTO dto = CouponDTO.fromEntity(coupon);
-            String failReason = null;
-
-            if (coupon.isUsed()) {
-                failReason = "이미 사용된 쿠폰입니다.";
-            } else if (coupon.getExpiresAt() == null || !coupon.getExpiresAt().isAfter(LocalDateTime.now())) {
-                failReason = "만료된 쿠폰입니다.";
-            } else if (totalItemAmount <= coupon.getCouponAmount()) {
-                failReason = "상품 금액이 쿠폰 금액보다 커야 합니다.";
-            }
-            boolean usable = (failReason == null);
-            result.add(CouponUsageStatusDto.create(dto, usable, failReason));
-        }
-
-        return result;
+        return couponRepository.findEligibilityByBuyerId(buyerId, totalItemAmount, LocalDateTime.now()).stream()
+                .map(c -> CouponUsageStatusDto.create(c.toCouponDTO(), c.usable(), c.failReason()))
+                .toList();
     }
 
     /**
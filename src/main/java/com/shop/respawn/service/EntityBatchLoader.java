@@ -0,0 +1,183 @@
+package com.shop.respawn.service;
+
+import com.shop.respawn.domain.Buyer;
+import com.shop.respawn.domain.Item;
+import com.shop.respawn.domain.OrderItem;
+import com.shop.respawn.domain.Seller;
+import com.shop.respawn.repository.jpa.BuyerRepository;
+import com.shop.respawn.repository.jpa.OrderItemRepository;
+import com.shop.respawn.repository.jpa.SellerRepository;
+import com.shop.respawn.repository.mongo.ItemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 요청 단위 연관 엔티티 일괄 로더
+ * DTO 조립 시 필요한 Buyer / Seller / OrderItem / Item 키를 모아 저장소별로 IN 쿼리 1회에 조회하고,
+ * 같은 요청 안에서는 조회 결과(없는 키 포함)를 재사용한다.
+ * 싱글톤 빈이며 메모이제이션 상태는 요청 속성에 보관한다. 요청 밖(@Async / @Scheduled 스레드)에서 호출하면
+ * ScopeNotActiveException 없이 호출마다 새 로더로 일괄 조회만 수행한다 (호출 간 재사용 없음).
+ */
+@Slf4j
+@Component
+public class EntityBatchLoader {
+
+    private static final String LOADERS_ATTRIBUTE = EntityBatchLoader.class.getName() + ".loaders";
+
+    private final BuyerRepository buyerRepository;
+    private final SellerRepository sellerRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final ItemRepository itemRepository;
+    private final BuyerDisplayNameCache buyerDisplayNameCache;
+
+    public EntityBatchLoader(BuyerRepository buyerRepository,
+                             SellerRepository sellerRepository,
+                             OrderItemRepository orderItemRepository,
+                             ItemRepository itemRepository,
+                             BuyerDisplayNameCache buyerDisplayNameCache) {
+        this.buyerRepository = buyerRepository;
+        this.sellerRepository = sellerRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.itemRepository = itemRepository;
+        this.buyerDisplayNameCache = buyerDisplayNameCache;
+    }
+
+    public Map<Long, Buyer> buyers(Collection<Long> ids) {
+        return loaders().buyers.loadMany(ids);
+    }
+
+    public Map<Long, Seller> sellers(Collection<Long> ids) {
+        return loaders().sellers.loadMany(ids);
+    }
+
+    public Map<Long, OrderItem> orderItems(Collection<Long> ids) {
+        return loaders().orderItems.loadMany(ids);
+    }
+
+    public Map<String, Item> items(Collection<String> ids) {
+        return loaders().items.loadMany(ids);
+    }
+
+    /**
+     * 구매자 ID → username (조회되지 않으면 키 없음, 표시명 캐시 경유)
+     */
+    public Map<Long, String> buyerUsernames(Collection<Long> ids) {
+        return buyerDisplayNameCache.usernames(ids);
+    }
+
+    /**
+     * 판매자 ID → username (조회되지 않으면 키 없음)
+     */
+    public Map<Long, String> sellerUsernames(Collection<Long> ids) {
+        Map<Long, String> result = new HashMap<>();
+        sellers(ids).forEach((id, seller) -> result.put(id, seller.getUsername()));
+        return result;
+    }
+
+    // 현재 요청의 로더 (요청이 없으면 이번 호출 전용 로더)
+    private Loaders loaders() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return new Loaders();
+        }
+        Loaders loaders = (Loaders) attributes.getAttribute(LOADERS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (loaders == null) {
+            loaders = new Loaders();
+            attributes.setAttribute(LOADERS_ATTRIBUTE, loaders, RequestAttributes.SCOPE_REQUEST);
+        }
+        return loaders;
+    }
+
+    /**
+     * 요청 하나가 공유하는 저장소별 로더 묶음
+     */
+    private final class Loaders {
+
+        private final Loader<Long, Buyer> buyers =
+                new Loader<>("buyer", buyerRepository::findAllById, Buyer::getId);
+        private final Loader<Long, Seller> sellers =
+                new Loader<>("seller", sellerRepository::findAllById, Seller::getId);
+        // 주문 아이템은 DTO 에서 주문일시를 함께 쓰므로 주문을 fetch join
+        private final Loader<Long, OrderItem> orderItems =
+                new Loader<>("orderItem", orderItemRepository::findAllWithOrderByIdIn, OrderItem::getId);
+        private final Loader<String, Item> items =
+                new Loader<>("item", itemRepository::findAllById, Item::getId);
+    }
+
+    /**
+     * 문자열 ID 목록을 Long 으로 변환 (null / 숫자가 아닌 값은 제외)
+     */
+    public static List<Long> toLongIds(Collection<String> ids) {
+        List<Long> result = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            Long parsed = parseId(id);
+            if (parsed != null) {
+                result.add(parsed);
+            }
+        }
+        return result;
+    }
+
+    public static Long parseId(String id) {
+        if (id == null || id.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(id);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 저장소 하나에 대한 배치 + 메모이제이션 로더
+     * 아직 조회하지 않은 키만 모아 한 번에 조회하고, 조회 결과가 없는 키도 기억해 다시 조회하지 않는다.
+     */
+    private static final class Loader<K, V> {
+
+        private final String name;
+        private final Function<Collection<K>, ? extends Iterable<V>> batchFn;
+        private final Function<V, K> keyFn;
+        private final Map<K, V> cache = new HashMap<>();
+        private final Set<K> loaded = new HashSet<>();
+
+        private Loader(String name, Function<Collection<K>, ? extends Iterable<V>> batchFn, Function<V, K> keyFn) {
+            this.name = name;
+            this.batchFn = batchFn;
+            this.keyFn = keyFn;
+        }
+
+        Map<K, V> loadMany(Collection<K> keys) {
+            Set<K> pending = new LinkedHashSet<>();
+            for (K key : keys) {
+                if (key != null && !loaded.contains(key)) {
+                    pending.add(key);
+                }
+            }
+
+            if (!pending.isEmpty()) {
+                int found = 0;
+                for (V value : batchFn.apply(pending)) {
+                    cache.put(keyFn.apply(value), value);
+                    found++;
+                }
+                loaded.addAll(pending);
+                log.debug("일괄 조회 - {}: 요청 {}건, 조회 {}건", name, pending.size(), found);
+            }
+
+            Map<K, V> result = new HashMap<>();
+            for (K key : keys) {
+                V value = key != null ? cache.get(key) : null;
+                if (value != null) {
+                    result.put(key, value);
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.shop.respawn.service;
+
+import com.shop.respawn.domain.Grade;
+import com.shop.respawn.dto.gradeRecalc.BuyerGradeDto;
+import com.shop.respawn.dto.gradeRecalc.BuyerSpendDto;
+import com.shop.respawn.dto.gradeRecalc.GradeRecalcResponse;
+import com.shop.respawn.repository.jpa.BuyerRepository;
+import com.shop.respawn.repository.jpa.PaymentRepository;
+import com.shop.respawn.util.GradePolicy;
+import com.shop.respawn.util.MonthlyPeriodUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 월간 등급 재계산 (set-based)
+ * 1) 저번달 결제 합계를 buyer 별 GROUP BY 1회로 집계
+ * 2) 구매자 (id, grade) 를 id keyset 청크로 읽어 메모리에서 새 등급과 비교
+ * 3) 변경분만 등급 버킷별 bulk update + 쿠폰 일괄 발급 (UserGradeService 호출 → 청크별 트랜잭션)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GradeRecalcEngine {
+
+    private final BuyerRepository buyerRepository;
+    private final PaymentRepository paymentRepository;
+    private final UserGradeService userGradeService;
+    private final GradePolicy gradePolicy;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${grade.recalc.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * buyerIds 가 null 또는 empty 면 전체 구매자 대상
+     * 청크 단위로 커밋하여 실패한 청크만 제외하고 부분 성공을 허용
+     */
+    public GradeRecalcResponse run(List<Long> buyerIds) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<Long> targets = (buyerIds == null || buyerIds.isEmpty()) ? null : buyerIds;
+
+        LocalDateTime[] range = MonthlyPeriodUtil.previousMonthRange();
+        Map<Long, Long> spendByBuyer = paymentRepository.sumAmountGroupByBuyer(range[0], range[1], targets).stream()
+                .collect(Collectors.toMap(BuyerSpendDto::buyerId, BuyerSpendDto::amount));
+
+        int processed = 0, failed = 0, couponsIssued = 0;
+        Map<Grade, Integer> changedByGrade = new EnumMap<>(Grade.class);
+
+        Long lastBuyerId = null;
+        while (true) {
+            List<BuyerGradeDto> chunk = buyerRepository.findGradesAfter(lastBuyerId, targets, chunkSize);
+            if (chunk.isEmpty()) break;
+            lastBuyerId = chunk.get(chunk.size() - 1).buyerId();
+            processed += chunk.size();
+
+            Map<Grade, List<Long>> changes = new EnumMap<>(Grade.class);
+            for (BuyerGradeDto row : chunk) {
+                Grade newGrade = gradePolicy.resolveGrade(spendByBuyer.getOrDefault(row.buyerId(), 0L));
+                if (newGrade != row.grade()) {
+                    changes.computeIfAbsent(newGrade, g -> new ArrayList<>()).add(row.buyerId());
+                }
+            }
+            if (changes.isEmpty()) continue;
+
+            int changedInChunk = changes.values().stream().mapToInt(List::size).sum();
+            try {
+                couponsIssued += userGradeService.applyGradeChanges(changes);
+                changes.forEach((grade, ids) -> changedByGrade.merge(grade, ids.size(), Integer::sum));
+            } catch (RuntimeException e) {
+                failed += changedInChunk;
+                log.warn("등급 갱신 청크 실패 lastBuyerId={}, size={}", lastBuyerId, changedInChunk, e);
+            }
+        }
+
+        long elapsedMs = sample.stop(meterRegistry.timer("grade.recalc.duration")) / 1_000_000;
+        int changed = changedByGrade.values().stream().mapToInt(Integer::intValue).sum();
+        meterRegistry.counter("grade.recalc.buyers.scanned").increment(processed);
+        meterRegistry.counter("grade.recalc.buyers.failed").increment(failed);
+        meterRegistry.counter("grade.recalc.coupons.issued").increment(couponsIssued);
+        changedByGrade.forEach((grade, count) ->
+                meterRegistry.counter("grade.recalc.buyers.changed", "grade", grade.name()).increment(count));
+
+        String msg = "processed=" + processed + ", changed=" + changed + ", failed=" + failed
+                + ", couponsIssued=" + couponsIssued + ", changedByGrade=" + changedByGrade
+                + ", elapsedMs=" + elapsedMs;
+        log.info("등급 재계산 완료 - {}", msg);
+        return new GradeRecalcResponse(processed, processed - failed, failed, msg);
+    }
+}
@@ -144,6 +144,10 @@ public class ItemService {
         return itemRepository.findPartialItemsByIds(itemIds);
     }
 
+    public boolean isItemOwnedBySeller(String itemId, String sellerId) {
+        return itemRepository.existsByIdAndSellerId(itemId, sellerId);
+    }
+
     public String getSellerIdByItemId(String itemId) {
         return itemRepository.findById(itemId)
                 .map(Item::getSellerId)
@@ -300,4 +304,11 @@ public class ItemService {
         item.addSoldCount(quantity);
         itemRepository.save(item);
     }
+
+    /**
+     * 리뷰 수 원자적 증감 (조회 후 저장 없이 $inc)
+     */
+    public void adjustReviewCount(String itemId, long delta) {
+        itemRepository.incrementReviewCount(itemId, delta);
+    }
 }
@@ -1,6 +1,7 @@
 package com.shop.respawn.service;
 
 import com.shop.respawn.domain.*;
+import com.shop.respawn.dto.CursorResponse;
 import com.shop.respawn.dto.point.ExpiringPointItemDto;
 import com.shop.respawn.dto.point.PointHistoryDto;
 import com.shop.respawn.dto.point.PointLedgerDto;
@@ -110,6 +111,13 @@ public class LedgerPointService {
         }
         long usedAbs = Math.abs(use.getAmount());
 
+        // 컴팩션으로 링크 일부가 아카이브된 오래된 USE 는 되돌릴 SAVE 가 핫 테이블에 없으므로 취소 불가
+        List<PointConsumeLink> links = linkRepository.findByUseLedger(use);
+        long linkedAmount = links.stream().mapToLong(PointConsumeLink::getConsumedAmount).sum();
+        if (linkedAmount != usedAbs) {
+            throw new IllegalStateException("보관 기간이 지나 취소할 수 없는 포인트 사용 내역입니다. useLedgerId=" + useLedgerId);
+        }
+
         Buyer buyer = use.getBuyer();
         PointLedger cancelUse = ledgerRepository.save(
                 PointLedger.of(buyer, PointTransactionType.CANCEL_USE, usedAbs,
@@ -117,7 +125,6 @@ public class LedgerPointService {
         );
 
         // 링크 되돌리기(최근 링크부터 되돌리는 정책 가능. 여기선 단순 전체 되돌림)
-        List<PointConsumeLink> links = linkRepository.findByUseLedger(use);
         for (PointConsumeLink link : links) {
             // 기존 USE → SAVE 링크를 기반으로 CANCEL_USE → SAVE 링크를 생성해 저장
             PointConsumeLink cancelLink = PointConsumeLink.of(link.getSaveLedger(), cancelUse, link.getConsumedAmount());
@@ -232,6 +239,21 @@ public class LedgerPointService {
         return pointQueryService.getAll(buyerId, pageable);
     }
 
+    public CursorResponse<PointLedgerDto> getSavesByCursor(Long buyerId, String cursor, int size, Integer year, Integer month) {
+        LocalDateTime[] range = toMonthRangeOrNull(year, month);
+        return pointQueryService.getSavesByCursor(buyerId, range[0], range[1], cursor, size);
+    }
+
+    public CursorResponse<PointLedgerDto> getUsesByCursor(Long buyerId, String cursor, int size, Integer year, Integer month) {
+        LocalDateTime[] range = toMonthRangeOrNull(year, month);
+        return pointQueryService.getUsesByCursor(buyerId, range[0], range[1], cursor, size);
+    }
+
+    public CursorResponse<PointHistoryDto> getAllByCursor(Long buyerId, String cursor, int size, Integer year, Integer month) {
+        LocalDateTime[] range = toMonthRangeOrNull(year, month);
+        return pointQueryService.getAllByCursor(buyerId, range[0], range[1], cursor, size);
+    }
+
     public List<ExpiringPointItemDto> getMonthlyExpiringList(Long buyerId, int year, int month) {
         LocalDateTime[] range = toMonthRange(year, month);
         return pointQueryService.getMonthlyExpiringList(buyerId, range[0], range[1]);
@@ -257,6 +279,13 @@ public class LedgerPointService {
         return new LocalDateTime[]{ first.atStartOfDay(), last.atTime(LocalTime.MAX) };
     }
 
+    private static LocalDateTime[] toMonthRangeOrNull(Integer year, Integer month) {
+        if (year == null || month == null) {
+            return new LocalDateTime[]{ null, null };
+        }
+        return toMonthRange(year, month);
+    }
+
     @Transactional(readOnly = true)
     public long getActive(Long buyerId) {
         return getOrCreateBalance(buyerId).getActive();
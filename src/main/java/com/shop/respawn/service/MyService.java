@@ -2,6 +2,7 @@ package com.shop.respawn.service;
 
 import com.shop.respawn.domain.*;
 import com.shop.respawn.dto.AddressDto;
+import com.shop.respawn.dto.CartLine;
 import com.shop.respawn.dto.notice.NoticeDto;
 import com.shop.respawn.dto.Payment.PaymentDto;
 import com.shop.respawn.dto.coupon.CouponUsageStatusDto;
@@ -140,9 +141,11 @@ public class MyService {
 
         // 장바구니에서 구매할 상품과 주소 OrderRequestDto에 세팅
         OrderRequestDto orderRequestDto2 = new OrderRequestDto();
-        List<Long> cartItemIds = new ArrayList<>();
-        cartItemIds.add(1L);
-        cartItemIds.add(2L);
+        // cartItemId 는 Redis 시퀀스로 발급되므로 담긴 줄에서 조회
+        List<Long> cartItemIds = cartService.getCartLines(buyerId).stream()
+                .filter(line -> items2.contains(line.itemId()))
+                .map(CartLine::cartItemId)
+                .toList();
         orderRequestDto2.setCartItemIds(cartItemIds);
         orderRequestDto2.setAddressId(1L);
 
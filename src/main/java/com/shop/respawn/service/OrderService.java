@@ -1,6 +1,8 @@
 package com.shop.respawn.service;
 
 import com.shop.respawn.domain.*;
+import com.shop.respawn.dto.CartLine;
+import com.shop.respawn.dto.CartView;
 import com.shop.respawn.dto.refund.RefundRequest;
 import com.shop.respawn.dto.order.*;
 import com.shop.respawn.dto.refund.RefundResponse;
@@ -8,7 +10,6 @@ import com.shop.respawn.dto.user.SellerOrderDetailDto;
 import com.shop.respawn.dto.user.SellerOrderDto;
 import com.shop.respawn.repository.jpa.*;
 import com.shop.respawn.repository.mongo.ItemRepository;
-import com.shop.respawn.util.RedisUtil;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -35,7 +36,7 @@ import static java.util.Comparator.nullsLast;
 public class OrderService {
 
     private final OrderRepository orderRepository;
-    private final CartRepository cartRepository;
+    private final CartService cartService;
     private final BuyerRepository buyerRepository;
     private final ItemRepository itemRepository;
     private final AddressRepository addressRepository;
@@ -47,7 +48,8 @@ public class OrderService {
     private final ItemService itemService;
     private final CouponService couponService;
 
-    private final RedisUtil redisUtil;
+    private final CheckoutSessionService checkoutSessionService;
+    private final EntityBatchLoader entityBatchLoader;
 
     /**
      * 임시 주문 상세 조회
@@ -110,12 +112,9 @@ public class OrderService {
         Buyer buyer = buyerRepository.findById(buyerId)
                 .orElseThrow(() -> new RuntimeException("구매자를 찾을 수 없습니다: " + buyerId));
 
-        Cart cart = cartRepository.findByBuyerId(buyerId)
-                .orElseThrow(() -> new RuntimeException("장바구니가 비어있습니다: buyerId=" + buyerId));
-
-        // 1) 선택된 카트 아이템 추출 + 기본 유효성 검증
-        List<CartItem> selectedCartItems = cart.getCartItems().stream()
-                .filter(cartItem -> orderRequest.getCartItemIds().contains(cartItem.getId()))
+        // 1) 선택된 카트 아이템 추출 (현재 가격/상태/재고를 한 번의 프로젝션 조회로 반영) + 기본 유효성 검증
+        List<CartView.Line> selectedCartItems = cartService.getCartView(buyerId).lines().stream()
+                .filter(viewLine -> orderRequest.getCartItemIds().contains(viewLine.line().cartItemId()))
                 .toList();
 
         if (selectedCartItems.isEmpty()) {
@@ -123,38 +122,33 @@ public class OrderService {
         }
 
         // 수량 검증
-        for (CartItem cartItem : selectedCartItems) {
-            if (cartItem.getCount() == null || cartItem.getCount() <= 0) {
-                throw new RuntimeException("잘못된 수량의 카트 항목이 있습니다: cartItemId=" + cartItem.getId());
+        for (CartView.Line viewLine : selectedCartItems) {
+            CartLine cartItem = viewLine.line();
+            if (cartItem.count() == null || cartItem.count() <= 0) {
+                throw new RuntimeException("잘못된 수량의 카트 항목이 있습니다: cartItemId=" + cartItem.cartItemId());
             }
         }
 
-        // 2) 필요한 Item을 한 번에 조회 (N+1 제거)
-        List<String> itemIds = selectedCartItems.stream()
-                .map(CartItem::getItemId)
-                .distinct()
-                .toList();
-
-        Map<String, Item> itemMap = itemRepository.findAllById(itemIds).stream()
-                .collect(Collectors.toMap(Item::getId, item -> item));
-
-        // 모든 선택 항목이 유효한지 확인 (존재/판매상태/재고 등 정책에 맞게)
-        for (CartItem cartItem : selectedCartItems) {
-            Item item = itemMap.get(cartItem.getItemId());
+        // 2) 모든 선택 항목이 유효한지 확인 (존재/판매상태/재고 등 정책에 맞게)
+        Map<String, Item> itemMap = new HashMap<>();
+        for (CartView.Line viewLine : selectedCartItems) {
+            CartLine cartItem = viewLine.line();
+            Item item = viewLine.item();
             if (item == null) {
-                throw new RuntimeException("상품을 찾을 수 없습니다: itemId=" + cartItem.getItemId());
+                throw new RuntimeException("상품을 찾을 수 없습니다: itemId=" + cartItem.itemId());
             }
             // 선택: 임시 주문이라도 기본 검증
             if (item.getStatus() != ItemStatus.SALE) {
-                throw new RuntimeException("판매 중이 아닌 상품입니다: itemId=" + cartItem.getItemId());
+                throw new RuntimeException("판매 중이 아닌 상품입니다: itemId=" + cartItem.itemId());
             }
-            if (item.getStockQuantity() < cartItem.getCount()) {
-                throw new RuntimeException("재고가 부족합니다: itemId=" + cartItem.getItemId()
-                        + ", 요청수량=" + cartItem.getCount() + ", 재고=" + item.getStockQuantity());
+            if (item.getStockQuantity() < cartItem.count()) {
+                throw new RuntimeException("재고가 부족합니다: itemId=" + cartItem.itemId()
+                        + ", 요청수량=" + cartItem.count() + ", 재고=" + item.getStockQuantity());
             }
+            itemMap.put(item.getId(), item);
         }
 
-        // 3) CartItem → OrderItem 변환 (카트 가격을 주문 가격으로 스냅샷)
+        // 3) CartItem → OrderItem 변환 (담을 때 가격이 아닌 현재 상품 가격으로 스냅샷)
         List<OrderItem> orderItems = selectedCartItems.stream()
                 .map(this::convertCartItemToOrderItem)
                 .toList();
@@ -183,6 +177,7 @@ public class OrderService {
 
         // 6) 저장
         Order savedOrder = orderRepository.save(order);
+        checkoutSessionService.open(savedOrder.getId());
         return savedOrder.getId();
     }
 
@@ -247,6 +242,7 @@ public class OrderService {
         order.setOriginalAmount(totalAmount);
 
         Order savedOrder = orderRepository.save(order);
+        checkoutSessionService.open(savedOrder.getId());
 
         return savedOrder.getId();
     }
@@ -269,7 +265,14 @@ public class OrderService {
             orderItem.setDelivery(delivery);
         }
 
-        String couponCode = orderRequest.getCouponCode();
+        // 쿠폰 사용 처리와 결제 금액을 같은 세션 스냅샷 기준으로 (요청의 쿠폰 코드는 세션과 일치할 때만 허용)
+        CheckoutSession session = checkoutSessionService.getForPayment(order);
+        String couponCode = session.couponCode();
+        String requestedCouponCode = orderRequest.getCouponCode();
+        if (requestedCouponCode != null && !requestedCouponCode.isBlank()
+                && !requestedCouponCode.equals(couponCode)) {
+            throw new IllegalArgumentException("적용된 쿠폰과 요청한 쿠폰이 다릅니다. 쿠폰을 다시 적용해주세요.");
+        }
         if (couponCode != null && !couponCode.isBlank()) {
             // 상품 총액 계산을 위해 orderItems를 넘겨 내부에서 상품총액 산출
             computeCouponDiscount(order.getOrderItems(), couponCode);
@@ -280,6 +283,7 @@ public class OrderService {
 
         // 3. 결제 정보 설정 (총금액, 주문명, pgOrderId 등)
         setPaymentInfoFromOrderItems(order, order.getOrderItems());
+        order.setTotalAmount(checkoutSessionService.payableAmount(order, session)); // 세션 기준 최종 결제 금액 확정
 
         // 4. 재고 차감
         reduceStockFromOrderItems(order.getOrderItems());
@@ -301,21 +305,13 @@ public class OrderService {
                 "system");
 
         // 7. 장바구니가 존재하면 주문된 아이템 제거
-        Optional<Cart> optionalCart = cartRepository.findByBuyerId(buyerId);
-        if (optionalCart.isPresent()) {
-            Cart cart = optionalCart.get();
-            List<String> orderedItemIds = order.getOrderItems().stream()
-                    .map(OrderItem::getItemId)
-                    .distinct()
-                    .toList();
-            cart.getCartItems().removeIf(cartItem -> orderedItemIds.contains(cartItem.getItemId()));
-            cartRepository.save(cart);
-        } else {
-            log.info("주문자 {}의 장바구니가 없어 아이템 제거를 건너뜁니다.", buyerId);
-        }
+        List<String> orderedItemIds = order.getOrderItems().stream()
+                .map(OrderItem::getItemId)
+                .distinct()
+                .toList();
+        cartService.removeOrderedItems(buyerId, orderedItemIds);
 
-        redisUtil.deleteData("order:" + orderId + ":couponAmount");
-        redisUtil.deleteData("order:" + orderId + ":pointAmount");
+        checkoutSessionService.delete(orderId);
 
         // 8. 최종 저장
         orderRepository.save(order);
@@ -566,12 +562,11 @@ public class OrderService {
             return null;       // null 반환해서 컨트롤러에서 204 No Content 처리 가능
         }
 
-        // 주문 있으면 DTO 변환 진행
+        // 주문 있으면 DTO 변환 진행 (상품 일괄 조회)
+        Map<String, Item> itemMap = loadItems(order.getOrderItems());
         List<OrderHistoryItemDto> itemDtos = order.getOrderItems().stream()
-                .map(orderItem -> {
-                    Item item = itemService.getItemById(orderItem.getItemId());
-                    return OrderHistoryItemDto.from(orderItem, item);
-                }).toList();
+                .map(orderItem -> OrderHistoryItemDto.from(orderItem, requireItem(itemMap, orderItem.getItemId())))
+                .toList();
 
         return new OrderHistoryDto(order, itemDtos);
     }
@@ -583,12 +578,11 @@ public class OrderService {
         Order order = orderRepository.findByIdAndBuyerIdWithItems(orderId, buyerId)
                 .orElseThrow(() -> new EntityNotFoundException("주문을 찾을 수 없습니다."));
 
-        // 주문 있으면 DTO 변환 진행
+        // 주문 있으면 DTO 변환 진행 (상품 일괄 조회)
+        Map<String, Item> itemMap = loadItems(order.getOrderItems());
         List<OrderHistoryItemDto> itemDtos = order.getOrderItems().stream()
-                .map(orderItem -> {
-                    Item item = itemService.getItemById(orderItem.getItemId());
-                    return OrderHistoryItemDto.from(orderItem, item);
-                }).toList();
+                .map(orderItem -> OrderHistoryItemDto.from(orderItem, requireItem(itemMap, orderItem.getItemId())))
+                .toList();
 
         return new OrderHistoryDto(order, itemDtos);
     }
@@ -605,9 +599,10 @@ public class OrderService {
 
         Payment payment = paymentRepository.findByOrder(order).orElse(null);
 
-        // 상품 DTO 변환
+        // 상품 DTO 변환 (상품 일괄 조회)
+        Map<String, Item> itemMap = loadItems(order.getOrderItems());
         List<OrderCompleteInfoDto.OrderCompleteItemDto> itemDtos = order.getOrderItems().stream()
-                .map(oi -> OrderCompleteInfoDto.OrderCompleteItemDto.from(oi, itemService.getItemById(oi.getItemId())))
+                .map(oi -> OrderCompleteInfoDto.OrderCompleteItemDto.from(oi, requireItem(itemMap, oi.getItemId())))
                 .toList();
 
         // 배송 DTO 변환
@@ -624,6 +619,20 @@ public class OrderService {
         return OrderCompleteInfoDto.from(order, itemDtos, deliveryDtos, coupon, payment, savedLedger);
     }
 
+    private Map<String, Item> loadItems(List<OrderItem> orderItems) {
+        return entityBatchLoader.items(orderItems.stream()
+                .map(OrderItem::getItemId)
+                .toList());
+    }
+
+    private Item requireItem(Map<String, Item> itemMap, String itemId) {
+        Item item = itemMap.get(itemId);
+        if (item == null) {
+            throw new RuntimeException("상품을 찾을 수 없습니다: " + itemId);
+        }
+        return item;
+    }
+
     /**
      * 현재 사용자의 모든 임시 주문 삭제 (TEMPORARY 상태인 주문들을 일괄 삭제)
      */
@@ -631,10 +640,7 @@ public class OrderService {
         // 해당 구매자의 TEMPORARY 상태인 모든 주문 조회
         List<Order> temporaryOrders = orderRepository.findByBuyerIdAndStatus(buyerId, OrderStatus.TEMPORARY);
 
-        for (Order temporaryOrder : temporaryOrders) {
-            redisUtil.deleteData("order:" + temporaryOrder.getId() + ":couponAmount");
-            redisUtil.deleteData("order:" + temporaryOrder.getId() + ":pointAmount");
-        }
+        checkoutSessionService.deleteAll(temporaryOrders.stream().map(Order::getId).toList());
 
         if (temporaryOrders.isEmpty()) {
             log.info("삭제할 임시 주문이 없습니다. buyerId: {}", buyerId);
@@ -662,6 +668,12 @@ public class OrderService {
                 "SUCCESS"
         );
 
+        // 환불 가능 아이템의 상품 일괄 조회
+        Map<String, Item> itemMap = loadItems(orders.stream()
+                .flatMap(o -> o.getOrderItems().stream())
+                .filter(oi -> oi.getRefundStatus() == RefundStatus.NONE)
+                .toList());
+
         List<OrderHistoryDto> result = new ArrayList<>();
 
         for (Order order : orders) {
@@ -673,12 +685,12 @@ public class OrderService {
             if (!refundableItems.isEmpty()) {
                 List<OrderHistoryItemDto> itemDtos = new ArrayList<>();
                 for (OrderItem oi : refundableItems) {
-                    try {
-                        Item item = itemService.getItemById(oi.getItemId());
-                        itemDtos.add(OrderHistoryItemDto.from(oi, item));
-                    } catch (Exception e) {
-                        log.error("환불 가능 내역 중 아이템 조회 오류 : itemId={}", oi.getItemId(), e);
+                    Item item = itemMap.get(oi.getItemId());
+                    if (item == null) {
+                        log.error("환불 가능 내역 중 아이템 조회 오류 : itemId={}", oi.getItemId());
+                        continue;
                     }
+                    itemDtos.add(OrderHistoryItemDto.from(oi, item));
                 }
                 result.add(new OrderHistoryDto(order, itemDtos));
             }
@@ -991,8 +1003,8 @@ public class OrderService {
             throw new RuntimeException("이미 배송 완료된 주문입니다.");
         }
 
-        // 배송 상태 변경
-        delivery.setStatus(DeliveryStatus.DELIVERED);
+        // 배송 상태 변경 (order_item.deliveryStatus 동기화)
+        orderItem.changeDeliveryStatus(DeliveryStatus.DELIVERED);
 
         // 필요시 주문 상태도 변경 가능 (예: 배송 완료 후 결제 완료 상태 유지 또는 별도 상태 변경)
 
@@ -1004,11 +1016,11 @@ public class OrderService {
     /**
      * 카트아이템에서 오더아이템으로 변환
      */
-    private OrderItem convertCartItemToOrderItem(CartItem cartItem) {
+    private OrderItem convertCartItemToOrderItem(CartView.Line viewLine) {
         OrderItem orderItem = new OrderItem();
-        orderItem.setItemId(cartItem.getItemId());
-        orderItem.setOrderPrice(cartItem.getCartPrice());  // 장바구니 가격을 주문 가격으로
-        orderItem.setCount(cartItem.getCount());
+        orderItem.setItemId(viewLine.line().itemId());
+        orderItem.setOrderPrice(viewLine.currentPrice());  // 현재 상품 가격을 주문 가격으로
+        orderItem.setCount(viewLine.line().count());
         return orderItem;
     }
 
@@ -1042,18 +1054,8 @@ public class OrderService {
             throw new RuntimeException("사용가능 포인트 부족");
         }
 
-        String redisKey = "order:" + orderId + ":pointAmount";
-
-        if (redisUtil.getData(redisKey) != null) {
-            String data = redisUtil.getData(redisKey);
-            order.setTotalAmount(order.getTotalAmount() + Long.parseLong(data));
-        }
-
-        order.setTotalAmount(order.getTotalAmount() - usePointAmount);
-        redisUtil.setData(redisKey, String.valueOf(usePointAmount));
-//        order.setUsedPointAmount(usePointAmount);
-
-        orderRepository.save(order);
+        // 재적용 시 덮어쓰기 (Order.totalAmount 는 결제 완료 시점에 한 번만 확정)
+        checkoutSessionService.applyPoints(orderId, usePointAmount);
 
         return "포인트 " + usePointAmount + "원이 적용되었습니다.";
     }
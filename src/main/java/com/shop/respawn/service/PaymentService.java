@@ -5,6 +5,7 @@ import com.shop.respawn.domain.Order;
 import com.shop.respawn.domain.OrderStatus;
 import com.shop.respawn.domain.PointLedger;
 import com.shop.respawn.dto.Payment.PaymentDto;
+import com.shop.respawn.dto.order.CheckoutSession;
 import com.shop.respawn.repository.jpa.BuyerRepository;
 import com.shop.respawn.repository.jpa.OrderRepository;
 import com.shop.respawn.repository.jpa.PaymentRepository;
@@ -38,22 +39,25 @@ public class PaymentService {
     private final BuyerRepository buyerRepository;
     private final OrderRepository orderRepository;
     private final LedgerPointService ledgerPointService;
+    private final CheckoutSessionService checkoutSessionService;
 
     public PaymentService(PaymentRepository paymentRepository,
                           BuyerRepository buyerRepository,
                           OrderRepository orderRepository,
                           LedgerPointService ledgerPointService,
+                          CheckoutSessionService checkoutSessionService,
                           @Value("${imp.api.key}") String impKey,
                           @Value("${imp.api.secretkey}") String impSecret) {
         this.buyerRepository = buyerRepository;
         this.orderRepository = orderRepository;
         this.paymentRepository = paymentRepository;
         this.ledgerPointService = ledgerPointService;
+        this.checkoutSessionService = checkoutSessionService;
         this.iamportClient = new IamportClient(impKey, impSecret);
     }
 
     // 결제 검증
-    public PaymentDto verifyPayment(String impUid, Long buyerId, Long orderId, Long usePointAmount) throws IamportResponseException, IOException {
+    public PaymentDto verifyPayment(String impUid, Long buyerId, Long orderId) throws IamportResponseException, IOException {
 
         // 1. 토큰 먼저 가져오기 (이건 인증 성공하니까 그대로 사용)
         String accessToken = iamportClient.getAuth().getResponse().getToken();
@@ -99,12 +103,14 @@ public class PaymentService {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다: " + orderId));
 
-        System.out.println("order.getTotalAmount() = " + order.getTotalAmount());
-        System.out.println("paidAmount = " + amount);
-        // 결제 금액 검증 (배송비 포함된 totalAmount와 비교)
-        if (!amount.equals(order.getTotalAmount())) {
+        // 결제 금액 검증 (배송비 포함 원금액 - 결제 세션의 쿠폰/포인트)
+        // 포인트 차감도 같은 세션 값으로 해야 검증한 할인과 실제 차감이 일치 (클라이언트 요청 값은 사용하지 않음)
+        // 세션이 만료됐으면 할인 없는 원금액으로 검증/결제하지 않고 거부
+        CheckoutSession session = checkoutSessionService.getForPayment(order);
+        long payableAmount = checkoutSessionService.payableAmount(order, session);
+        if (amount != payableAmount) {
             throw new RuntimeException(
-                    "결제 금액 불일치: PG=" + amount + ", 서버계산=" + order.getTotalAmount()
+                    "결제 금액 불일치: PG=" + amount + ", 서버계산=" + payableAmount
             );
         }
 
@@ -115,7 +121,7 @@ public class PaymentService {
                 .name(name)
                 .buyerId(buyerId)  // buyerId 추가
                 .orderId(orderId)  // orderId 추가
-                .usePointAmount(usePointAmount)
+                .usePointAmount(session.pointAmount())
                 .paymentMethod(paymentMethod)
                 .pgProvider(pgProvider)
                 .cardName(cardName)
@@ -138,8 +144,8 @@ public class PaymentService {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다: " + orderId));
 
-        // 2. totalAmount 가져오기 (배송비 포함된 금액)
-        BigDecimal amount = BigDecimal.valueOf(order.getTotalAmount());
+        // 2. 결제 금액 계산 (배송비 포함 원금액 - 결제 세션의 쿠폰/포인트)
+        BigDecimal amount = BigDecimal.valueOf(checkoutSessionService.payableAmount(order));
 
         // 3. 아임포트 사전검증 요청
         PrepareData prepareData = new PrepareData(merchantUid, amount);
@@ -151,6 +157,7 @@ public class PaymentService {
     }
     /**
      * 결제 정보를 데이터베이스에 저장
+     * usePointAmount 는 결제 세션에서 검증된 포인트 금액이어야 함 (verifyPayment 에서 세션 값으로 설정)
      */
     public void savePayment(PaymentDto paymentDto) {
         // Buyer 조회
@@ -0,0 +1,91 @@
+package com.shop.respawn.service;
+
+import com.shop.respawn.domain.*;
+import com.shop.respawn.repository.jpa.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointCompactionService {
+
+    private final PointLedgerRepository ledgerRepository;
+    private final PointConsumeLinkRepository linkRepository;
+    private final PointLedgerArchiveRepository ledgerArchiveRepository;
+    private final PointConsumeLinkArchiveRepository linkArchiveRepository;
+    private final PointOpeningBalanceRepository openingBalanceRepository;
+
+    /**
+     * 컴팩션 1청크 처리 (청크 단위 트랜잭션)
+     * 1) cutoff 이전 + 잔여 0 인 SAVE 원장을 chunkSize 만큼 조회
+     * 2) 원장/링크를 아카이브 테이블로 복사
+     * 3) 구매자별 기초 잔액 스냅샷 누적
+     * 4) 핫 테이블에서 링크 → 원장 순으로 삭제(FK)
+     * @return 이번 청크에서 옮긴 SAVE 원장 수
+     */
+    @Transactional
+    public int compactChunk(LocalDateTime cutoff, int chunkSize) {
+        List<PointLedger> saves = ledgerRepository.findCompactableSaveLedgers(cutoff, chunkSize);
+        if (saves.isEmpty()) return 0;
+
+        LocalDateTime now = LocalDateTime.now();
+        List<PointConsumeLink> links = linkRepository.findBySaveLedgerIn(saves);
+
+        ledgerArchiveRepository.saveAll(saves.stream()
+                .map(s -> PointLedgerArchive.from(s, now))
+                .toList());
+        linkArchiveRepository.saveAll(links.stream()
+                .map(l -> PointConsumeLinkArchive.from(l, now))
+                .toList());
+
+        absorbIntoOpeningBalances(saves, links);
+
+        ledgerArchiveRepository.flush();
+        linkArchiveRepository.flush();
+        openingBalanceRepository.flush();
+
+        linkRepository.deleteAllByIdInBatch(links.stream().map(PointConsumeLink::getId).toList());
+        ledgerRepository.deleteAllByIdInBatch(saves.stream().map(PointLedger::getId).toList());
+
+        log.info("포인트 원장 컴팩션 청크 완료 - saves={}, links={}, cutoff={}", saves.size(), links.size(), cutoff);
+        return saves.size();
+    }
+
+    private void absorbIntoOpeningBalances(List<PointLedger> saves, List<PointConsumeLink> links) {
+        Map<Long, Long> buyerIdBySaveId = saves.stream()
+                .collect(Collectors.toMap(PointLedger::getId, s -> s.getBuyer().getId()));
+
+        Map<Long, List<PointLedger>> savesByBuyer = saves.stream()
+                .collect(Collectors.groupingBy(s -> s.getBuyer().getId()));
+        Map<Long, Long> consumedByBuyer = links.stream()
+                .collect(Collectors.groupingBy(
+                        l -> buyerIdBySaveId.get(l.getSaveLedger().getId()),
+                        Collectors.summingLong(PointConsumeLink::getConsumedAmount)));
+
+        Map<Long, PointOpeningBalance> openings = openingBalanceRepository.findAllById(savesByBuyer.keySet()).stream()
+                .collect(Collectors.toMap(PointOpeningBalance::getBuyerId, Function.identity()));
+
+        for (Map.Entry<Long, List<PointLedger>> entry : savesByBuyer.entrySet()) {
+            Long buyerId = entry.getKey();
+            List<PointLedger> buyerSaves = entry.getValue();
+
+            long saveAmount = buyerSaves.stream().mapToLong(PointLedger::getAmount).sum();
+            LocalDateTime latest = buyerSaves.stream()
+                    .map(PointLedger::getOccurredAt)
+                    .max(Comparator.naturalOrder())
+                    .orElse(null);
+
+            PointOpeningBalance opening = openings.computeIfAbsent(buyerId, PointOpeningBalance::init);
+            opening.absorb(saveAmount, consumedByBuyer.getOrDefault(buyerId, 0L), buyerSaves.size(), latest);
+        }
+        openingBalanceRepository.saveAll(openings.values());
+    }
+}
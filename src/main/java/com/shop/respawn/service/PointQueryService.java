@@ -1,12 +1,17 @@
 package com.shop.respawn.service;
 
 import com.shop.respawn.domain.PointLedger;
+import com.shop.respawn.domain.PointOpeningBalance;
 import com.shop.respawn.domain.PointTransactionType;
+import com.shop.respawn.dto.CursorResponse;
 import com.shop.respawn.dto.point.ExpiringPointItemDto;
 import com.shop.respawn.dto.point.ExpiringPointTotalDto;
 import com.shop.respawn.dto.point.PointHistoryDto;
 import com.shop.respawn.dto.point.PointLedgerDto;
+import com.shop.respawn.repository.jpa.PointLedgerArchiveRepository;
 import com.shop.respawn.repository.jpa.PointLedgerRepository;
+import com.shop.respawn.repository.jpa.PointOpeningBalanceRepository;
+import com.shop.respawn.util.CursorUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
@@ -15,15 +20,23 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.EnumSet;
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PointQueryService {
 
+    private static final int MAX_CURSOR_SIZE = 100;
+    private static final Comparator<PointLedgerDto> KEYSET_ORDER =
+            Comparator.comparing(PointLedgerDto::getOccurredAt).reversed()
+                    .thenComparing(Comparator.comparing(PointLedgerDto::getId).reversed());
+
     private final PointLedgerRepository pointLedgerRepository;
+    private final PointLedgerArchiveRepository pointLedgerArchiveRepository;
+    private final PointOpeningBalanceRepository openingBalanceRepository;
 
     // 적립(+, SAVE와 CANCEL_USE) 목록
     public Page<PointLedgerDto> getSaves(Long buyerId, Pageable pageable) {
@@ -31,8 +44,8 @@ public class PointQueryService {
                 PointTransactionType.SAVE,
                 PointTransactionType.CANCEL_USE
         );
-        Page<PointLedger> page = pointLedgerRepository.findByBuyerAndTypes(buyerId, types, pageable);
-        return page.map(PointLedgerDto::from);
+        return withArchive(buyerId, types, null, null, pageable,
+                p -> pointLedgerRepository.findByBuyerAndTypes(buyerId, types, p));
     }
 
     // 월별: 적립(+)
@@ -41,8 +54,8 @@ public class PointQueryService {
                 PointTransactionType.SAVE,
                 PointTransactionType.CANCEL_USE
         );
-        Page<PointLedger> page = pointLedgerRepository.findByBuyerAndTypesAndOccurredBetween(buyerId, types, from, to, pageable);
-        return page.map(PointLedgerDto::from);
+        return withArchive(buyerId, types, from, to, pageable,
+                p -> pointLedgerRepository.findByBuyerAndTypesAndOccurredBetween(buyerId, types, from, to, p));
     }
 
     // 사용(-, USE/EXPIRE/CANCEL_SAVE) 목록
@@ -69,14 +82,168 @@ public class PointQueryService {
 
     // 통합(모든 타입) 목록
     public Page<PointHistoryDto> getAll(Long buyerId, Pageable pageable) {
-        Page<PointLedger> page = pointLedgerRepository.findAllByBuyer(buyerId, pageable);
-        return page.map(p -> PointHistoryDto.of(PointLedgerDto.from(p)));
+        return withArchive(buyerId, EnumSet.allOf(PointTransactionType.class), null, null, pageable,
+                p -> pointLedgerRepository.findAllByBuyer(buyerId, p))
+                .map(PointHistoryDto::of);
     }
 
     // 월별: 통합
     public Page<PointHistoryDto> getAllByMonth(Long buyerId, LocalDateTime from, LocalDateTime to, Pageable pageable) {
-        Page<PointLedger> page = pointLedgerRepository.findAllByBuyerAndOccurredBetween(buyerId, from, to, pageable);
-        return page.map(p -> PointHistoryDto.of(PointLedgerDto.from(p)));
+        return withArchive(buyerId, EnumSet.allOf(PointTransactionType.class), from, to, pageable,
+                p -> pointLedgerRepository.findAllByBuyerAndOccurredBetween(buyerId, from, to, p))
+                .map(PointHistoryDto::of);
+    }
+
+    /**
+     * 핫 테이블 페이지에 아카이브(SAVE) 원장을 합쳐 반환
+     * - 아카이브가 없거나, 조회 기간이 아카이브 경계 이후면 핫 테이블만 조회
+     * - 기본 정렬(occurredAt desc)에서 현재 페이지가 경계보다 최신이면 아카이브 건수만 합산
+     * - 그 외에는 양쪽 상위 (offset + size)건을 병합해 페이지를 잘라냄
+     */
+    private Page<PointLedgerDto> withArchive(Long buyerId, Set<PointTransactionType> types,
+                                             LocalDateTime from, LocalDateTime to, Pageable pageable,
+                                             Function<Pageable, Page<PointLedger>> hotQuery) {
+        Page<PointLedger> hot = hotQuery.apply(pageable);
+
+        PointOpeningBalance opening = types.contains(PointTransactionType.SAVE)
+                ? openingBalanceRepository.findById(buyerId).orElse(null)
+                : null;
+        if (opening == null || (from != null && from.isAfter(opening.getArchivedThrough()))) {
+            return hot.map(PointLedgerDto::from);
+        }
+
+        long archivedCount = (from == null)
+                ? opening.getArchivedLedgerCount()
+                : pointLedgerArchiveRepository.countByBuyer(buyerId, from, to);
+        if (archivedCount == 0) {
+            return hot.map(PointLedgerDto::from);
+        }
+
+        long total = hot.getTotalElements() + archivedCount;
+        if (!archiveReachesPage(hot, pageable, opening.getArchivedThrough())) {
+            List<PointLedgerDto> content = hot.getContent().stream().map(PointLedgerDto::from).toList();
+            return new PageImpl<>(content, pageable, total);
+        }
+
+        int window = (int) (pageable.getOffset() + pageable.getPageSize());
+        Stream<PointLedgerDto> hotTop = hotQuery.apply(PageRequest.of(0, window, pageable.getSort()))
+                .getContent().stream().map(PointLedgerDto::from);
+        Stream<PointLedgerDto> archivedTop = pointLedgerArchiveRepository
+                .findTopByBuyer(buyerId, from, to, pageable.getSort(), window)
+                .stream().map(PointLedgerDto::from);
+
+        List<PointLedgerDto> content = Stream.concat(hotTop, archivedTop)
+                .sorted(toComparator(pageable.getSort()))
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    // 기본 정렬(occurredAt desc)에서 꽉 찬 핫 페이지의 마지막 행이 경계보다 최신이면 아카이브 행이 끼어들 수 없음
+    private static boolean archiveReachesPage(Page<PointLedger> hot, Pageable pageable, LocalDateTime archivedThrough) {
+        Sort.Order first = pageable.getSort().stream().findFirst().orElse(null);
+        boolean occurredDesc = first == null
+                || ("occurredAt".equals(first.getProperty()) && first.isDescending());
+        if (!occurredDesc || hot.getNumberOfElements() < pageable.getPageSize()) {
+            return true;
+        }
+        List<PointLedger> content = hot.getContent();
+        return !content.get(content.size() - 1).getOccurredAt().isAfter(archivedThrough);
+    }
+
+    // 리포지토리 정렬 화이트리스트와 동일한 필드로 메모리 병합용 Comparator 구성
+    private static Comparator<PointLedgerDto> toComparator(Sort sort) {
+        Map<String, Comparator<PointLedgerDto>> sortable = Map.of(
+                "occurredAt", Comparator.comparing(PointLedgerDto::getOccurredAt),
+                "expiryAt", Comparator.comparing(PointLedgerDto::getExpiryAt, Comparator.nullsFirst(Comparator.naturalOrder())),
+                "amount", Comparator.comparing(PointLedgerDto::getAmount),
+                "id", Comparator.comparing(PointLedgerDto::getId),
+                "type", Comparator.comparing(PointLedgerDto::getType)
+        );
+
+        Comparator<PointLedgerDto> comparator = null;
+        for (Sort.Order o : sort) {
+            Comparator<PointLedgerDto> c = sortable.get(o.getProperty());
+            if (c == null) continue;
+            c = o.isAscending() ? c : c.reversed();
+            comparator = (comparator == null) ? c : comparator.thenComparing(c);
+        }
+        if (comparator == null) {
+            comparator = sortable.get("occurredAt").reversed().thenComparing(sortable.get("id").reversed());
+        }
+        return comparator;
+    }
+
+    // keyset: 적립(+)
+    public CursorResponse<PointLedgerDto> getSavesByCursor(Long buyerId, LocalDateTime from, LocalDateTime to,
+                                                           String cursor, int size) {
+        return readByCursor(buyerId, EnumSet.of(PointTransactionType.SAVE, PointTransactionType.CANCEL_USE),
+                from, to, cursor, size);
+    }
+
+    // keyset: 사용(-)
+    public CursorResponse<PointLedgerDto> getUsesByCursor(Long buyerId, LocalDateTime from, LocalDateTime to,
+                                                          String cursor, int size) {
+        return readByCursor(buyerId, EnumSet.of(PointTransactionType.USE, PointTransactionType.EXPIRE, PointTransactionType.CANCEL_SAVE),
+                from, to, cursor, size);
+    }
+
+    // keyset: 통합
+    public CursorResponse<PointHistoryDto> getAllByCursor(Long buyerId, LocalDateTime from, LocalDateTime to,
+                                                          String cursor, int size) {
+        CursorResponse<PointLedgerDto> page = readByCursor(buyerId, EnumSet.allOf(PointTransactionType.class),
+                from, to, cursor, size);
+        List<PointHistoryDto> items = page.items().stream().map(PointHistoryDto::of).toList();
+        return new CursorResponse<>(items, page.nextCursor(), page.hasNext());
+    }
+
+    /**
+     * (occurredAt, id) desc keyset 페이지
+     * - 타입별로 인덱스 순서대로 (size + 1)건씩만 읽고 메모리에서 병합 → 페이지 깊이와 무관한 비용
+     * - 아카이브는 핫 결과만으로 페이지가 경계 이후에서 채워지지 않을 때만 조회
+     */
+    private CursorResponse<PointLedgerDto> readByCursor(Long buyerId, Set<PointTransactionType> types,
+                                                        LocalDateTime from, LocalDateTime to,
+                                                        String cursor, int size) {
+        CursorUtil.Cursor c = CursorUtil.decodeLongId(cursor);
+        LocalDateTime cursorAt = (c == null) ? null : c.at();
+        Long cursorId = (c == null) ? null : c.idAsLong();
+        int limit = Math.max(1, Math.min(size, MAX_CURSOR_SIZE)) + 1;
+
+        List<PointLedgerDto> rows = new ArrayList<>();
+        if (types.size() == PointTransactionType.values().length) {
+            rows.addAll(pointLedgerRepository.findPageByCursor(buyerId, null, from, to, cursorAt, cursorId, limit));
+        } else {
+            for (PointTransactionType type : types) {
+                rows.addAll(pointLedgerRepository.findPageByCursor(buyerId, type, from, to, cursorAt, cursorId, limit));
+            }
+        }
+        rows.sort(KEYSET_ORDER);
+
+        if (types.contains(PointTransactionType.SAVE) && archiveReachesCursorPage(buyerId, rows, limit, from)) {
+            rows.addAll(pointLedgerArchiveRepository.findPageByCursor(buyerId, from, to, cursorAt, cursorId, limit));
+            rows.sort(KEYSET_ORDER);
+        }
+
+        boolean hasNext = rows.size() >= limit;
+        List<PointLedgerDto> items = rows.subList(0, Math.min(rows.size(), limit - 1));
+        if (!hasNext) {
+            return CursorResponse.of(items, null);
+        }
+        PointLedgerDto last = items.get(items.size() - 1);
+        return CursorResponse.of(items, CursorUtil.encode(last.getOccurredAt(), last.getId()));
+    }
+
+    private boolean archiveReachesCursorPage(Long buyerId, List<PointLedgerDto> sortedHotRows, int limit, LocalDateTime from) {
+        PointOpeningBalance opening = openingBalanceRepository.findById(buyerId).orElse(null);
+        if (opening == null || (from != null && from.isAfter(opening.getArchivedThrough()))) {
+            return false;
+        }
+        if (sortedHotRows.size() < limit) {
+            return true;
+        }
+        return !sortedHotRows.get(limit - 1).getOccurredAt().isAfter(opening.getArchivedThrough());
     }
 
     // 합계 전용
@@ -0,0 +1,215 @@
+package com.shop.respawn.service;
+
+import com.shop.respawn.domain.PointBalance;
+import com.shop.respawn.domain.PointBalanceDrift;
+import com.shop.respawn.domain.PointOpeningBalance;
+import com.shop.respawn.dto.point.PointLedgerTypeSumDto;
+import com.shop.respawn.repository.jpa.PointBalanceDriftRepository;
+import com.shop.respawn.repository.jpa.PointBalanceRepository;
+import com.shop.respawn.repository.jpa.PointLedgerRepository;
+import com.shop.respawn.repository.jpa.PointOpeningBalanceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 포인트 잔액 대사 작업
+ * - 원장/잔액/기초 잔액 중 어디든 행이 있는 buyerId 를 keyset 으로 batchSize 명씩 조회
+ *   (커서 스트리밍은 MySQL 드라이버 설정에 따라 전체 결과를 메모리에 올리므로 사용하지 않음)
+ * - 페이지마다 원장 (buyer, type) 합계를 IN 조회, fork-join 으로 병렬 검증, 진행 중 배치는 최대 1개 (메모리 상한)
+ * - 검증/보정은 워커 스레드에서 별도 커넥션/트랜잭션으로 수행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointReconciliationJob {
+
+    private static final int LEAF_SIZE = 200;
+
+    private final PointLedgerRepository ledgerRepository;
+    private final PointBalanceRepository balanceRepository;
+    private final PointOpeningBalanceRepository openingBalanceRepository;
+    private final PointBalanceDriftRepository driftRepository;
+
+    @Value("${point.reconcile.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${point.reconcile.parallelism:4}")
+    private int parallelism;
+
+    @Async
+    public void run(PointReconciliationService.Run run) {
+        long started = System.currentTimeMillis();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            ForkJoinTask<?> pending = null;
+            long after = 0L;
+            List<Long> buyerIds;
+            while (!(buyerIds = nextBuyerIds(after)).isEmpty()) {
+                after = buyerIds.getLast();
+                pending = submit(pool, pending, loadLedgerSums(buyerIds, run), run);
+            }
+            if (pending != null) {
+                pending.join();
+            }
+            run.complete();
+            log.info("포인트 대사 완료 - runId={}, buyers={}, drifts={}, repaired={}, elapsedMs={}",
+                    run.getRunId(), run.getBuyersScanned().get(), run.getDriftCount().get(),
+                    run.getRepairedCount().get(), System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            run.fail(e);
+            log.warn("포인트 대사 실패 - runId={}", run.getRunId(), e);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // 세 테이블의 buyerId 합집합에서 after 초과 batchSize 명 (각 테이블 상위 batchSize 명이면 합집합 상위 batchSize 명을 모두 포함)
+    private List<Long> nextBuyerIds(long after) {
+        TreeSet<Long> ids = new TreeSet<>(ledgerRepository.findBuyerIdsAfter(after, batchSize));
+        ids.addAll(balanceRepository.findBuyerIdsAfter(after, Limit.of(batchSize)));
+        ids.addAll(openingBalanceRepository.findBuyerIdsAfter(after, Limit.of(batchSize)));
+        return ids.stream().limit(batchSize).toList();
+    }
+
+    // 원장이 없는 구매자는 합계 0 으로 검증 (잔액 행만 남은 경우도 드리프트로 판정)
+    private List<LedgerSums> loadLedgerSums(List<Long> buyerIds, PointReconciliationService.Run run) {
+        Map<Long, LedgerSums> sums = new LinkedHashMap<>();
+        buyerIds.forEach(id -> sums.put(id, new LedgerSums(id)));
+        for (PointLedgerTypeSumDto row : ledgerRepository.findTypeSumsByBuyerIds(buyerIds)) {
+            run.getLedgerGroupsScanned().incrementAndGet();
+            sums.get(row.buyerId()).add(row);
+        }
+        return new ArrayList<>(sums.values());
+    }
+
+    // 이전 배치가 끝날 때까지 기다린 뒤 다음 배치 제출 (스트리밍과 검증을 한 배치씩 겹쳐 실행)
+    private ForkJoinTask<?> submit(ForkJoinPool pool, ForkJoinTask<?> pending,
+                                   List<LedgerSums> batch, PointReconciliationService.Run run) {
+        if (pending != null) {
+            pending.join();
+        }
+        if (batch.isEmpty()) return null;
+        return pool.submit(new CheckTask(batch, 0, batch.size(), run));
+    }
+
+    private class CheckTask extends RecursiveAction {
+        private final List<LedgerSums> batch;
+        private final int from;
+        private final int to;
+        private final PointReconciliationService.Run run;
+
+        CheckTask(List<LedgerSums> batch, int from, int to, PointReconciliationService.Run run) {
+            this.batch = batch;
+            this.from = from;
+            this.to = to;
+            this.run = run;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_SIZE) {
+                check(batch.subList(from, to), run);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new CheckTask(batch, from, mid, run), new CheckTask(batch, mid, to, run));
+        }
+    }
+
+    private void check(List<LedgerSums> slice, PointReconciliationService.Run run) {
+        List<Long> buyerIds = slice.stream().map(s -> s.buyerId).toList();
+        Map<Long, PointBalance> balances = balanceRepository.findAllById(buyerIds).stream()
+                .collect(Collectors.toMap(PointBalance::getBuyerId, Function.identity()));
+        Map<Long, PointOpeningBalance> openings = openingBalanceRepository.findAllById(buyerIds).stream()
+                .collect(Collectors.toMap(PointOpeningBalance::getBuyerId, Function.identity()));
+
+        List<PointBalanceDrift> drifts = new ArrayList<>();
+        int repairedCount = 0;
+
+        for (LedgerSums sums : slice) {
+            PointBalance actual = balances.get(sums.buyerId);
+            // 대사 시작 이후 변경된 잔액은 원장 스냅샷과 시점이 달라 판정 보류
+            if (actual != null && actual.getUpdatedAt().isAfter(run.getStartedAt())) continue;
+
+            PointOpeningBalance opening = openings.get(sums.buyerId);
+            long expectedTotal = sums.total + (opening == null ? 0L : opening.getArchivedSaveAmount());
+            long expectedActive = expectedTotal; // 모든 원장 처리에서 total 과 active 는 같은 폭으로 움직임
+            long expectedUsed = sums.used;
+            long expectedExpired = sums.expired;
+
+            if (actual != null
+                    && actual.getTotal() == expectedTotal
+                    && actual.getActive() == expectedActive
+                    && actual.getUsed() == expectedUsed
+                    && actual.getExpired() == expectedExpired) {
+                continue;
+            }
+
+            // 조회 이후 적립/사용으로 바뀐 잔액은 덮어쓰지 않고 보정 보류 (다음 대사에서 다시 판정)
+            boolean repaired = run.isAutoRepair()
+                    && repair(sums.buyerId, actual, expectedTotal, expectedActive, expectedUsed, expectedExpired);
+            if (repaired) {
+                repairedCount++;
+            }
+            drifts.add(PointBalanceDrift.of(run.getRunId(), sums.buyerId,
+                    expectedTotal, expectedActive, expectedUsed, expectedExpired, actual, repaired));
+        }
+
+        if (!drifts.isEmpty()) {
+            driftRepository.saveAll(drifts);
+        }
+        run.getBuyersScanned().addAndGet(slice.size());
+        run.getDriftCount().addAndGet(drifts.size());
+        run.getRepairedCount().addAndGet(repairedCount);
+    }
+
+    // 조건부 보정 (기존 행은 updatedAt 이 조회 시점 그대로일 때만, 없는 행은 여전히 없을 때만)
+    private boolean repair(Long buyerId, PointBalance actual,
+                           long total, long active, long used, long expired) {
+        LocalDateTime now = LocalDateTime.now();
+        if (actual != null) {
+            return balanceRepository.reconcileIfUnchanged(buyerId, actual.getUpdatedAt(),
+                    total, active, used, expired, now) == 1;
+        }
+        try {
+            return balanceRepository.insertIfAbsent(buyerId, total, active, used, expired, now) == 1;
+        } catch (DataIntegrityViolationException e) {
+            return false; // 동시에 다른 트랜잭션이 행을 생성
+        }
+    }
+
+    // 구매자 1명의 원장 합계 (부호 규칙은 PointLedger 참고)
+    private static class LedgerSums {
+        private final Long buyerId;
+        private long total;
+        private long used;
+        private long expired;
+
+        LedgerSums(Long buyerId) {
+            this.buyerId = buyerId;
+        }
+
+        void add(PointLedgerTypeSumDto row) {
+            long amount = row.amount() == null ? 0L : row.amount();
+            total += amount;
+            switch (row.type()) {
+                case USE, CANCEL_USE -> used -= amount;   // USE(-) 는 사용 증가, CANCEL_USE(+) 는 사용 감소
+                case EXPIRE -> expired -= amount;
+                default -> { }
+            }
+        }
+    }
+}
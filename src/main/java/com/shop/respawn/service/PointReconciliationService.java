@@ -0,0 +1,96 @@
+package com.shop.respawn.service;
+
+import com.shop.respawn.domain.PointBalanceDrift;
+import com.shop.respawn.dto.point.PointReconcileStatusDto;
+import com.shop.respawn.repository.jpa.PointBalanceDriftRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Service
+@RequiredArgsConstructor
+public class PointReconciliationService {
+
+    private final PointReconciliationJob pointReconciliationJob;
+    private final PointBalanceDriftRepository driftRepository;
+
+    private final AtomicReference<Run> current = new AtomicReference<>();
+
+    /**
+     * 대사 작업 시작 (이미 실행 중이면 예외)
+     * 실제 처리는 PointReconciliationJob 에서 비동기로 수행
+     */
+    public PointReconcileStatusDto start(boolean autoRepair) {
+        Run run = new Run(UUID.randomUUID().toString(), autoRepair);
+        Run previous = current.get();
+        if (previous != null && previous.isRunning()) {
+            throw new IllegalStateException("이미 포인트 대사 작업이 실행 중입니다. runId=" + previous.getRunId());
+        }
+        if (!current.compareAndSet(previous, run)) {
+            throw new IllegalStateException("이미 포인트 대사 작업이 실행 중입니다.");
+        }
+        pointReconciliationJob.run(run);
+        return run.toStatus();
+    }
+
+    public PointReconcileStatusDto getStatus() {
+        Run run = current.get();
+        return run == null ? PointReconcileStatusDto.idle() : run.toStatus();
+    }
+
+    @Transactional(readOnly = true)
+    public Page<PointBalanceDrift> getDrifts(String runId, Pageable pageable) {
+        return driftRepository.findByRunIdOrderByBuyerIdAsc(runId, pageable);
+    }
+
+    /**
+     * 실행 단위 진행 상태 (여러 fork-join 워커가 동시에 갱신)
+     */
+    @Getter
+    public static class Run {
+        private final String runId;
+        private final boolean autoRepair;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong buyersScanned = new AtomicLong();
+        private final AtomicLong ledgerGroupsScanned = new AtomicLong();
+        private final AtomicLong driftCount = new AtomicLong();
+        private final AtomicLong repairedCount = new AtomicLong();
+        private volatile String state = "RUNNING";
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        Run(String runId, boolean autoRepair) {
+            this.runId = runId;
+            this.autoRepair = autoRepair;
+        }
+
+        public boolean isRunning() {
+            return "RUNNING".equals(state);
+        }
+
+        public void complete() {
+            this.finishedAt = LocalDateTime.now();
+            this.state = "COMPLETED";
+        }
+
+        public void fail(Throwable e) {
+            this.error = e.getMessage();
+            this.finishedAt = LocalDateTime.now();
+            this.state = "FAILED";
+        }
+
+        public PointReconcileStatusDto toStatus() {
+            return new PointReconcileStatusDto(runId, state, autoRepair,
+                    buyersScanned.get(), ledgerGroupsScanned.get(), driftCount.get(), repairedCount.get(),
+                    startedAt, finishedAt, error);
+        }
+    }
+}
@@ -1,22 +1,27 @@
 package com.shop.respawn.service;
 
-import com.shop.respawn.domain.Buyer;
 import com.shop.respawn.domain.InquiryStatus;
 import com.shop.respawn.domain.Item;
 import com.shop.respawn.domain.ProductInquiry;
+import com.shop.respawn.dto.CursorResponse;
+import com.shop.respawn.dto.item.ItemSummaryDto;
 import com.shop.respawn.dto.productInquiry.InquiryRequest;
 import com.shop.respawn.dto.productInquiry.InquiryResponse;
 import com.shop.respawn.dto.productInquiry.InquirySummaryResponse;
-import com.shop.respawn.repository.jpa.BuyerRepository;
 import com.shop.respawn.repository.mongo.ProductInquiryRepository;
+import com.shop.respawn.util.CursorUtil;
 import com.shop.respawn.util.MaskingUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -26,9 +31,17 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ProductInquiryService {
 
+    private static final int MAX_CURSOR_SIZE = 100;
+    private static final String UNANSWERED_KEY_PREFIX = "inquiry:unanswered:";
+
     private final ProductInquiryRepository productInquiryRepository;
-    private final BuyerRepository buyerRepository;
+    private final BuyerDisplayNameCache buyerDisplayNameCache;
     private final ItemService itemService;
+    private final EntityBatchLoader entityBatchLoader;
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${inquiry.unanswered.cache-ttl-seconds:300}")
+    private long unansweredCacheTtlSeconds;
 
     // 문의 ID로 상세 조회
     public InquiryResponse getInquiryById(String inquiryId) {
@@ -36,59 +49,125 @@ public class ProductInquiryService {
         ProductInquiry inquiry = productInquiryRepository.findById(inquiryId)
                 .orElseThrow(() -> new RuntimeException("문의가 존재하지 않습니다."));
 
-        // 2) 구매자 username 조회 및 마스킹
-        Buyer buyer = buyerRepository.findById(Long.valueOf(inquiry.getBuyerId()))
-                .orElseThrow(() -> new RuntimeException("구매자를 찾을 수 없습니다."));
-        String maskedUsername = MaskingUtil.maskUsername(buyer.getUsername());
+        // 2) 구매자 username 조회(표시명 캐시) 및 마스킹
+        String username = buyerDisplayNameCache.username(EntityBatchLoader.parseId(inquiry.getBuyerId()), null);
+        if (username == null) {
+            throw new RuntimeException("구매자를 찾을 수 없습니다.");
+        }
+        String maskedUsername = MaskingUtil.maskUsername(username);
 
         // 3) DTO 생성 (정적 팩토리)
         return InquiryResponse.of(inquiry, maskedUsername);
     }
 
-    //상품별 제목 조회
+    //상품별 제목 조회 (status / openToPublic 은 Mongo 쿼리에서 필터, total 도 필터 기준)
     public Page<InquirySummaryResponse> getInquiryTitlesByItemId(
             String itemId, String status, Boolean openToPublic, Pageable pageable) {
 
-        Page<ProductInquiry> page = productInquiryRepository.findByItemId(itemId, pageable);
+        Page<ProductInquiry> page = productInquiryRepository.findByItemIdFiltered(
+                itemId, parseStatus(status), openToPublic, pageable);
 
-        // 옵션 필터
-        List<ProductInquiry> filtered = page.getContent().stream()
-                .filter(pi -> status == null || status.isBlank() || pi.getStatus().name().equalsIgnoreCase(status))
-                .filter(pi -> openToPublic == null || pi.isOpenToPublic() == openToPublic)
-                .toList();
+        if (page.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, page.getTotalElements());
+        }
 
-        if (filtered.isEmpty()) {
-            return new PageImpl<>(List.of(), pageable, 0);
+        return new PageImpl<>(toSummaries(page.getContent()), pageable, page.getTotalElements());
+    }
+
+    /**
+     * 상품별 제목 조회 (커서 페이지, 최신순)
+     * (questionDate, id) keyset 으로 idx_inquiry_item_status_public 범위만 읽음
+     */
+    public CursorResponse<InquirySummaryResponse> getInquiryTitlesByCursor(
+            String itemId, String status, Boolean openToPublic, String cursor, int size) {
+
+        CursorUtil.Cursor c = CursorUtil.decodeObjectId(cursor);
+        int limit = Math.max(1, Math.min(size, MAX_CURSOR_SIZE));
+
+        // (limit + 1)건 조회로 다음 페이지 존재 여부 판단
+        List<ProductInquiry> rows = productInquiryRepository.findByItemIdCursor(itemId, parseStatus(status), openToPublic,
+                c == null ? null : c.at(), c == null ? null : c.id(), limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<ProductInquiry> inquiries = hasNext ? rows.subList(0, limit) : rows;
+
+        List<InquirySummaryResponse> items = toSummaries(inquiries);
+        if (!hasNext) {
+            return CursorResponse.of(items, null);
         }
+        ProductInquiry last = inquiries.get(inquiries.size() - 1);
+        return CursorResponse.of(items, CursorUtil.encode(last.getQuestionDate(), last.getId()));
+    }
 
+    private List<InquirySummaryResponse> toSummaries(List<ProductInquiry> inquiries) {
         // username 일괄 조회
-        List<String> buyerIds = filtered.stream().map(ProductInquiry::getBuyerId).distinct().toList();
-        Map<Long, String> idToUsername = buyerRepository.findAllById(
-                buyerIds.stream().map(Long::valueOf).toList()
-        ).stream().collect(Collectors.toMap(Buyer::getId, Buyer::getUsername));
+        Map<Long, String> idToUsername = entityBatchLoader.buyerUsernames(EntityBatchLoader.toLongIds(
+                inquiries.stream().map(ProductInquiry::getBuyerId).toList()));
 
         // 공개 정책 반영하여 DTO 매핑
-        List<InquirySummaryResponse> content = filtered.stream()
+        return inquiries.stream()
                 .map(pi -> {
                     InquirySummaryResponse dto = InquirySummaryResponse.of(pi);
-                    String username = idToUsername.getOrDefault(Long.valueOf(pi.getBuyerId()), "알 수 없음");
-                    boolean isPublic = pi.isOpenToPublic();
-                    boolean answered = "ANSWERED".equals(pi.getStatus().name());
-
-                    if (!isPublic) {
+                    String username = idToUsername.getOrDefault(EntityBatchLoader.parseId(pi.getBuyerId()), "알 수 없음");
+                    if (!pi.isOpenToPublic()) {
                         dto.setQuestion("비공개 문의입니다.");
-                        dto.setBuyerUsername(MaskingUtil.maskUsername(username));
-                    } else if (!answered) {
-                        dto.setBuyerUsername(MaskingUtil.maskUsername(username));
-                    } else {
-                        dto.setBuyerUsername(MaskingUtil.maskUsername(username));
                     }
+                    dto.setBuyerUsername(MaskingUtil.maskUsername(username));
                     return dto;
                 })
                 .toList();
+    }
 
-        // 필터 적용 결과 기준 totalElements
-        return new PageImpl<>(content, pageable, content.size());
+    private InquiryStatus parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        try {
+            return InquiryStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 문의 상태입니다: " + status);
+        }
+    }
+
+    /**
+     * 판매자 상품별 미답변 문의 수 (Redis hash 캐시, 문의 등록/답변 시 무효화)
+     * - 캐시 미스 시 판매자 상품 ID 만 조회 후 WAITING 문의를 상품별로 집계해 저장 (문의 없는 상품은 0)
+     */
+    public Map<String, Long> getUnansweredCountsBySeller(String sellerId) {
+        String key = unansweredKey(sellerId);
+        Map<String, String> cached = redisTemplate.<String, String>opsForHash().entries(key);
+        if (!cached.isEmpty()) {
+            Map<String, Long> counts = new HashMap<>();
+            cached.forEach((itemId, count) -> counts.put(itemId, Long.parseLong(count)));
+            return counts;
+        }
+
+        List<String> itemIds = itemService.getMyItemIdAndNames(sellerId).stream()
+                .map(ItemSummaryDto::getId)
+                .toList();
+        Map<String, Long> waiting = productInquiryRepository.countWaitingByItemIds(itemIds);
+
+        Map<String, Long> counts = new HashMap<>();
+        Map<String, String> hash = new HashMap<>();
+        for (String itemId : itemIds) {
+            long count = waiting.getOrDefault(itemId, 0L);
+            counts.put(itemId, count);
+            hash.put(itemId, String.valueOf(count));
+        }
+        if (!hash.isEmpty()) {
+            redisTemplate.opsForHash().putAll(key, hash);
+            redisTemplate.expire(key, Duration.ofSeconds(unansweredCacheTtlSeconds));
+        }
+        return counts;
+    }
+
+    private void evictUnansweredCounts(String sellerId) {
+        if (sellerId != null) {
+            redisTemplate.delete(unansweredKey(sellerId));
+        }
+    }
+
+    private String unansweredKey(String sellerId) {
+        return UNANSWERED_KEY_PREFIX + sellerId;
     }
 
     // 상품 문의 등록
@@ -105,9 +184,11 @@ public class ProductInquiryService {
         inquiry.setOpenToPublic(dto.isOpenToPublic());
 
         ProductInquiry saved = productInquiryRepository.save(inquiry);
-        String buyerUsername = buyerRepository.findById(Long.valueOf(buyerId))
-                .map(Buyer::getUsername)
-                .orElse("알 수 없음");
+        String buyerUsername = buyerDisplayNameCache.username(Long.valueOf(buyerId), "알 수 없음");
+
+        // 해당 상품 판매자의 미답변 수 캐시 무효화
+        Item item = entityBatchLoader.items(List.of(dto.getItemId())).get(dto.getItemId());
+        evictUnansweredCounts(item != null ? item.getSellerId() : null);
 
         return InquiryResponse.of(saved, buyerUsername);
     }
@@ -126,21 +207,17 @@ public class ProductInquiryService {
                 .distinct()
                 .toList();
 
-        // 3) Item 일괄 조회 (부분 필드 조회 있으면 우선 사용)
-        List<Item> items = itemService.getItemsByIds(itemIds); // 또는 getPartialItemsByIds
-        Map<String, String> itemIdToName = items.stream()
-                .collect(Collectors.toMap(Item::getId, Item::getName));
+        // 3) Item 일괄 조회
+        Map<String, Item> items = entityBatchLoader.items(itemIds);
 
-        String buyerUsername = buyerRepository.findById(Long.valueOf(buyerId))
-                .map(Buyer::getUsername)
-                .orElse("알 수 없음");
+        String buyerUsername = buyerDisplayNameCache.username(Long.valueOf(buyerId), "알 수 없음");
 
         // 4) DTO 매핑
         List<InquiryResponse> content = page.getContent().stream()
                 .map(productInquiry -> InquiryResponse
                         .of(
                                 productInquiry,
-                                itemIdToName.getOrDefault(productInquiry.getItemId(), "알 수 없는 상품"),
+                                itemName(items.get(productInquiry.getItemId())),
                                 buyerUsername
                         )
                 )
@@ -173,10 +250,7 @@ public class ProductInquiryService {
                 .distinct()
                 .toList();
 
-        Map<Long, String> idToUsername = buyerRepository.findAllById(
-                        buyerIds.stream().map(Long::valueOf).toList())
-                .stream()
-                .collect(Collectors.toMap(Buyer::getId, Buyer::getUsername));
+        Map<Long, String> idToUsername = entityBatchLoader.buyerUsernames(EntityBatchLoader.toLongIds(buyerIds));
 
         // 판매자 화면 정책에 따라 마스킹 적용 여부 결정 (예: 미적용)
         Function<String, String> usernamePolicy = MaskingUtil::maskMiddleFourChars; // 필요 시 적용
@@ -184,7 +258,7 @@ public class ProductInquiryService {
         // 4) DTO 변환
         List<InquiryResponse> content = page.getContent().stream()
                 .map(pi -> {
-                    String username = idToUsername.getOrDefault(Long.valueOf(pi.getBuyerId()), "알 수 없음");
+                    String username = idToUsername.getOrDefault(EntityBatchLoader.parseId(pi.getBuyerId()), "알 수 없음");
                     String maskUsername = usernamePolicy.apply(username); // 정책상 마스킹 원하면 사용
                     return InquiryResponse.of(
                             pi,
@@ -225,10 +299,7 @@ public class ProductInquiryService {
                 .distinct()
                 .toList();
 
-        Map<Long, String> idToUsername = buyerRepository.findAllById(
-                        buyerIds.stream().map(Long::valueOf).toList())
-                .stream()
-                .collect(Collectors.toMap(Buyer::getId, Buyer::getUsername));
+        Map<Long, String> idToUsername = entityBatchLoader.buyerUsernames(EntityBatchLoader.toLongIds(buyerIds));
 
         // 판매자 화면 정책 마스킹(필요 시)
         Function<String, String> usernamePolicy = MaskingUtil::maskMiddleFourChars;
@@ -236,7 +307,7 @@ public class ProductInquiryService {
         // 4) DTO 변환
         List<InquiryResponse> content = page.getContent().stream()
                 .map(pi -> {
-                    String username = idToUsername.getOrDefault(Long.valueOf(pi.getBuyerId()), "알 수 없음");
+                    String username = idToUsername.getOrDefault(EntityBatchLoader.parseId(pi.getBuyerId()), "알 수 없음");
                     String maskUsername = usernamePolicy.apply(username);
                     return InquiryResponse.of(pi, itemName, maskUsername);
                 })
@@ -266,11 +337,12 @@ public class ProductInquiryService {
         inquiry.setStatus(InquiryStatus.ANSWERED);
 
         ProductInquiry saved = productInquiryRepository.save(inquiry);
-        String buyerId = saved.getBuyerId();
-        String buyerUsername = buyerRepository.findById(Long.valueOf(buyerId))
-                .map(Buyer::getUsername)
-                .orElse("알 수 없음");
+        evictUnansweredCounts(sellerId);
+        String buyerUsername = buyerDisplayNameCache.username(EntityBatchLoader.parseId(saved.getBuyerId()), "알 수 없음");
         return InquiryResponse.of(saved, buyerUsername);
     }
 
+    private String itemName(Item item) {
+        return (item != null && item.getName() != null) ? item.getName() : "알 수 없는 상품";
+    }
 }
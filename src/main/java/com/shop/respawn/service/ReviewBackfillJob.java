@@ -0,0 +1,77 @@
+package com.shop.respawn.service;
+
+import com.shop.respawn.domain.Review;
+import com.shop.respawn.repository.jpa.OrderItemRepository;
+import com.shop.respawn.repository.mongo.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * 리뷰 작성 가능 여부 추적 컬럼 백필 (컬럼 추가 이전 데이터용, 재실행해도 안전)
+ * 1) order_item.buyer_id / deliveryStatus 를 orders / delivery 에서 id 구간 단위로 복사
+ * 2) reviews 컬렉션의 orderItemId 를 스트리밍해 reviewed = true 로 일괄 표시
+ * 3) sellerId 가 없는 리뷰에 상품의 sellerId 를 채움 (판매자 리뷰 피드용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewBackfillJob {
+
+    private static final int CHUNK_SIZE = 5000;
+
+    private final ReviewService reviewService;
+    private final OrderItemRepository orderItemRepository;
+    private final ReviewRepository reviewRepository;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Async
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("리뷰 추적 컬럼 백필이 이미 실행 중입니다.");
+            return;
+        }
+        long started = System.currentTimeMillis();
+        try {
+            Long maxId = orderItemRepository.findMaxId();
+            long copied = 0;
+            for (long from = 1; maxId != null && from <= maxId; from += CHUNK_SIZE) {
+                copied += reviewService.backfillReviewTrackingChunk(from, from + CHUNK_SIZE - 1);
+            }
+
+            long marked = 0;
+            try (Stream<Review> reviews = reviewRepository.streamOrderItemIds()) {
+                List<Long> batch = new ArrayList<>(CHUNK_SIZE);
+                Iterator<Review> it = reviews.iterator();
+                while (it.hasNext()) {
+                    try {
+                        batch.add(Long.valueOf(it.next().getOrderItemId()));
+                    } catch (NumberFormatException ignore) {
+                        continue;
+                    }
+                    if (batch.size() >= CHUNK_SIZE) {
+                        marked += reviewService.markReviewedChunk(batch);
+                        batch = new ArrayList<>(CHUNK_SIZE);
+                    }
+                }
+                marked += reviewService.markReviewedChunk(batch);
+            }
+
+            long sellerFilled = reviewRepository.backfillSellerIds();
+            log.info("리뷰 추적 컬럼 백필 완료 - copied={}, marked={}, sellerFilled={}, elapsedMs={}",
+                    copied, marked, sellerFilled, System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.warn("리뷰 추적 컬럼 백필 실패", e);
+        } finally {
+            running.set(false);
+        }
+    }
+}
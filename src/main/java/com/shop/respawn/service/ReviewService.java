@@ -7,7 +7,9 @@ import com.shop.respawn.dto.review.ReviewStatsDto;
 import com.shop.respawn.dto.review.ReviewWithItemDto;
 import com.shop.respawn.repository.jpa.BuyerRepository;
 import com.shop.respawn.repository.jpa.OrderItemRepository;
+import com.shop.respawn.repository.mongo.ItemReviewStatsRepository;
 import com.shop.respawn.repository.mongo.ReviewRepository;
+import com.shop.respawn.util.CursorUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -16,9 +18,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.stream.Collectors;
 
 import static com.shop.respawn.util.MaskingUtil.maskMiddleFourChars;
@@ -28,10 +30,14 @@ import static com.shop.respawn.util.MaskingUtil.maskMiddleFourChars;
 @Transactional
 public class ReviewService {
 
+    private static final int MAX_FEED_SIZE = 100;
+
     private final ReviewRepository reviewRepository;   // MongoDB 리뷰 저장소
     private final BuyerRepository buyerRepository;     // RDBMS 구매자
     private final OrderItemRepository orderItemRepository; // RDBMS 주문 아이템
     private final ItemService itemService;
+    private final ItemReviewStatsRepository itemReviewStatsRepository; // 상품별 리뷰 통계 (MongoDB)
+    private final EntityBatchLoader entityBatchLoader; // 요청 단위 연관 엔티티 일괄 로더
 
     /**
      * 리뷰 작성
@@ -60,17 +66,22 @@ public class ReviewService {
             throw new RuntimeException("이미 리뷰를 작성한 주문 아이템입니다.");
         }
 
+        // 작성 가능 목록에서 제외 (같은 트랜잭션, 리뷰 저장 실패 시 롤백)
+        orderItem.markReviewed();
+
         // 구매자 존재 확인
         Buyer buyer = buyerRepository.findById(buyerId)
                 .orElseThrow(() -> new RuntimeException("구매자를 찾을 수 없습니다."));
 
         String itemId = orderItem.getItemId();
+        String sellerId = itemService.getSellerIdByItemId(itemId);
 
-        // 리뷰 생성 및 저장 (MongoDB)
+        // 리뷰 생성 및 저장 (MongoDB, 판매자 피드용 sellerId 포함)
         Review review = Review.builder()
                 .buyerId(String.valueOf(buyer.getId()))
                 .orderItemId(orderItemId)
                 .itemId(itemId)
+                .sellerId(sellerId)
                 .rating(rating)
                 .content(content)
                 .createdDate(LocalDateTime.now())
@@ -78,50 +89,49 @@ public class ReviewService {
 
         reviewRepository.save(review);
 
-        Item item = itemService.getItemById(itemId);
-        item.addReviewCount();
+        // 통계/리뷰 수는 $inc 로 증분 반영 (상품 문서 조회 후 저장 없음)
+        itemReviewStatsRepository.applyReview(itemId, rating, 1);
+        itemService.adjustReviewCount(itemId, 1);
+    }
+
+    /**
+     * 리뷰 삭제 (작성자 본인만)
+     */
+    public void deleteReview(Long buyerId, String reviewId) {
+        Review review = reviewRepository.findById(reviewId)
+                .orElseThrow(() -> new RuntimeException("리뷰를 찾을 수 없습니다."));
+        if (!review.getBuyerId().equals(String.valueOf(buyerId))) {
+            throw new RuntimeException("해당 리뷰에 대한 권한이 없습니다.");
+        }
 
-        itemService.save(item);
+        // 실제로 삭제된 경우에만 통계 차감 (동시 삭제 시 중복 차감 방지)
+        if (reviewRepository.deleteByIdAndBuyerId(reviewId, String.valueOf(buyerId)) > 0) {
+            itemReviewStatsRepository.applyReview(review.getItemId(), review.getRating(), -1);
+            itemService.adjustReviewCount(review.getItemId(), -1);
+            Long orderItemId = safeLong(review.getOrderItemId());
+            if (orderItemId != null) {
+                orderItemRepository.findById(orderItemId).ifPresent(OrderItem::unmarkReviewed);
+            }
+        }
     }
 
     /**
      * 판매자 ID로 판매한 아이템들의 리뷰 리스트 조회
+     * 리뷰에 저장된 sellerId 로 바로 페이징 (idx_review_seller_created), 판매자 상품 목록은 읽지 않음
      */
     @Transactional(readOnly = true)
     public Page<ReviewWithItemDto> getReviewsBySellerId(String sellerId, Pageable pageable) {
-        // 1) 판매자의 아이템 ID 목록
-        List<Item> sellerItems = itemService.getItemsBySellerId(sellerId);
-        if (sellerItems.isEmpty()) {
-            return Page.empty(pageable);
-        }
-        List<String> sellerItemIds = sellerItems.stream().map(Item::getId).toList();
-
-        // 2) MongoDB: 아이템 ID IN + createdDate DESC 페이징
-        Page<Review> reviewPage = reviewRepository.findByItemIdIn(sellerItemIds, pageable);
+        // 1) MongoDB: sellerId + createdDate DESC 페이징
+        Page<Review> reviewPage = reviewRepository.findBySellerId(sellerId, pageable);
         if (reviewPage.isEmpty()) {
             return Page.empty(pageable);
         }
 
-        // 3) 연관 키 수집
-        List<String> orderItemIdStrs = reviewPage.getContent().stream()
-                .map(Review::getOrderItemId).toList();
-
-        // 4) 주문아이템 일괄 조회 (RDBMS)
-        //    이미 존재하는 커스텀 메서드/쿼리를 활용: findAllByIdIn 또는 findAllById(List<Long>) 구현 필요
-        List<Long> orderItemIds = orderItemIdStrs.stream().map(Long::valueOf).toList();
-        List<OrderItem> orderItems = orderItemRepository.findAllById(orderItemIds);
-
-        // 5) 매핑 테이블 구성
-        Map<Long, OrderItem> orderItemMap = orderItems.stream()
-                .collect(Collectors.toMap(OrderItem::getId, oi -> oi));
+        // 2) 페이지에 등장한 상품만 일괄 조회
+        Map<String, Item> itemMap = entityBatchLoader.items(
+                reviewPage.getContent().stream().map(Review::getItemId).toList());
 
-        // 6) 아이템 매핑 (이미 sellerItems를 보유하므로 검색 비용 O(1) 위해 map 구성)
-        Map<String, Item> itemMap = sellerItems.stream()
-                .collect(Collectors.toMap(Item::getId, it -> it));
-
-        // 7) 구매자 마스킹을 위해 구매자 username 조회 N+1 방지
-        // buyerId 리스트를 모아 일괄 조회하도록 BuyerRepository에 findAllById(Collection<Long>) 사용
-        return getReviewWithItemDtos(pageable, reviewPage, orderItemMap, itemMap);
+        return new PageImpl<>(toSellerReviewDtos(reviewPage.getContent(), itemMap), pageable, reviewPage.getTotalElements());
     }
 
     /**
@@ -129,10 +139,8 @@ public class ReviewService {
      */
     @Transactional(readOnly = true)
     public Page<ReviewWithItemDto> getReviewsBySellerIdAndItemId(String sellerId, String itemId, Pageable pageable) {
-        // 1) 소유 검증
-        List<Item> sellerItems = itemService.getItemsBySellerId(sellerId);
-        boolean ownsItem = sellerItems.stream().anyMatch(i -> i.getId().equals(itemId));
-        if (!ownsItem) {
+        // 1) 소유 검증 (exists 조회)
+        if (!itemService.isItemOwnedBySeller(itemId, sellerId)) {
             return Page.empty(pageable);
         }
 
@@ -142,31 +150,49 @@ public class ReviewService {
             return Page.empty(pageable);
         }
 
-        // 3) orderItemId 일괄 조회
-        List<Long> orderItemIds = reviewPage.getContent().stream()
-                .map(Review::getOrderItemId).map(Long::valueOf).toList();
-        List<OrderItem> orderItems = orderItemRepository.findAllById(orderItemIds);
-        Map<Long, OrderItem> orderItemMap = orderItems.stream()
-                .collect(Collectors.toMap(OrderItem::getId, oi -> oi));
+        // 3) 단일 아이템 조회 및 매핑
+        Map<String, Item> itemMap = entityBatchLoader.items(List.of(itemId));
 
-        // 4) 단일 아이템 조회 및 매핑
-        Item item = sellerItems.stream().filter(i -> i.getId().equals(itemId)).findFirst()
-                .orElseGet(() -> itemService.getItemById(itemId));
-        Map<String, Item> itemMap = Map.of(itemId, item);
+        return new PageImpl<>(toSellerReviewDtos(reviewPage.getContent(), itemMap), pageable, reviewPage.getTotalElements());
+    }
+
+    /**
+     * 판매자 리뷰 피드 (커서 페이지, 최신순)
+     * (createdDate, id) keyset 으로 idx_review_seller_created 범위만 읽어 페이지 깊이와 무관한 비용
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<ReviewWithItemDto> getSellerReviewFeed(String sellerId, String itemId, String cursor, int size) {
+        if (itemId != null && !itemService.isItemOwnedBySeller(itemId, sellerId)) {
+            return CursorResponse.of(List.of(), null);
+        }
+
+        CursorUtil.Cursor c = CursorUtil.decodeObjectId(cursor);
+        int limit = Math.max(1, Math.min(size, MAX_FEED_SIZE));
 
-        return getReviewWithItemDtos(pageable, reviewPage, orderItemMap, itemMap);
+        // (limit + 1)건 조회로 다음 페이지 존재 여부 판단
+        List<Review> rows = reviewRepository.findSellerFeed(sellerId, itemId,
+                c == null ? null : c.at(), c == null ? null : c.id(), limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<Review> reviews = hasNext ? rows.subList(0, limit) : rows;
+
+        Map<String, Item> itemMap = entityBatchLoader.items(reviews.stream().map(Review::getItemId).toList());
+        List<ReviewWithItemDto> items = toSellerReviewDtos(reviews, itemMap);
+        if (!hasNext) {
+            return CursorResponse.of(items, null);
+        }
+        Review last = reviews.get(reviews.size() - 1);
+        return CursorResponse.of(items, CursorUtil.encode(last.getCreatedDate(), last.getId()));
     }
 
-    private PageImpl<ReviewWithItemDto> getReviewWithItemDtos(Pageable pageable, Page<Review> reviewPage, Map<Long, OrderItem> orderItemMap, Map<String, Item> itemMap) {
-        // 구매자명 일괄 조회
-        List<Long> buyerIds = reviewPage.getContent().stream()
-                .map(r -> Long.parseLong(r.getBuyerId()))
-                .distinct().toList();
-        Map<Long, String> buyerUsernameMap = buyerRepository.findAllById(buyerIds).stream()
-                .collect(Collectors.toMap(Buyer::getId, Buyer::getUsername));
+    private List<ReviewWithItemDto> toSellerReviewDtos(List<Review> reviews, Map<String, Item> itemMap) {
+        // 주문아이템(주문 fetch join) / 구매자명 일괄 조회
+        Map<Long, OrderItem> orderItemMap = entityBatchLoader.orderItems(EntityBatchLoader.toLongIds(
+                reviews.stream().map(Review::getOrderItemId).toList()));
+        Map<Long, String> buyerUsernameMap = entityBatchLoader.buyerUsernames(EntityBatchLoader.toLongIds(
+                reviews.stream().map(Review::getBuyerId).toList()));
 
         // DTO 변환
-        List<ReviewWithItemDto> dtos = reviewPage.getContent().stream().map(r -> {
+        return reviews.stream().map(r -> {
             OrderItem oi = orderItemMap.get(safeLong(r.getOrderItemId()));
             Item item = null;
             if (oi != null) {
@@ -186,8 +212,6 @@ public class ReviewService {
             Order order = (oi != null) ? oi.getOrder() : null;
             return new ReviewWithItemDto(r, item, masked, order); // 여기서 itemId, itemName, imageUrl, price 포함됨
         }).toList();
-
-        return new PageImpl<>(dtos, pageable, reviewPage.getTotalElements());
     }
 
     private Long safeLong(String s) {
@@ -206,14 +230,9 @@ public class ReviewService {
         // 2) 연관 키 수집
         List<String> orderItemIdStrs = reviewPage.getContent().stream()
                 .map(Review::getOrderItemId).toList();
-        List<Long> orderItemIds = orderItemIdStrs.stream().map(s -> {
-            try { return Long.valueOf(s); } catch (Exception e) { return null; }
-        }).filter(Objects::nonNull).toList();
 
-        // 3) 주문아이템 일괄 조회 (RDB)
-        List<OrderItem> orderItems = orderItemRepository.findAllById(orderItemIds);
-        Map<Long, OrderItem> orderItemMap = orderItems.stream()
-                .collect(Collectors.toMap(OrderItem::getId, oi -> oi));
+        // 3) 주문아이템 일괄 조회 (RDB, 주문 fetch join)
+        Map<Long, OrderItem> orderItemMap = entityBatchLoader.orderItems(EntityBatchLoader.toLongIds(orderItemIdStrs));
 
         // 4) 아이템 정보 확보 (이미 itemId 단건이므로 1회 조회 또는 캐시 활용)
         //    성능을 위해 Mongo에서 필요한 필드만 가져오는 partial 조회 사용 가능
@@ -221,12 +240,8 @@ public class ReviewService {
         Map<String, Item> itemMap = Map.of(itemId, item);
 
         // 5) 구매자 이름 일괄 조회 후 마스킹
-        List<Long> buyerIds = reviewPage.getContent().stream()
-                .map(r -> {
-                    try { return Long.parseLong(r.getBuyerId()); } catch (Exception e) { return null; }
-                }).filter(Objects::nonNull).distinct().toList();
-        Map<Long, String> buyerUsernameMap = buyerRepository.findAllById(buyerIds).stream()
-                .collect(Collectors.toMap(Buyer::getId, Buyer::getUsername));
+        Map<Long, String> buyerUsernameMap = entityBatchLoader.buyerUsernames(EntityBatchLoader.toLongIds(
+                reviewPage.getContent().stream().map(Review::getBuyerId).toList()));
 
         // 6) DTO 변환 (itemId, itemName, imageUrl, price 포함)
         List<ReviewWithItemDto> content = reviewPage.getContent().stream().map(r -> {
@@ -257,44 +272,30 @@ public class ReviewService {
     }
 
     public List<ReviewWithItemDto> convertReviewsToDtos(List<Review> reviews, List<Item> relatedItems) {
+        // 리뷰 작성자 / 주문 아이템(주문 포함) 일괄 조회
+        Map<Long, String> buyerUsernameMap = entityBatchLoader.buyerUsernames(EntityBatchLoader.toLongIds(
+                reviews.stream().map(Review::getBuyerId).toList()));
+        Map<Long, OrderItem> orderItemMap = entityBatchLoader.orderItems(EntityBatchLoader.toLongIds(
+                reviews.stream().map(Review::getOrderItemId).toList()));
+        Map<String, Item> itemMap = relatedItems.stream()
+                .collect(Collectors.toMap(Item::getId, i -> i, (a, b) -> a));
+
         return reviews.stream()
                 .map(review -> {
-                    // 리뷰 작성자 ID
-                    String buyerId = review.getBuyerId();
-                    String maskedUsername;
-
-                    try {
-                        String buyerUsername = buyerRepository.findById(Long.parseLong(buyerId))
-                                .map(Buyer::getUsername)
-                                .orElse("알 수 없는 사용자");
-                        maskedUsername = maskMiddleFourChars(buyerUsername);
-                    } catch (NumberFormatException e) {
-                        maskedUsername = "알 수 없는 사용자";
-                    }
+                    String buyerUsername = buyerUsernameMap.get(EntityBatchLoader.parseId(review.getBuyerId()));
+                    String maskedUsername = buyerUsername != null
+                            ? maskMiddleFourChars(buyerUsername)
+                            : "알 수 없는 사용자";
 
                     // 리뷰의 OrderItemId로부터 itemId 확인 (OrderItem에서)
-                    String orderItemId = review.getOrderItemId();
+                    OrderItem orderItem = orderItemMap.get(EntityBatchLoader.parseId(review.getOrderItemId()));
                     Item item = null;
                     Order order = null;
-                    try {
-                        OrderItem orderItem = orderItemRepository.findById(Long.valueOf(orderItemId)).orElse(null);
-                        if (orderItem != null) {
-                            String itemId = orderItem.getItemId();
-                            // relatedItems 중 해당 id 검색
-                            item = relatedItems.stream()
-                                    .filter(i -> i.getId().equals(itemId))
-                                    .findFirst()
-                                    .orElse(null);
-                            // 주문일시 조회 위해 Order 객체도 가져오기
-                            order = orderItem.getOrder();  // OrderItem에 Order 연관관계 있음
-                        }
-                    } catch (NumberFormatException ex) {
-                        // orderItemId가 숫자가 아닐 경우 예외 처리 (없으면 null 유지)
+                    if (orderItem != null) {
+                        item = itemMap.get(orderItem.getItemId());
+                        order = orderItem.getOrder();  // fetch join 으로 함께 조회됨
                     }
 
-                    // item이 이미 넘어온 relatedItems 단건(예: getReviewsByItemId)일 경우 처리 예외는 caller에서 조절
-                    // 리뷰의 itemId와 relatedItems의 itemId가 1:1일 경우 item=null 대신 첫개 item 전달할 수도 있음
-
                     return new ReviewWithItemDto(review, item, maskedUsername,  order);
                 })
                 .collect(Collectors.toList());
@@ -333,19 +334,8 @@ public class ReviewService {
      */
     public Page<OrderItemDto> getWritableReviews(String buyerId, Pageable pageable) {
 
-        // 이미 리뷰 작성된 주문아이템 ID 리스트 조회
-        List<String> reviewedOrderItemIdsStr = reviewRepository.findByBuyerId(buyerId).stream()
-                .map(Review::getOrderItemId)
-                .toList();
-
-        List<Long> reviewedOrderItemIds = reviewedOrderItemIdsStr.isEmpty()
-                ? List.of()
-                : reviewedOrderItemIdsStr.stream()
-                .map(Long::valueOf)
-                .toList();
-
-        // QueryDSL 커스텀 메서드 호출 (OrderItemRepositoryCustom)
-        Page<OrderItem> deliveredOrderItems = orderItemRepository.findDeliveredUnreviewedOrderItems(Long.parseLong(buyerId), reviewedOrderItemIds, pageable);
+        // QueryDSL 커스텀 메서드 호출 (buyer_id, deliveryStatus, reviewed 인덱스)
+        Page<OrderItem> deliveredOrderItems = orderItemRepository.findDeliveredUnreviewedOrderItems(Long.parseLong(buyerId), pageable);
 
         // 관련된 아이템 리스트를 한꺼번에 조회
         List<String> itemIds = deliveredOrderItems.stream()
@@ -371,41 +361,57 @@ public class ReviewService {
 
     public CountReviewDto countReviews(String buyerId) {
         // 본인이 작성한 리뷰 개수
-        long writtenCount = reviewRepository.findByBuyerId(buyerId).size();
+        long writtenCount = reviewRepository.countByBuyerId(buyerId);
 
-        // 본인이 작성 가능한 리뷰(배송 완료 & 미작성) 개수 반환
-        List<String> reviewedOrderItemIdsStr = reviewRepository.findByBuyerId(buyerId).stream()
-                .map(Review::getOrderItemId)
-                .toList();
+        // 본인이 작성 가능한 리뷰(배송 완료 & 미작성) 개수
+        long writableCount = orderItemRepository.countDeliveredUnreviewedOrderItems(Long.parseLong(buyerId));
+        return CountReviewDto.of(writableCount, writtenCount);
+    }
 
-        List<Long> reviewedOrderItemIds = reviewedOrderItemIdsStr.isEmpty()
-                ? List.of(-1L)
-                : reviewedOrderItemIdsStr.stream().map(Long::valueOf).toList();
+    /**
+     * 리뷰 추적 컬럼 백필 (order_item_id 구간 단위, 구간마다 별도 트랜잭션)
+     */
+    public long backfillReviewTrackingChunk(long fromId, long toId) {
+        return orderItemRepository.backfillReviewTrackingColumns(fromId, toId);
+    }
 
-        // 페이징 없이 전체 개수 조회 (OrderItemRepository 커스텀 메서드 필요)
-        long writableCount = orderItemRepository.countByBuyerIdAndDeliveryStatusAndIdNotIn(Long.parseLong(buyerId), DeliveryStatus.DELIVERED, reviewedOrderItemIds);
-        return CountReviewDto.of(writableCount, writtenCount);
+    /**
+     * 이미 작성된 리뷰의 주문 아이템을 reviewed 로 표시 (배치 단위 트랜잭션)
+     */
+    public long markReviewedChunk(List<Long> orderItemIds) {
+        return orderItemRepository.markReviewed(orderItemIds, LocalDateTime.now());
     }
 
     /**
      * 특정 아이템의 리뷰 평균 점수와 총 개수 조회 (단독 API용)
+     * 리뷰 작성/삭제 시 갱신되는 통계 문서를 _id 로 단건 조회
      */
     @Transactional(readOnly = true)
     public ReviewStatsDto getItemReviewStats(String itemId) {
-        ReviewStatsDto stats = reviewRepository.getReviewStatsByItemId(itemId);
+        Map<Integer, Long> distribution = new LinkedHashMap<>();
+        for (int rating = 1; rating <= 5; rating++) {
+            distribution.put(rating, 0L);
+        }
 
         // 리뷰가 하나도 없는 경우 기본값 0.0, 0 반환
-        if (stats == null) {
-            return new ReviewStatsDto(itemId, 0.0, 0);
+        ItemReviewStats stats = itemReviewStatsRepository.findById(itemId).orElse(null);
+        if (stats == null || stats.getReviewCount() <= 0) {
+            return new ReviewStatsDto(itemId, 0.0, 0, distribution);
         }
 
+        stats.getHistogram().forEach((rating, count) -> distribution.put(Integer.valueOf(rating), count));
+
         // 소수점 첫째 자리까지 반올림 처리 (예: 4.56 -> 4.6)
-        double roundedAverage = Math.round(stats.getAverageRating() * 10) / 10.0;
-        stats.setAverageRating(roundedAverage);
-        // MongoDB _id가 itemId에 매핑되도록 확실히 세팅
-        stats.setItemId(itemId);
+        double roundedAverage = Math.round(stats.averageRating() * 10) / 10.0;
+        return new ReviewStatsDto(itemId, roundedAverage, stats.getReviewCount(), distribution);
+    }
 
-        return stats;
+    /**
+     * 상품별 리뷰 통계 전체 재계산 (reviews 컬렉션 기준)
+     * @return 통계가 갱신된 상품 수
+     */
+    public long rebuildItemReviewStats() {
+        return itemReviewStatsRepository.rebuildAll();
     }
 
     /**
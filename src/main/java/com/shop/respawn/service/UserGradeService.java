@@ -2,21 +2,23 @@ package com.shop.respawn.service;
 
 import com.shop.respawn.domain.Grade;
 import com.shop.respawn.dto.gradeRecalc.UserGradeResponse;
-import com.shop.respawn.dto.gradeRecalc.GradeRecalcResponse;
 import com.shop.respawn.dto.query.UserQueryDto;
 import com.shop.respawn.util.GradePolicy;
 import com.shop.respawn.domain.Buyer;
 import com.shop.respawn.repository.jpa.BuyerRepository;
 import com.shop.respawn.repository.jpa.PaymentRepository;
 import com.shop.respawn.util.MonthlyPeriodUtil;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -28,6 +30,10 @@ public class UserGradeService {
     private final PaymentRepository paymentRepository;
     private final CouponService couponService;
     private final GradePolicy gradePolicy;
+    private final EntityManager em;
+
+    @Value("${grade.recalc.jdbc-batch-size:500}")
+    private int jdbcBatchSize;
 
     // 저번달 기준으로 재계산
     public void recalcBuyerGrade(Long buyerId) {
@@ -77,43 +83,14 @@ public class UserGradeService {
     }
 
     /**
-     * buyerIds가 null 또는 empty면 전체 대상 처리.
-     * 각 buyerId는 개별 트랜잭션으로 처리하여 부분 성공을 허용.
+     * 등급 재계산 청크 반영 (GradeRecalcEngine 에서 청크마다 호출 → 청크 단위 트랜잭션)
+     * - 등급 버킷별 bulk update + 등급 쿠폰 일괄 발급
+     * @return 발급된 쿠폰 수
      */
-    public GradeRecalcResponse recalcMany(List<Long> buyerIds) {
-        List<Long> targets = resolveTargets(buyerIds);
-
-        int processed = 0, succeeded = 0, failed = 0;
-
-        for (Long id : targets) {
-            processed++;
-            try {
-                // 개별 트랜잭션 경계에서 실행
-                recalcOneInNewTx(id);
-                succeeded++;
-            } catch (Exception e) {
-                failed++;
-                log.warn("등급 갱신 실패 buyerId={}", id, e);
-            }
-        }
-
-        String msg = "processed=" + processed + ", succeeded=" + succeeded + ", failed=" + failed;
-        return new GradeRecalcResponse(processed, succeeded, failed, msg);
-    }
-
-    private List<Long> resolveTargets(List<Long> buyerIds) {
-        if (buyerIds == null || buyerIds.isEmpty()) {
-            return buyerRepository.findAll().stream()
-                    .map(Buyer::getId)
-                    .toList();
-        }
-        return buyerIds;
-    }
-
-    // REQUIRES_NEW는 “항상 기존 트랜잭션을 멈추고, 이 메서드를 별도의 새 트랜잭션으로 실행”하여,
-    // 내부 작업을 독립적으로 커밋/롤백하게 하는 전파 옵션입니다.
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    protected void recalcOneInNewTx(Long buyerId) {
-        recalcBuyerGrade(buyerId);
+    public int applyGradeChanges(Map<Grade, List<Long>> buyerIdsByGrade) {
+        // 등급 쿠폰 saveAll 은 이 청크 트랜잭션의 세션에서만 JDBC 배치 (전역 hibernate.jdbc.batch_size 는 두지 않음)
+        em.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+        buyerIdsByGrade.forEach((grade, buyerIds) -> buyerRepository.updateGradeBulk(grade, buyerIds));
+        return couponService.issueGradeCoupons(buyerIdsByGrade);
     }
 }
@@ -46,6 +46,7 @@ public class UserService {
     private final SmsService smsService;
     private final LedgerPointService ledgerPointService;
     private final CouponService couponService;
+    private final BuyerDisplayNameCache buyerDisplayNameCache;
 
     private final BCryptPasswordEncoder encoder;
     private final RedisUtil redisUtil;
@@ -726,6 +727,8 @@ public class UserService {
                 Buyer buyer = buyerRepository.findByUsername(username);
                 if (buyer == null) throw new RuntimeException("구매자 정보가 없습니다.");
                 updateUserInfo(buyer, request, buyerRepository, sellerRepository);
+                // 목록 표시명 캐시 무효화
+                buyerDisplayNameCache.evict(buyer.getId());
             }
 
             case "[ROLE_SELLER]" -> {
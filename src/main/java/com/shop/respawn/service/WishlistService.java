@@ -8,15 +8,20 @@ import com.shop.respawn.repository.jpa.BuyerRepository;
 import com.shop.respawn.repository.jpa.WishlistRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.time.Duration;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -25,10 +30,49 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class WishlistService {
 
+    /*
+     * 구매자별 찜 상품 ID Redis Set (wishlist:{buyerId})
+     * - WARM_MARKER 가 있어야 DB 와 동기화된 Set 으로 간주 (빈 찜 목록도 캐시)
+     * - 조회는 SMISMEMBER 1회, 미워밍 시 DB 에서 전체 itemId 로딩 후 Set 구성
+     * - 찜 토글은 커밋 후 워밍된 Set 에만 반영 (미워밍 Set 에 일부만 쌓이지 않도록 Lua 로 확인 후 SADD/SREM)
+     * - 토글마다 버전 키(wishlist:{buyerId}:v)를 올리고, 워밍은 DB 조회 전에 읽은 버전이 그대로일 때만 Set 을 설치
+     *   (조회와 설치 사이에 커밋된 토글이 있으면 오래된 스냅샷으로 덮어쓰지 않음 - 다음 조회에서 다시 워밍)
+     */
+    private static final String KEY_PREFIX = "wishlist:";
+    private static final String WARM_MARKER = "~";
+
+    // KEYS[1]=Set, KEYS[2]=버전 / ARGV[1]=마커, ARGV[2]=itemId, ARGV[3]=추가 여부, ARGV[4]=TTL(초)
+    private static final RedisScript<Long> WRITE_THROUGH_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[4])
+            if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 0 then return 0 end
+            if ARGV[3] == '1' then
+                redis.call('SADD', KEYS[1], ARGV[2])
+            else
+                redis.call('SREM', KEYS[1], ARGV[2])
+            end
+            return 1
+            """, Long.class);
+
+    // KEYS[1]=Set, KEYS[2]=버전 / ARGV[1]=DB 조회 전 버전, ARGV[2]=TTL(초), ARGV[3..]=마커 + itemId
+    private static final RedisScript<Long> WARM_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end
+            redis.call('DEL', KEYS[1])
+            for i = 3, #ARGV do
+                redis.call('SADD', KEYS[1], ARGV[i])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
     // 필요한 의존성 주입 (Repository 및 다른 Service)
     private final WishlistRepository wishlistRepository;
     private final BuyerRepository buyerRepository;
     private final ItemService itemService; // MongoDB 데이터를 가져오기 위해 주입
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${wishlist.cache.ttl-hours:24}")
+    private long cacheTtlHours;
 
     /**
      * 내가 찜한 목록 조회 (여기에 작성해 주신 코드를 넣습니다!)
@@ -54,13 +98,15 @@ public class WishlistService {
                 .map(w -> {
                     Item item = itemMap.get(w.getItemId());
                     // Item 엔티티를 ItemDto로 변환 (ItemDto 생성자에 맞게 수정 필요)
-                    return new ItemDto(
+                    ItemDto dto = new ItemDto(
                             item.getId(),
                             item.getName(),
                             item.getCompany(),
                             item.getPrice(),
                             item.getImageUrl()
                     );
+                    dto.setWished(true);
+                    return dto;
                 }).toList();
 
         return new PageImpl<>(dtos, pageable, wishlistPage.getTotalElements());
@@ -79,6 +125,7 @@ public class WishlistService {
 
             item.removeWishCount();
             itemService.save(item);
+            syncAfterCommit(buyerId, itemId, false);
 
             return false; // 찜 해제
         } else {
@@ -90,6 +137,7 @@ public class WishlistService {
 
             item.addWishCount();
             itemService.save(item);
+            syncAfterCommit(buyerId, itemId, true);
 
             return true; // 찜 추가
         }
@@ -100,7 +148,105 @@ public class WishlistService {
         if (buyerId == null || itemId == null) {
             return false;
         }
-        return wishlistRepository.existsByBuyerIdAndItemId(buyerId, itemId);
+        return findWishedItemIds(buyerId, List.of(itemId)).contains(itemId);
+    }
+
+    /**
+     * 주어진 상품 중 찜한 상품 ID (목록 카드 하트 표시용, SMISMEMBER 1회)
+     */
+    @Transactional(readOnly = true)
+    public Set<String> findWishedItemIds(Long buyerId, Collection<String> itemIds) {
+        if (buyerId == null || itemIds.isEmpty()) {
+            return Set.of();
+        }
+        String key = key(buyerId);
+        List<String> ids = itemIds.stream().filter(Objects::nonNull).distinct().toList();
+
+        // 첫 번째 인자는 워밍 여부 확인용 마커
+        Object[] members = new Object[ids.size() + 1];
+        members[0] = WARM_MARKER;
+        for (int i = 0; i < ids.size(); i++) {
+            members[i + 1] = ids.get(i);
+        }
+        Map<Object, Boolean> result = redisTemplate.opsForSet().isMember(key, members);
+
+        if (result == null || !Boolean.TRUE.equals(result.get(WARM_MARKER))) {
+            Set<String> wished = warm(buyerId);
+            Set<String> hit = new HashSet<>(ids);
+            hit.retainAll(wished);
+            return hit;
+        }
+
+        Set<String> hit = new HashSet<>();
+        for (String id : ids) {
+            if (Boolean.TRUE.equals(result.get(id))) {
+                hit.add(id);
+            }
+        }
+        return hit;
+    }
+
+    /**
+     * 상품 목록 응답에 찜 여부 표시 (비로그인이면 변경 없음)
+     */
+    @Transactional(readOnly = true)
+    public void decorateWished(Long buyerId, Collection<ItemDto> items) {
+        if (buyerId == null || items.isEmpty()) {
+            return;
+        }
+        Set<String> wished = findWishedItemIds(buyerId, items.stream().map(ItemDto::getId).toList());
+        for (ItemDto item : items) {
+            item.setWished(wished.contains(item.getId()));
+        }
+    }
+
+    /**
+     * DB 의 찜 목록으로 Redis Set 재구성 (마커 포함, TTL 설정)
+     * 조회 중 토글이 커밋되어 버전이 바뀌었으면 설치하지 않고 조회 결과만 반환
+     */
+    private Set<String> warm(Long buyerId) {
+        String observed = Objects.requireNonNullElse(redisTemplate.opsForValue().get(versionKey(buyerId)), "0");
+        List<String> itemIds = wishlistRepository.findItemIdsByBuyerId(buyerId);
+
+        Object[] args = new Object[itemIds.size() + 3];
+        args[0] = observed;
+        args[1] = String.valueOf(ttlSeconds());
+        args[2] = WARM_MARKER;
+        for (int i = 0; i < itemIds.size(); i++) {
+            args[i + 3] = itemIds.get(i);
+        }
+        redisTemplate.execute(WARM_SCRIPT, List.of(key(buyerId), versionKey(buyerId)), args);
+        return new HashSet<>(itemIds);
+    }
+
+    /**
+     * 찜 토글 결과를 커밋 이후 Redis Set 에 반영 (롤백 시 반영하지 않음)
+     */
+    private void syncAfterCommit(Long buyerId, String itemId, boolean added) {
+        Runnable sync = () -> redisTemplate.execute(WRITE_THROUGH_SCRIPT, List.of(key(buyerId), versionKey(buyerId)),
+                WARM_MARKER, itemId, added ? "1" : "0", String.valueOf(ttlSeconds()));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            sync.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                sync.run();
+            }
+        });
+    }
+
+    private long ttlSeconds() {
+        return Duration.ofHours(cacheTtlHours).toSeconds();
+    }
+
+    private String versionKey(Long buyerId) {
+        return KEY_PREFIX + buyerId + ":v";
+    }
+
+    private String key(Long buyerId) {
+        return KEY_PREFIX + buyerId;
     }
 
     /**
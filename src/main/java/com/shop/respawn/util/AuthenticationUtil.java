@@ -1,5 +1,6 @@
 package com.shop.respawn.util;
 
+import com.shop.respawn.domain.Role;
 import com.shop.respawn.security.auth.PrincipalDetails;
 import org.springframework.security.core.Authentication;
 
@@ -15,4 +16,15 @@ public class AuthenticationUtil {
         } else throw new RuntimeException("로그인이 필요합니다.");
     }
 
+    /**
+     * 로그인한 구매자면 buyerId, 비로그인/판매자/관리자면 null (찜 여부 등 선택적 개인화용)
+     */
+    public static Long getBuyerIdOrNull(Authentication authentication) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof PrincipalDetails principal)) {
+            return null;
+        }
+        boolean buyer = principal.getAuthorities().stream()
+                .anyMatch(a -> Role.ROLE_USER.name().equals(a.getAuthority()));
+        return buyer ? principal.getUserId() : null;
+    }
 }
@@ -0,0 +1,19 @@
+package com.shop.respawn.util;
+
+import com.shop.respawn.service.CartService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CartFlushScheduler {
+
+    private final CartService cartService;
+
+    // Redis 장바구니 변경분을 짧은 주기로 cart_item 에 반영 (write-behind)
+    @Scheduled(fixedDelayString = "${cart.write-behind.flush-interval-ms:1000}")
+    public void flushCarts() {
+        cartService.flushDirty();
+    }
+}
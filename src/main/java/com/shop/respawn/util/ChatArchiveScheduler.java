@@ -0,0 +1,50 @@
+package com.shop.respawn.util;
+
+import com.shop.respawn.repository.mongo.ChatMessageRepository;
+import com.shop.respawn.service.ChatArchiveService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatArchiveScheduler {
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatArchiveService chatArchiveService;
+
+    @Value("${chat.retention.hot-days:90}")
+    private int hotDays;
+
+    @Value("${chat.retention.chunk-size:1000}")
+    private int chunkSize;
+
+    // 매일 새벽 03시 30분
+    @Scheduled(cron = "${chat.retention.cron:0 30 3 * * *}")
+    public void archiveChatMessages() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(hotDays);
+        long started = System.currentTimeMillis();
+        long moved = 0;
+        int failedRooms = 0;
+
+        List<String> roomIds = chatMessageRepository.findRoomIdsWithMessagesBefore(cutoff);
+        for (String roomId : roomIds) {
+            // 방 단위로 실패를 격리 (남은 메시지는 다음 실행에서 이어서 이동)
+            try {
+                moved += chatArchiveService.archiveRoom(roomId, cutoff, chunkSize);
+            } catch (RuntimeException e) {
+                failedRooms++;
+                log.warn("채팅 아카이브 실패 - roomId={}", roomId, e);
+            }
+        }
+
+        log.info("채팅 메시지 아카이브 완료 - rooms={}, moved={}, failedRooms={}, cutoff={}, elapsedMs={}",
+                roomIds.size(), moved, failedRooms, cutoff, System.currentTimeMillis() - started);
+    }
+}
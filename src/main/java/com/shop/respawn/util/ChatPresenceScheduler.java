@@ -0,0 +1,19 @@
+package com.shop.respawn.util;
+
+import com.shop.respawn.service.ChatPresenceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ChatPresenceScheduler {
+
+    private final ChatPresenceService chatPresenceService;
+
+    // 방별 입력 중 상태 변경을 모아 주기당 최대 1회 전송
+    @Scheduled(fixedDelayString = "${chat.presence.broadcast-interval-ms:1000}")
+    public void broadcastPresence() {
+        chatPresenceService.broadcastChanges();
+    }
+}
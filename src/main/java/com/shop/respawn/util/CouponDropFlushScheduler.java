@@ -0,0 +1,19 @@
+package com.shop.respawn.util;
+
+import com.shop.respawn.service.CouponDropService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CouponDropFlushScheduler {
+
+    private final CouponDropService couponDropService;
+
+    // 선착순 당첨자를 짧은 주기로 coupons 에 배치 적재
+    @Scheduled(fixedDelayString = "${coupon.drop.flush-interval-ms:500}")
+    public void flushWinners() {
+        couponDropService.flushPending();
+    }
+}
@@ -0,0 +1,66 @@
+package com.shop.respawn.util;
+
+import org.bson.types.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.function.Predicate;
+
+/**
+ * (시각, id) 기반 keyset 커서 인코딩/디코딩
+ * - 클라이언트에는 불투명한 base64url 문자열로 노출
+ * - id 형식(JPA Long / Mongo ObjectId)까지 디코딩 단계에서 검증해 잘못된 커서는 모두 IllegalArgumentException(400)
+ */
+public class CursorUtil {
+
+    private static final String SEPARATOR = "|";
+
+    public record Cursor(LocalDateTime at, String id) {
+        // decodeLongId 로 디코딩한 커서에서만 사용
+        public Long idAsLong() {
+            return Long.valueOf(id);
+        }
+    }
+
+    public static String encode(LocalDateTime at, Object id) {
+        String raw = at + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * id 가 Long 인 커서 (JPA 엔티티)
+     * @return cursor 가 비어 있으면 null (첫 페이지)
+     */
+    public static Cursor decodeLongId(String cursor) {
+        return decode(cursor, id -> {
+            Long.parseLong(id);
+            return true;
+        });
+    }
+
+    /**
+     * id 가 ObjectId 인 커서 (Mongo 문서)
+     * @return cursor 가 비어 있으면 null (첫 페이지)
+     */
+    public static Cursor decodeObjectId(String cursor) {
+        return decode(cursor, ObjectId::isValid);
+    }
+
+    private static Cursor decode(String cursor, Predicate<String> validId) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.indexOf(SEPARATOR);
+            String id = raw.substring(idx + 1);
+            if (!validId.test(id)) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new Cursor(LocalDateTime.parse(raw.substring(0, idx)), id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
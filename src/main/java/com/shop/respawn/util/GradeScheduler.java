@@ -1,28 +1,20 @@
 package com.shop.respawn.util;
 
-import com.shop.respawn.domain.Buyer;
-import com.shop.respawn.repository.jpa.BuyerRepository;
-import com.shop.respawn.service.UserGradeService;
+import com.shop.respawn.service.GradeRecalcEngine;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-
 @Component
 @RequiredArgsConstructor
 public class GradeScheduler {
 
-    private final BuyerRepository buyerRepository;
-    private final UserGradeService userGradeService;
+    private final GradeRecalcEngine gradeRecalcEngine;
 
-    // 매일 새벽 00시 00분
+    // 매월 1일 00시 00분
     @Scheduled(cron = "0 0 0 1 * *")
     public void recalcAllBuyerTiers() {
-        // 규모가 크면 페이징 처리 권장
-        List<Long> buyerIds = buyerRepository.findAll().stream()
-                .map(Buyer::getId)
-                .toList();
-        userGradeService.recalcMany(buyerIds);
+        // 전체 구매자 대상 set-based 재계산 (청크 단위 커밋)
+        gradeRecalcEngine.run(null);
     }
-}
\ No newline at end of file
+}
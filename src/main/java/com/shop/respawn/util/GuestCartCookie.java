@@ -0,0 +1,65 @@
+package com.shop.respawn.util;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 비회원 장바구니 식별 쿠키 (UUID, HttpOnly)
+ */
+public class GuestCartCookie {
+
+    public static final String NAME = "RESPAWN_GUEST_CART";
+
+    /**
+     * 요청 쿠키의 비회원 장바구니 ID (없거나 형식이 다르면 null)
+     */
+    public static String read(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (NAME.equals(cookie.getName())) {
+                try {
+                    return UUID.fromString(cookie.getValue()).toString();
+                } catch (IllegalArgumentException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 기존 ID 가 없으면 새로 발급해 응답 쿠키로 내려줌
+     */
+    public static String readOrIssue(HttpServletRequest request, HttpServletResponse response, Duration maxAge) {
+        String guestId = read(request);
+        if (guestId != null) {
+            return guestId;
+        }
+        guestId = UUID.randomUUID().toString();
+        response.addHeader(HttpHeaders.SET_COOKIE, build(guestId, maxAge).toString());
+        return guestId;
+    }
+
+    public static void clear(HttpServletResponse response) {
+        response.addHeader(HttpHeaders.SET_COOKIE, build("", Duration.ZERO).toString());
+    }
+
+    private static ResponseCookie build(String value, Duration maxAge) {
+        return ResponseCookie.from(NAME, value)
+                .path("/")
+                .httpOnly(true)
+                .secure(true)
+                .sameSite("Lax")
+                .maxAge(maxAge)
+                .build();
+    }
+}
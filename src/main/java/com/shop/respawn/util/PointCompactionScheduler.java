@@ -0,0 +1,42 @@
+package com.shop.respawn.util;
+
+import com.shop.respawn.service.PointCompactionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointCompactionScheduler {
+
+    private final PointCompactionService pointCompactionService;
+
+    @Value("${point.compaction.retention-months:12}")
+    private int retentionMonths;
+
+    @Value("${point.compaction.chunk-size:1000}")
+    private int chunkSize;
+
+    // 매일 새벽 03시 00분
+    @Scheduled(cron = "${point.compaction.cron:0 0 3 * * *}")
+    public void compactPointLedgers() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMonths(retentionMonths);
+        long started = System.currentTimeMillis();
+        long moved = 0;
+
+        // 청크마다 별도 트랜잭션(서비스 빈 호출)으로 처리해 락/언두 크기를 제한
+        int processed;
+        do {
+            processed = pointCompactionService.compactChunk(cutoff, chunkSize);
+            moved += processed;
+        } while (processed == chunkSize);
+
+        log.info("포인트 원장 컴팩션 완료 - moved={}, cutoff={}, elapsedMs={}",
+                moved, cutoff, System.currentTimeMillis() - started);
+    }
+}
@@ -0,0 +1,23 @@
+package com.shop.respawn.util;
+
+import com.shop.respawn.service.ReviewService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewStatsRebuildScheduler {
+
+    private final ReviewService reviewService;
+
+    // 매주 일요일 새벽 04시 30분: 증분 통계의 누적 오차 보정
+    @Scheduled(cron = "${review.stats.rebuild-cron:0 30 4 * * SUN}")
+    public void rebuildItemReviewStats() {
+        long started = System.currentTimeMillis();
+        long items = reviewService.rebuildItemReviewStats();
+        log.info("상품 리뷰 통계 재계산 완료 - items={}, elapsedMs={}", items, System.currentTimeMillis() - started);
+    }
+}
@@ -0,0 +1,169 @@
+package com.shop.respawn.chat;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.WebSocketClient;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 채팅 STOMP 팬아웃 부하 생성기 (실행 중인 서버 대상, 기본 test 실행에서는 건너뜀)
+ * - sessions 개 세션이 같은 방(/topic/chat/{roomId})을 구독하고, 첫 세션이 messages 건을 interval-ms 간격으로 전송
+ * - 전송 시각(nanoTime)을 본문에 실어 각 구독 세션의 수신까지 걸린 시간으로 팬아웃 지연 백분위 집계
+ * - /api/ws/chat 는 로그인 세션이 필요하므로 로그인 후 쿠키(JSESSIONID=...)를 전달
+ * - 기본 type 은 LOADTEST (CHAT 이 아니면 브로드캐스트만 하고 저장/안 읽은 수 증가를 하지 않으므로 실제 방 내역을 오염시키지 않음)
+ *
+ * ./gradlew test --tests '*ChatStompLoadTest' -Dloadtest.chat.url=http://localhost:8080/api/ws/chat \
+ *     -Dloadtest.chat.cookie=JSESSIONID=... -Dloadtest.chat.room-id=... -Dloadtest.chat.sessions=2000
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "loadtest.chat.url", matches = ".+")
+class ChatStompLoadTest {
+
+    private static final String MARKER = "loadtest:";
+
+    private final String url = System.getProperty("loadtest.chat.url");
+    private final String cookie = System.getProperty("loadtest.chat.cookie", "");
+    private final String roomId = System.getProperty("loadtest.chat.room-id", "loadtest");
+    private final String type = System.getProperty("loadtest.chat.type", "LOADTEST");
+    private final String transport = System.getProperty("loadtest.chat.transport", "sockjs");
+    private final int sessions = Integer.getInteger("loadtest.chat.sessions", 1000);
+    private final int messages = Integer.getInteger("loadtest.chat.messages", 100);
+    private final long intervalMs = Long.getLong("loadtest.chat.interval-ms", 100L);
+    private final int connectBatch = Integer.getInteger("loadtest.chat.connect-batch", 200);
+
+    @Test
+    void fanOutLatency() throws Exception {
+        WebSocketStompClient stompClient = new WebSocketStompClient(webSocketClient());
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        stompClient.setInboundMessageSizeLimit(1024 * 1024);
+
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        AtomicLong received = new AtomicLong();
+        List<StompSession> connected = connectAll(stompClient, latencies, received);
+        log.info("STOMP 세션 연결 - connected={}/{}", connected.size(), sessions);
+        assertThat(connected).isNotEmpty();
+
+        // 구독 프레임이 브로커에 등록될 시간을 둔 뒤 전송 시작
+        TimeUnit.SECONDS.sleep(2);
+        StompSession publisher = connected.get(0);
+        for (int i = 0; i < messages; i++) {
+            publisher.send("/app/chat/send/" + roomId,
+                    Map.of("content", MARKER + System.nanoTime(), "type", type));
+            TimeUnit.MILLISECONDS.sleep(intervalMs);
+        }
+
+        // 마지막 메시지 팬아웃 대기 (수신 수가 더 늘지 않을 때까지)
+        long expected = (long) connected.size() * messages;
+        long last = -1;
+        while (received.get() < expected && received.get() != last) {
+            last = received.get();
+            TimeUnit.SECONDS.sleep(2);
+        }
+        connected.forEach(StompSession::disconnect);
+        stompClient.stop();
+
+        report(latencies, received.get(), expected, connected.size());
+        assertThat(received.get()).isPositive();
+    }
+
+    private List<StompSession> connectAll(WebSocketStompClient stompClient,
+                                          ConcurrentLinkedQueue<Long> latencies, AtomicLong received) {
+        WebSocketHttpHeaders headers = new WebSocketHttpHeaders();
+        if (!cookie.isBlank()) {
+            headers.add("Cookie", cookie);
+        }
+        List<StompSession> connected = new ArrayList<>(sessions);
+        // 동시 핸드셰이크 수를 제한하기 위해 connectBatch 개씩 연결
+        for (int from = 0; from < sessions; from += connectBatch) {
+            List<CompletableFuture<StompSession>> futures = new ArrayList<>();
+            for (int i = from; i < Math.min(from + connectBatch, sessions); i++) {
+                futures.add(stompClient.connectAsync(url, headers, new StompSessionHandlerAdapter() {
+                    @Override
+                    public void afterConnected(StompSession session, StompHeaders connectedHeaders) {
+                        session.subscribe("/topic/chat/" + roomId, new LatencyRecorder(latencies, received));
+                    }
+                }));
+            }
+            for (CompletableFuture<StompSession> future : futures) {
+                try {
+                    connected.add(future.get(30, TimeUnit.SECONDS));
+                } catch (Exception e) {
+                    log.warn("STOMP 세션 연결 실패 - {}", e.getMessage());
+                }
+            }
+        }
+        return connected;
+    }
+
+    private WebSocketClient webSocketClient() {
+        StandardWebSocketClient client = new StandardWebSocketClient();
+        if ("websocket".equals(transport)) {
+            return client;
+        }
+        return new SockJsClient(List.of(new WebSocketTransport(client)));
+    }
+
+    private void report(ConcurrentLinkedQueue<Long> latencies, long received, long expected, int connected) {
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        log.info("팬아웃 결과 - sessions={}, messages={}, received={}/{} ({}%)",
+                connected, messages, received, expected, expected == 0 ? 0 : received * 100 / expected);
+        if (sorted.length == 0) {
+            return;
+        }
+        log.info("팬아웃 지연(ms) - p50={}, p90={}, p99={}, p999={}, max={}, avg={}",
+                millis(percentile(sorted, 50)), millis(percentile(sorted, 90)), millis(percentile(sorted, 99)),
+                millis(percentile(sorted, 99.9)), millis(sorted[sorted.length - 1]),
+                millis((long) Arrays.stream(sorted).average().orElse(0)));
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2f", nanos / 1_000_000.0);
+    }
+
+    // 본문 message 의 전송 시각으로 수신 지연 기록 (부하 생성기 메시지만)
+    private record LatencyRecorder(ConcurrentLinkedQueue<Long> latencies, AtomicLong received)
+            implements StompFrameHandler {
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return Map.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            long now = System.nanoTime();
+            Object message = ((Map<?, ?>) payload).get("message");
+            if (message instanceof String text && text.startsWith(MARKER)) {
+                latencies.add(now - Long.parseLong(text.substring(MARKER.length())));
+                received.incrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.shop.respawn.service;
+
+import com.shop.respawn.domain.ChatMessage;
+import com.shop.respawn.repository.mongo.ChatRoomRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 채팅 메시지 비동기 저장(ChatMessageWriter) 처리량 측정 (실제 MongoDB 대상, 기본 test 실행에서는 건너뜀)
+ * - producers 개 스레드가 rooms 개 방에 messages 건을 최대 속도로 enqueue (STOMP 수신 스레드 역할)
+ * - 마지막 메시지가 chat_messages 에 저장될 때까지의 시간으로 노드 1대의 지속 저장 처리량(messages/s) 집계
+ * - 직접 저장(큐 포화) 수, 유실 수(chat.persist.dropped)를 함께 기록하고 전 건 저장 여부 확인
+ * - 채팅방 갱신/읽음 시각 조회는 mock 으로 대체해 insertMany 경로만 측정
+ *
+ * ./gradlew test --tests '*ChatMessageWriterLoadTest' -Dloadtest.mongo.uri=mongodb://localhost:27017/chat_loadtest \
+ *     -Dloadtest.chat-writer.messages=200000 -Dloadtest.chat-writer.producers=16
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "loadtest.mongo.uri", matches = ".+")
+class ChatMessageWriterLoadTest {
+
+    private static final String ROOM_PREFIX = "loadtest-writer-";
+
+    private final String uri = System.getProperty("loadtest.mongo.uri");
+    private final int messages = Integer.getInteger("loadtest.chat-writer.messages", 100_000);
+    private final int producers = Integer.getInteger("loadtest.chat-writer.producers", 16);
+    private final int rooms = Integer.getInteger("loadtest.chat-writer.rooms", 1000);
+    private final int queueCapacity = Integer.getInteger("loadtest.chat-writer.queue-capacity", 10_000);
+    private final int batchSize = Integer.getInteger("loadtest.chat-writer.batch-size", 500);
+    private final long minRate = Long.getLong("loadtest.chat-writer.min-rate", 0L);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private SimpleMongoClientDatabaseFactory databaseFactory;
+    private MongoTemplate mongoTemplate;
+    private ChatMessageWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        databaseFactory = new SimpleMongoClientDatabaseFactory(uri);
+        mongoTemplate = new MongoTemplate(databaseFactory);
+        removeLoadTestMessages();
+        writer = new ChatMessageWriter(mongoTemplate, mock(ChatRoomRepository.class), mock(ChatUnreadCounter.class),
+                meterRegistry, queueCapacity, batchSize, 100, 200);
+        writer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        removeLoadTestMessages();
+        databaseFactory.destroy();
+    }
+
+    @Test
+    void sustainedPersistRate() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(producers);
+        long started = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            futures.add(pool.submit(() -> {
+                for (int i = producer; i < messages; i += producers) {
+                    writer.enqueue(new ChatMessage(new ObjectId().toHexString(), ROOM_PREFIX + (i % rooms),
+                            "sender-" + (i % 2), "loadtest message " + i, "CHAT", false, LocalDateTime.now()));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long enqueued = System.nanoTime() - started;
+        pool.shutdown();
+
+        // writer 가 큐를 모두 비울 때까지 대기 (종료 시 남은 메시지 저장 포함)
+        writer.shutdown();
+        long elapsed = System.nanoTime() - started;
+        long stored = mongoTemplate.count(loadTestMessages(), ChatMessage.class);
+
+        long rate = messages * 1_000_000_000L / elapsed;
+        log.info("채팅 메시지 저장 결과 - messages={}, producers={}, rooms={}, enqueue={}ms, total={}ms, messages/s={}",
+                messages, producers, rooms, enqueued / 1_000_000, elapsed / 1_000_000, rate);
+        log.info("채팅 메시지 저장 경로 - saved={}, direct={}, retry={}, dropped={}, flush(avg)={}ms, flush(max)={}ms",
+                count("chat.persist.saved"), count("chat.persist.direct"), count("chat.persist.retry"),
+                count("chat.persist.dropped"),
+                String.format("%.2f", meterRegistry.timer("chat.persist.flush").mean(TimeUnit.MILLISECONDS)),
+                String.format("%.2f", meterRegistry.timer("chat.persist.flush").max(TimeUnit.MILLISECONDS)));
+
+        assertThat(count("chat.persist.dropped")).isZero();
+        assertThat(stored).isEqualTo(messages);
+        assertThat(rate).isGreaterThanOrEqualTo(minRate);
+    }
+
+    private long count(String name) {
+        return (long) meterRegistry.counter(name).count();
+    }
+
+    private Query loadTestMessages() {
+        return Query.query(Criteria.where("roomId").regex("^" + ROOM_PREFIX));
+    }
+
+    private void removeLoadTestMessages() {
+        mongoTemplate.remove(loadTestMessages(), ChatMessage.class);
+    }
+}
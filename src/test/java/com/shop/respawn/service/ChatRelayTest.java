@@ -0,0 +1,202 @@
+package com.shop.respawn.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisCallback;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+import org.springframework.web.socket.CloseStatus;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * ChatRelay 다중 노드 동작 확인 (Redis 1대 + 노드별 연결/리스너 컨테이너 2개, Docker 가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ChatRelayTest {
+
+    private static final String ROOM_ID = "room1";
+    private static final String TOPIC = "/topic/chat/" + ROOM_ID;
+    private static final String CHANNEL = "chat:room:" + ROOM_ID;
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new Node();
+        nodeB = new Node();
+        nodeA.redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    void deliversToSubscribedNodesExactlyOnce() {
+        nodeA.subscribe("s1", "sub-1", TOPIC);
+        nodeB.subscribe("s2", "sub-1", TOPIC);
+        nodeB.subscribe("s3", "sub-1", TOPIC); // 같은 노드의 두 번째 구독은 채널을 다시 구독하지 않음
+        awaitChannelSubscribers(2);
+
+        nodeA.relay.publish(ROOM_ID, Map.of("message", "hello"));
+
+        verify(nodeA.messagingTemplate, timeout(5_000).times(1)).convertAndSend(eq(TOPIC), any(JsonNode.class));
+        verify(nodeB.messagingTemplate, timeout(5_000).times(1)).convertAndSend(eq(TOPIC), any(JsonNode.class));
+    }
+
+    @Test
+    void skipsNodesWithoutLocalSubscribers() {
+        nodeB.subscribe("s1", "sub-1", TOPIC);
+        awaitChannelSubscribers(1);
+
+        nodeA.relay.publish(ROOM_ID, Map.of("message", "hello"));
+
+        verify(nodeB.messagingTemplate, timeout(5_000).times(1)).convertAndSend(eq(TOPIC), any(JsonNode.class));
+        verify(nodeA.messagingTemplate, after(500).never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    void unsubscribesChannelWhenLastLocalSubscriptionEnds() {
+        nodeB.subscribe("s1", "sub-1", TOPIC);
+        nodeB.subscribe("s2", "sub-1", TOPIC);
+        awaitChannelSubscribers(1);
+
+        nodeB.unsubscribe("s1", "sub-1");
+        awaitChannelSubscribers(1);
+        nodeB.disconnect("s2");
+        awaitChannelSubscribers(0);
+
+        // 해제 후 다시 구독하면 새로 채널을 구독
+        nodeB.subscribe("s3", "sub-1", TOPIC);
+        awaitChannelSubscribers(1);
+    }
+
+    @Test
+    void ignoresNonRoomDestinations() {
+        nodeB.subscribe("s1", "sub-1", TOPIC + "/typing");
+        nodeB.subscribe("s1", "sub-2", "/topic/chat/*");
+        nodeB.subscribe("s1", "sub-3", "/topic/chat/");
+
+        assertThat(ChatRelay.roomIdOf(TOPIC)).isEqualTo(ROOM_ID);
+        assertThat(ChatRelay.roomIdOf(TOPIC + "/typing")).isNull();
+        assertThat(ChatRelay.roomIdOf("/topic/chat/**")).isNull();
+        assertThat(channelSubscribers("chat:room:*")).isZero();
+        assertThat(channelSubscribers("chat:room:" + ROOM_ID + "/typing")).isZero();
+    }
+
+    private void awaitChannelSubscribers(long expected) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (channelSubscribers(CHANNEL) != expected) {
+            assertThat(System.nanoTime()).as("채널 구독 수 %d 대기 시간 초과", expected).isLessThan(deadline);
+            sleep();
+        }
+    }
+
+    // PUBSUB NUMSUB channel → [channel, count]
+    private long channelSubscribers(String channel) {
+        Object reply = nodeA.redisTemplate.execute((RedisCallback<Object>) connection ->
+                connection.execute("PUBSUB", "NUMSUB".getBytes(StandardCharsets.UTF_8),
+                        channel.getBytes(StandardCharsets.UTF_8)));
+        return ((Number) ((List<?>) reply).get(1)).longValue();
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(20);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 애플리케이션 노드 하나 (자체 Redis 연결 + 리스너 컨테이너 + 로컬 브로커 mock)
+    private class Node {
+
+        private final LettuceConnectionFactory connectionFactory;
+        private final StringRedisTemplate redisTemplate;
+        private final RedisMessageListenerContainer listenerContainer;
+        private final SimpMessageSendingOperations messagingTemplate = mock(SimpMessageSendingOperations.class);
+        private final ChatRelay relay;
+
+        Node() {
+            connectionFactory = new LettuceConnectionFactory(
+                    new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+            connectionFactory.afterPropertiesSet();
+            connectionFactory.start();
+            redisTemplate = new StringRedisTemplate(connectionFactory);
+            listenerContainer = new RedisMessageListenerContainer();
+            listenerContainer.setConnectionFactory(connectionFactory);
+            listenerContainer.afterPropertiesSet();
+            listenerContainer.start();
+            relay = new ChatRelay(redisTemplate, listenerContainer, messagingTemplate, objectMapper);
+        }
+
+        void subscribe(String sessionId, String subscriptionId, String destination) {
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+            accessor.setSessionId(sessionId);
+            accessor.setSubscriptionId(subscriptionId);
+            accessor.setDestination(destination);
+            relay.onSubscribe(new SessionSubscribeEvent(this, message(accessor)));
+        }
+
+        void unsubscribe(String sessionId, String subscriptionId) {
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+            accessor.setSessionId(sessionId);
+            accessor.setSubscriptionId(subscriptionId);
+            relay.onUnsubscribe(new SessionUnsubscribeEvent(this, message(accessor)));
+        }
+
+        void disconnect(String sessionId) {
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+            accessor.setSessionId(sessionId);
+            relay.onDisconnect(new SessionDisconnectEvent(this, message(accessor), sessionId, CloseStatus.NORMAL));
+        }
+
+        private Message<byte[]> message(StompHeaderAccessor accessor) {
+            return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        }
+
+        void close() throws Exception {
+            listenerContainer.stop();
+            listenerContainer.destroy();
+            connectionFactory.destroy();
+        }
+    }
+}
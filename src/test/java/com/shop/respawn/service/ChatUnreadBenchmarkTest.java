@@ -0,0 +1,190 @@
+package com.shop.respawn.service;
+
+import com.shop.respawn.domain.ChatMessage;
+import com.shop.respawn.repository.mongo.ChatMessageRepository;
+import com.shop.respawn.repository.mongo.ChatMessageRepositoryImpl;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 채팅방 안 읽은 수 벤치마크 (실제 Redis + MongoDB 대상, 기본 test 실행에서는 건너뜀)
+ * - rooms 개 방에 방마다 messages 건(기본 10,000건, 절반 안 읽음)을 적재한 뒤 채팅방 목록 1회 기준으로 비교
+ *   1) 기존 방식: 방마다 roomId + senderId != 나 + isRead=false count 쿼리
+ *   2) 카운터 초기화(cold): isRead=false 집계 1회 + Lua 초기화
+ *   3) 카운터 조회(warm): 파이프라인 HGETALL 1회
+ * - 메시지 전송 1건당 증가 비용, 읽음 처리(reset + updateMulti) 비용을 함께 기록하고 세 방식의 결과가 같은지 확인
+ *
+ * ./gradlew test --tests '*ChatUnreadBenchmarkTest' -Dloadtest.redis.host=localhost \
+ *     -Dloadtest.mongo.uri=mongodb://localhost:27017/chat_loadtest -Dloadtest.chat-unread.messages=10000
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "loadtest.redis.host", matches = ".+")
+@EnabledIfSystemProperty(named = "loadtest.mongo.uri", matches = ".+")
+class ChatUnreadBenchmarkTest {
+
+    private static final String ROOM_PREFIX = "loadtest-unread-";
+    private static final String BUYER = "loadtest-buyer";
+    private static final String SELLER = "loadtest-seller";
+
+    private final String host = System.getProperty("loadtest.redis.host");
+    private final int port = Integer.getInteger("loadtest.redis.port", 6379);
+    private final String uri = System.getProperty("loadtest.mongo.uri");
+    private final int rooms = Integer.getInteger("loadtest.chat-unread.rooms", 20);
+    private final int messages = Integer.getInteger("loadtest.chat-unread.messages", 10_000);
+    private final int iterations = Integer.getInteger("loadtest.chat-unread.iterations", 50);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private SimpleMongoClientDatabaseFactory databaseFactory;
+    private MongoTemplate mongoTemplate;
+    private ChatMessageRepository chatMessageRepository;
+    private ChatUnreadCounter counter;
+    private List<String> roomIds;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+
+        databaseFactory = new SimpleMongoClientDatabaseFactory(uri);
+        mongoTemplate = new MongoTemplate(databaseFactory);
+        // 운영과 같은 인덱스 (MongoIndexConfig)
+        mongoTemplate.indexOps(ChatMessage.class).createIndex(new Index()
+                .on("roomId", Sort.Direction.ASC)
+                .on("timestamp", Sort.Direction.DESC)
+                .on("_id", Sort.Direction.DESC)
+                .named("idx_chat_room_timestamp"));
+
+        chatMessageRepository = mock(ChatMessageRepository.class,
+                delegatesTo(new ChatMessageRepositoryImpl(mongoTemplate)));
+        counter = new ChatUnreadCounter(redisTemplate, chatMessageRepository);
+
+        roomIds = new ArrayList<>();
+        for (int r = 0; r < rooms; r++) {
+            roomIds.add(ROOM_PREFIX + r);
+        }
+        cleanUp();
+        seedMessages();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        cleanUp();
+        databaseFactory.destroy();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void unreadCountsOnLargeRooms() {
+        Map<String, Long> perRoomCounts = measure("기존 방식 (방별 count 쿼리)", () -> {
+            Map<String, Long> result = new HashMap<>();
+            for (String roomId : roomIds) {
+                result.put(roomId, mongoTemplate.count(Query.query(Criteria.where("roomId").is(roomId)
+                        .and("senderId").ne(BUYER)
+                        .and("isRead").is(false)), ChatMessage.class));
+            }
+            return result;
+        });
+
+        long started = System.nanoTime();
+        Map<String, Long> cold = counter.unreadCounts(roomIds, BUYER);
+        log.info("카운터 초기화 (cold, 집계 1회) - rooms={}, messages/room={}, elapsed={}ms",
+                rooms, messages, millis(System.nanoTime() - started));
+
+        Map<String, Long> warm = measure("카운터 조회 (warm, HGETALL 파이프라인)", () -> counter.unreadCounts(roomIds, BUYER));
+
+        assertThat(cold).isEqualTo(perRoomCounts);
+        assertThat(warm).isEqualTo(perRoomCounts);
+
+        // 메시지 전송 1건당 비용 (상대방 안 읽은 수 +1)
+        String roomId = roomIds.get(0);
+        int increments = iterations * 100;
+        started = System.nanoTime();
+        for (int i = 0; i < increments; i++) {
+            counter.increment(roomId, SELLER);
+        }
+        log.info("카운터 증가 - count={}, avg={}us", increments,
+                String.format("%.1f", (System.nanoTime() - started) / 1_000.0 / increments));
+        assertThat(counter.unreadCounts(List.of(roomId), BUYER).get(roomId))
+                .isEqualTo(perRoomCounts.get(roomId) + increments);
+
+        // 읽음 처리 (카운터 초기화 + 안 읽은 메시지 updateMulti)
+        started = System.nanoTime();
+        counter.reset(roomId, BUYER);
+        long marked = chatMessageRepository.markReadExceptSender(roomId, BUYER);
+        log.info("읽음 처리 - roomId={}, marked={}, elapsed={}ms", roomId, marked, millis(System.nanoTime() - started));
+        assertThat(marked).isEqualTo(perRoomCounts.get(roomId));
+        assertThat(counter.unreadCounts(List.of(roomId), BUYER).get(roomId)).isZero();
+    }
+
+    // 워밍업 1회 후 iterations 회 평균 (채팅방 목록 1회 = 전체 방 조회 1회)
+    private <T> T measure(String name, Supplier<T> query) {
+        T result = query.get();
+        long started = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            result = query.get();
+        }
+        log.info("{} - rooms={}, messages/room={}, iterations={}, avg={}ms",
+                name, rooms, messages, iterations, millis((System.nanoTime() - started) / iterations));
+        return result;
+    }
+
+    // 방마다 구매자/판매자가 번갈아 보낸 messages 건, 앞쪽 절반은 읽음
+    private void seedMessages() {
+        LocalDateTime base = LocalDateTime.now().minusDays(1);
+        for (String roomId : roomIds) {
+            List<ChatMessage> chunk = new ArrayList<>(1000);
+            for (int i = 0; i < messages; i++) {
+                chunk.add(new ChatMessage(new ObjectId().toHexString(), roomId, i % 2 == 0 ? BUYER : SELLER,
+                        "loadtest message " + i, "CHAT", i < messages / 2, base.plusSeconds(i)));
+                if (chunk.size() == 1000) {
+                    mongoTemplate.insertAll(chunk);
+                    chunk = new ArrayList<>(1000);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                mongoTemplate.insertAll(chunk);
+            }
+        }
+    }
+
+    private void cleanUp() {
+        mongoTemplate.remove(Query.query(Criteria.where("roomId").in(roomIds)), ChatMessage.class);
+        List<String> keys = new ArrayList<>();
+        for (String roomId : roomIds) {
+            keys.add("chat:unread:" + roomId);
+            keys.add("chat:read:" + roomId);
+        }
+        redisTemplate.delete(keys);
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,164 @@
+package com.shop.respawn.service;
+
+import com.shop.respawn.domain.CouponDrop;
+import com.shop.respawn.dto.coupon.CouponDropClaimResponse;
+import com.shop.respawn.dto.coupon.CouponDropRequest;
+import com.shop.respawn.dto.coupon.CouponDropStatusDto;
+import com.shop.respawn.repository.jdbc.CouponJdbcRepository;
+import com.shop.respawn.repository.jpa.CouponDropRepository;
+import com.shop.respawn.repository.jpa.CouponRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * 선착순 쿠폰 응모 부하 생성기 (실제 Redis 대상, 기본 test 실행에서는 건너뜀)
+ * - buyers 명이 threads 개 스레드로 동시에 응모하는 동안 적재 스케줄러(flushPending)를 함께 실행
+ * - 응모 처리량(claims/s)을 집계하고, 당첨 수 = 적재 쿠폰 수 = quantity (초과 발급/중복 적재 없음) 확인
+ * - DB 적재는 mock 으로 대체해 Redis 응모 경로만 측정 (다른 이벤트가 없는 전용 Redis 사용 권장)
+ *
+ * ./gradlew test --tests '*CouponDropLoadTest' -Dloadtest.redis.host=localhost -Dloadtest.redis.port=6379 \
+ *     -Dloadtest.coupon-drop.quantity=100000 -Dloadtest.coupon-drop.buyers=150000 -Dloadtest.coupon-drop.threads=64
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "loadtest.redis.host", matches = ".+")
+class CouponDropLoadTest {
+
+    private final String host = System.getProperty("loadtest.redis.host");
+    private final int port = Integer.getInteger("loadtest.redis.port", 6379);
+    private final int quantity = Integer.getInteger("loadtest.coupon-drop.quantity", 100_000);
+    private final int buyers = Integer.getInteger("loadtest.coupon-drop.buyers", 150_000);
+    private final int threads = Integer.getInteger("loadtest.coupon-drop.threads", 64);
+    private final long minRate = Long.getLong("loadtest.coupon-drop.min-rate", 20_000L);
+
+    private final CouponDropRepository couponDropRepository = mock(CouponDropRepository.class);
+    private final CouponRepository couponRepository = mock(CouponRepository.class);
+    private final CouponJdbcRepository couponJdbcRepository = mock(CouponJdbcRepository.class);
+    private final ConcurrentLinkedQueue<CouponJdbcRepository.Row> inserted = new ConcurrentLinkedQueue<>();
+    private final long dropId = System.currentTimeMillis();
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private CouponDropService couponDropService;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+
+        // 이벤트 저장 시 id 부여, 적재는 메모리에 기록 (id 는 블록 단위로 예약)
+        when(couponDropRepository.save(any(CouponDrop.class))).thenAnswer(inv -> {
+            CouponDrop drop = inv.getArgument(0);
+            ReflectionTestUtils.setField(drop, "id", dropId);
+            return drop;
+        });
+        AtomicLong sequence = new AtomicLong(1);
+        when(couponJdbcRepository.reserveIds(anyInt())).thenAnswer(inv -> sequence.getAndAdd(inv.<Integer>getArgument(0)));
+        doAnswer(inv -> inserted.addAll(inv.getArgument(0))).when(couponJdbcRepository).insertAll(anyList());
+        when(couponRepository.countByDropId(anyLong())).thenAnswer(inv -> (long) inserted.size());
+
+        couponDropService = new CouponDropService(couponDropRepository, couponRepository, couponJdbcRepository,
+                redisTemplate, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(couponDropService, "flushBatchSize", 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        String prefix = "coupon:drop:{" + dropId + "}:";
+        redisTemplate.delete(List.of(prefix + "stock", prefix + "winners", prefix + "pending",
+                prefix + "inflight", prefix + "flush-lock"));
+        redisTemplate.opsForSet().remove("coupon:drop:active", String.valueOf(dropId));
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void claimThroughputWithoutOverIssuance() throws Exception {
+        CouponDropRequest request = new CouponDropRequest();
+        request.setName("부하 테스트 선착순 쿠폰");
+        request.setCouponAmount(1000L);
+        request.setQuantity(quantity);
+        couponDropService.open(request);
+
+        // 응모와 동시에 적재 스케줄러 실행
+        ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor();
+        flusher.scheduleWithFixedDelay(couponDropService::flushPending, 100, 100, TimeUnit.MILLISECONDS);
+
+        Map<String, AtomicLong> results = new ConcurrentHashMap<>();
+        AtomicLong nextBuyer = new AtomicLong(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        long started = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(pool.submit(() -> {
+                for (long buyerId = nextBuyer.getAndIncrement(); buyerId <= buyers; buyerId = nextBuyer.getAndIncrement()) {
+                    CouponDropClaimResponse response = couponDropService.claim(buyerId, dropId);
+                    results.computeIfAbsent(response.result(), k -> new AtomicLong()).incrementAndGet();
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - started;
+        pool.shutdown();
+
+        // 이미 당첨된 구매자의 재응모는 당첨되지 않아야 함
+        assertThat(couponDropService.claim(1L, dropId).result()).isIn("ALREADY_CLAIMED", "SOLD_OUT");
+
+        flusher.shutdown();
+        assertThat(flusher.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        CouponDropStatusDto status = drainPending();
+
+        long rate = buyers * 1_000_000_000L / elapsed;
+        log.info("선착순 응모 결과 - buyers={}, quantity={}, threads={}, elapsed={}ms, claims/s={}, results={}",
+                buyers, quantity, threads, elapsed / 1_000_000, rate, results);
+
+        long won = results.getOrDefault("WON", new AtomicLong()).get();
+        assertThat(won).isEqualTo(Math.min(quantity, buyers));
+        assertThat(status.remaining()).isEqualTo(quantity - won);
+        assertThat(status.claimed()).isEqualTo(won);
+        assertThat(status.pending()).isZero();
+        assertThat(inserted).hasSize((int) won);
+        assertThat(inserted.stream().map(CouponJdbcRepository.Row::buyerId).distinct().count()).isEqualTo(won);
+        assertThat(inserted.stream().map(CouponJdbcRepository.Row::id).distinct().count()).isEqualTo(won);
+        assertThat(rate).isGreaterThanOrEqualTo(minRate);
+    }
+
+    // 남은 대기/적재 중 당첨자를 모두 적재
+    private CouponDropStatusDto drainPending() {
+        CouponDropStatusDto status = couponDropService.getStatus(dropId);
+        for (int i = 0; i < 100 && status.pending() > 0; i++) {
+            couponDropService.flushPending();
+            status = couponDropService.getStatus(dropId);
+        }
+        return status;
+    }
+}
@@ -0,0 +1,143 @@
+package com.shop.respawn.service;
+
+import com.shop.respawn.config.JpaConfig;
+import com.shop.respawn.domain.Buyer;
+import com.shop.respawn.domain.Coupon;
+import com.shop.respawn.dto.coupon.CouponCountDto;
+import com.shop.respawn.dto.coupon.CouponEligibilityDto;
+import com.shop.respawn.repository.jpa.BaseRepositoryImpl;
+import com.shop.respawn.repository.jpa.CouponRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 쿠폰 목록 적용 가능 여부 판정 벤치마크 (기본 test 실행에서는 건너뜀)
+ * - coupons 장의 쿠폰(사용/만료/금액 미달 혼합)을 가진 구매자 1명 기준
+ * - 기존 방식(엔티티 전체 로딩 후 Java 판정)과 DB 판정(findEligibilityByBuyerId / countStatusByBuyerId)의
+ *   평균 소요 시간과 엔티티 로딩 수를 비교하고, 두 방식의 판정 결과가 같은지 확인
+ *
+ * ./gradlew test --tests '*CouponEligibilityBenchmarkTest' -Dloadtest.coupon.coupons=2000 -Dloadtest.coupon.iterations=200
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "loadtest.coupon.coupons", matches = "\\d+")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({JpaConfig.class, BaseRepositoryImpl.class})
+class CouponEligibilityBenchmarkTest {
+
+    private static final long ORDER_AMOUNT = 30_000L;
+
+    private final int coupons = Integer.getInteger("loadtest.coupon.coupons", 1000);
+    private final int iterations = Integer.getInteger("loadtest.coupon.iterations", 100);
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    private Statistics statistics;
+    private Long buyerId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        buyerId = persistCoupons();
+    }
+
+    @Test
+    void eligibilityInDatabaseMatchesJavaCheck() {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Integer> expected = measure("엔티티 로딩 + Java 판정", () -> couponRepository.findAllByBuyerId(buyerId).stream()
+                .map(coupon -> javaStatus(coupon, now))
+                .toList());
+        long javaEntityLoads = statistics.getEntityLoadCount();
+
+        List<Integer> actual = measure("DB 판정 (findEligibilityByBuyerId)", () ->
+                couponRepository.findEligibilityByBuyerId(buyerId, ORDER_AMOUNT, now).stream()
+                        .map(CouponEligibilityDto::status)
+                        .toList());
+        assertThat(statistics.getEntityLoadCount()).as("DTO 프로젝션은 엔티티를 로딩하지 않음").isZero();
+
+        CouponCountDto count = measure("DB 집계 (countStatusByBuyerId)", () ->
+                couponRepository.countStatusByBuyerId(buyerId, now));
+
+        assertThat(javaEntityLoads).isGreaterThanOrEqualTo(coupons);
+        assertThat(actual).containsExactlyElementsOf(expected);
+        assertThat(count.getAvailableCount() + count.getUnavailableCount()).isEqualTo(coupons);
+    }
+
+    // 워밍업 1회 후 iterations 회 평균, 측정 구간의 통계만 남기도록 매 회 영속성 컨텍스트 비움
+    private <T> T measure(String name, Supplier<T> query) {
+        T result = query.get();
+        em.clear();
+        statistics.clear();
+        long started = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            result = query.get();
+            em.clear();
+        }
+        long elapsed = System.nanoTime() - started;
+        log.info("{} - coupons={}, iterations={}, avg={}ms, statements={}, entityLoads={}",
+                name, coupons, iterations, String.format("%.3f", elapsed / 1_000_000.0 / iterations),
+                statistics.getPrepareStatementCount(), statistics.getEntityLoadCount());
+        return result;
+    }
+
+    // 기존 CouponService 의 Java 판정 순서: 사용됨 → 만료 → 금액 미달 → 적용 가능
+    private static int javaStatus(Coupon coupon, LocalDateTime now) {
+        if (coupon.isUsed()) {
+            return CouponEligibilityDto.USED;
+        }
+        if (coupon.getExpiresAt() == null || !coupon.getExpiresAt().isAfter(now)) {
+            return CouponEligibilityDto.EXPIRED;
+        }
+        if (coupon.getCouponAmount() >= ORDER_AMOUNT) {
+            return CouponEligibilityDto.AMOUNT_TOO_LOW;
+        }
+        return CouponEligibilityDto.USABLE;
+    }
+
+    private Long persistCoupons() {
+        Buyer buyer = Buyer.builder().name("벤치마크").username("benchmark-buyer").build();
+        em.persist(buyer);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < coupons; i++) {
+            // 사용 1/4, 만료 1/4, 나머지는 금액에 따라 적용 가능/금액 미달
+            em.persist(Coupon.builder()
+                    .buyer(buyer)
+                    .code(UUID.randomUUID().toString())
+                    .name("벤치마크 쿠폰 " + i)
+                    .couponAmount(i % 2 == 0 ? 5_000L : 50_000L)
+                    .expiresAt(i % 4 == 1 ? now.minusDays(1) : now.plusDays(30))
+                    .used(i % 4 == 0)
+                    .build());
+            if (i % 500 == 499) {
+                em.flush();
+                em.clear();
+            }
+        }
+        em.flush();
+        em.clear();
+        return buyer.getId();
+    }
+}
@@ -0,0 +1,124 @@
+package com.shop.respawn.service;
+
+import com.shop.respawn.config.JpaConfig;
+import com.shop.respawn.domain.Order;
+import com.shop.respawn.domain.OrderItem;
+import com.shop.respawn.domain.OrderStatus;
+import com.shop.respawn.repository.jpa.BaseRepositoryImpl;
+import com.shop.respawn.repository.jpa.BuyerRepository;
+import com.shop.respawn.repository.jpa.OrderItemRepository;
+import com.shop.respawn.repository.jpa.SellerRepository;
+import com.shop.respawn.repository.mongo.ItemRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * EntityBatchLoader 의 주문 아이템 일괄 조회가 N+1 없이 쿼리 1회로 끝나는지 Hibernate Statistics 로 확인
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({JpaConfig.class, BaseRepositoryImpl.class})
+class EntityBatchLoaderTest {
+
+    private static final int ORDER_COUNT = 10;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private BuyerRepository buyerRepository;
+
+    @Autowired
+    private SellerRepository sellerRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    private EntityBatchLoader loader;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        loader = new EntityBatchLoader(buyerRepository, sellerRepository, orderItemRepository,
+                mock(ItemRepository.class), mock(BuyerDisplayNameCache.class));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void loadsOrderItemsWithOrdersInOneQueryAndReusesThemWithinRequest() {
+        List<Long> orderItemIds = persistOrders();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        statistics.clear();
+
+        Map<Long, OrderItem> loaded = loader.orderItems(orderItemIds);
+        // DTO 조립처럼 주문일시까지 접근해도 추가 쿼리가 없어야 함 (fetch join)
+        loaded.values().forEach(orderItem -> assertThat(orderItem.getOrder().getOrderDate()).isNotNull());
+
+        assertThat(loaded).hasSize(ORDER_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        // 같은 요청 안의 재조회(일부 키 + 없는 키)는 캐시/기억된 키로 응답
+        loader.orderItems(orderItemIds.subList(0, 3));
+        loader.orderItems(List.of(-1L));
+        loader.orderItems(List.of(-1L));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void worksOutsideRequestScopeWithoutMemoization() {
+        List<Long> orderItemIds = persistOrders();
+        statistics.clear();
+
+        // @Async / @Scheduled 스레드처럼 요청 속성이 없어도 예외 없이 일괄 조회
+        assertThat(loader.orderItems(orderItemIds)).hasSize(ORDER_COUNT);
+        assertThat(loader.orderItems(orderItemIds)).hasSize(ORDER_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private List<Long> persistOrders() {
+        List<OrderItem> orderItems = new ArrayList<>();
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Order order = new Order();
+            order.setOrderDate(LocalDateTime.now().minusDays(i));
+            order.setStatus(OrderStatus.PAID);
+
+            OrderItem orderItem = new OrderItem();
+            orderItem.setItemId("item-" + i);
+            orderItem.setOrderPrice(1_000L);
+            orderItem.setCount(1L);
+            order.addOrderItem(orderItem);
+
+            em.persist(order);
+            orderItems.add(orderItem);
+        }
+        em.flush();
+        em.clear();
+        return orderItems.stream().map(OrderItem::getId).toList();
+    }
+}